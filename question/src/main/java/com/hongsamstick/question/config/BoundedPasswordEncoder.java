@@ -0,0 +1,187 @@
+package com.hongsamstick.question.config;
+
+import com.hongsamstick.question.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 크기가 제한된 전용 스레드에서 실행하는 PasswordEncoder
+ *  - BCrypt 해시/비교는 threads개의 전용 스레드에서만 실행하므로, 로그인이 몰려도
+ *    나머지 코어는 다른 페이지 요청을 처리할 수 있습니다.
+ *  - 대기열(queue-capacity)이 가득 차거나 timeout-ms 안에 끝나지 않으면 바로 PasswordHashingBusyException으로 거절합니다.
+ *  - 요청 스레드는 결과를 기다리는 동안 CPU를 사용하지 않습니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private static final String ENCODE = "encode";
+  private static final String MATCHES = "matches";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMs;
+
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer waitTimer;
+  private final Counter encodeRejections;
+  private final Counter matchesRejections;
+
+  /**
+   * @param threads 해시 스레드 수 (0 이하이면 코어 수의 절반)
+   * @param queueCapacity 실행을 기다릴 수 있는 요청 수
+   * @param timeoutMs 요청 스레드가 결과를 기다리는 최대 시간 (대기 시간 포함)
+   */
+  public BoundedPasswordEncoder(
+    PasswordEncoder delegate,
+    int threads,
+    int queueCapacity,
+    long timeoutMs,
+    MeterRegistry meterRegistry
+  ) {
+    int poolSize = threads > 0
+      ? threads
+      : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.delegate = delegate;
+    this.timeoutMs = timeoutMs;
+    this.executor =
+      new ThreadPoolExecutor(
+        poolSize,
+        poolSize,
+        0,
+        TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(
+            runnable,
+            "password-hasher-" + threadNumber.incrementAndGet()
+          );
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy()
+      );
+
+    this.encodeTimer = timer(meterRegistry, ENCODE);
+    this.matchesTimer = timer(meterRegistry, MATCHES);
+    this.waitTimer =
+      Timer
+        .builder("password.hash.wait")
+        .description("비밀번호 해시 대기열에서 기다린 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.encodeRejections = rejections(meterRegistry, ENCODE);
+    this.matchesRejections = rejections(meterRegistry, MATCHES);
+    Gauge
+      .builder("password.hash.queue", executor, e -> e.getQueue().size())
+      .description("실행을 기다리는 비밀번호 해시 요청 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+      .description("실행 중인 비밀번호 해시 요청 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("password.hash.threads", () -> poolSize)
+      .register(meterRegistry);
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, String operation) {
+    return Timer
+      .builder("password.hash")
+      .description("비밀번호 해시/비교 실행 시간 (대기 시간 제외)")
+      .tag("operation", operation)
+      .publishPercentileHistogram()
+      .publishPercentiles(0.5, 0.99)
+      .register(meterRegistry);
+  }
+
+  private static Counter rejections(
+    MeterRegistry meterRegistry,
+    String operation
+  ) {
+    return Counter
+      .builder("password.hash.rejected")
+      .description("해시 스레드가 모두 사용 중이어서 거절한 요청 수")
+      .tag("operation", operation)
+      .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return execute(
+      () -> delegate.encode(rawPassword),
+      encodeTimer,
+      encodeRejections
+    );
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return execute(
+      () -> delegate.matches(rawPassword, encodedPassword),
+      matchesTimer,
+      matchesRejections
+    );
+  }
+
+  // 해시 강도 변경 여부는 저장된 문자열만 확인하므로 호출한 스레드에서 실행
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T execute(Callable<T> task, Timer timer, Counter rejections) {
+    long submittedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future =
+        executor.submit(() -> {
+          long startedAt = System.nanoTime();
+          waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+          try {
+            return task.call();
+          } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+          }
+        });
+    } catch (RejectedExecutionException e) {
+      rejections.increment();
+      throw new PasswordHashingBusyException();
+    }
+
+    try {
+      return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(false); // 아직 대기 중이면 실행하지 않음
+      rejections.increment();
+      throw new PasswordHashingBusyException();
+    } catch (InterruptedException e) {
+      future.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new PasswordHashingBusyException();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  // 빈 종료 시 호출 (실행 중인 해시는 끝까지 실행)
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,75 @@
+package com.hongsamstick.question.config;
+
+import com.hongsamstick.question.service.RateLimitStore;
+import com.hongsamstick.question.util.TokenBucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+  private static final Duration MINUTE = Duration.ofMinutes(1);
+
+  // 엔드포인트별 요청 수 제한 (capacity : 한 번에 허용하는 요청 수, per-minute : 분당 보충되는 요청 수)
+  @Bean
+  public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+    RateLimitStore rateLimitStore,
+    MeterRegistry meterRegistry,
+    @Value("${rate-limit.question.capacity:5}") int questionCapacity,
+    @Value("${rate-limit.question.per-minute:20}") int questionPerMinute,
+    @Value("${rate-limit.upvote.capacity:30}") int upvoteCapacity,
+    @Value("${rate-limit.upvote.per-minute:120}") int upvotePerMinute,
+    @Value("${rate-limit.signup-mail.capacity:3}") int mailCapacity,
+    @Value("${rate-limit.signup-mail.per-minute:1}") int mailPerMinute,
+    @Value("${rate-limit.signup-check.capacity:10}") int checkCapacity,
+    @Value("${rate-limit.signup-check.per-minute:30}") int checkPerMinute
+  ) {
+    List<RateLimitPolicy> policies = List.of(
+      // 질문 등록 (익명 등록이 가능한 게시판 포함)
+      new RateLimitPolicy(
+        "question",
+        "POST",
+        "/post/{code}/questions",
+        RateLimitPolicy.Key.VISITOR,
+        TokenBucket.of(questionCapacity, questionPerMinute, MINUTE)
+      ),
+      new RateLimitPolicy(
+        "upvote",
+        "POST",
+        "/post/{code}/questions/{questionId}/upvote",
+        RateLimitPolicy.Key.VISITOR,
+        TokenBucket.of(upvoteCapacity, upvotePerMinute, MINUTE)
+      ),
+      // 인증 메일 발송 (메일 서버 보호)
+      new RateLimitPolicy(
+        "signup-mail",
+        "POST",
+        "/signup/{action:send-email-verification-code|resend-verification-code}",
+        RateLimitPolicy.Key.CLIENT_IP,
+        TokenBucket.of(mailCapacity, mailPerMinute, MINUTE)
+      ),
+      // 이름 중복 확인, 인증 코드 확인 (무작위 대입 방지)
+      new RateLimitPolicy(
+        "signup-check",
+        "POST",
+        "/signup/{action:check-name|check-verification-code}",
+        RateLimitPolicy.Key.CLIENT_IP,
+        TokenBucket.of(checkCapacity, checkPerMinute, MINUTE)
+      )
+    );
+
+    FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+      new RateLimitFilter(policies, rateLimitStore, meterRegistry)
+    );
+    registration.addUrlPatterns("/post/*", "/signup/*");
+    // 회원 이메일로 구분할 수 있도록 Spring Security 필터 다음에 실행
+    registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+    return registration;
+  }
+}
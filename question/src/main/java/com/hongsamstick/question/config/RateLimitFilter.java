@@ -0,0 +1,124 @@
+package com.hongsamstick.question.config;
+
+import com.hongsamstick.question.service.RateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 수 제한 필터
+ *  - 요청과 일치하는 첫 번째 정책의 버킷에서 토큰을 사용하고, 토큰이 없으면 컨트롤러를 호출하지 않고 429로 응답합니다.
+ *  - 거절 응답은 미리 만들어 둔 본문을 쓰기만 하므로 DB나 외부 호출이 없습니다.
+ *  - 회원 이메일로 구분하기 위해 Spring Security 필터 다음에 실행됩니다.
+ *    로그인하지 않은 요청은 세션과 관계없이 클라이언트 IP로 구분합니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final byte[] REJECTED_BODY =
+    "{\"error\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}".getBytes(
+        StandardCharsets.UTF_8
+      );
+
+  private final List<RateLimitPolicy> policies;
+  private final RateLimitStore rateLimitStore;
+  private final Counter[] rejectedRequests;
+
+  public RateLimitFilter(
+    List<RateLimitPolicy> policies,
+    RateLimitStore rateLimitStore,
+    MeterRegistry meterRegistry
+  ) {
+    this.policies = policies;
+    this.rateLimitStore = rateLimitStore;
+    this.rejectedRequests = new Counter[policies.size()];
+    for (int i = 0; i < policies.size(); i++) {
+      rejectedRequests[i] =
+        Counter
+          .builder("rate-limit.rejected")
+          .description("요청 수 제한으로 거절한 요청 수")
+          .tag("policy", policies.get(i).getName())
+          .register(meterRegistry);
+    }
+  }
+
+  // 정책이 있는 method가 아니면 경로도 확인하지 않음
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    for (RateLimitPolicy policy : policies) {
+      if (policy.getMethod().equals(request.getMethod())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI());
+    for (int i = 0; i < policies.size(); i++) {
+      RateLimitPolicy policy = policies.get(i);
+      if (!policy.matches(request, path)) {
+        continue;
+      }
+      long waitNanos = rateLimitStore.tryAcquire(
+        policy.getName() + ":" + key(policy.getKey(), request),
+        policy.getBucket()
+      );
+      if (waitNanos > 0) {
+        rejectedRequests[i].increment();
+        reject(response, waitNanos);
+        return;
+      }
+      break;
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private String key(RateLimitPolicy.Key key, HttpServletRequest request) {
+    if (key == RateLimitPolicy.Key.VISITOR) {
+      Authentication authentication = SecurityContextHolder
+        .getContext()
+        .getAuthentication();
+      if (
+        authentication != null &&
+        authentication.getPrincipal() instanceof PrincipalDetails principal
+      ) {
+        return "member:" + principal.getUsername();
+      }
+    }
+    // 익명 방문자는 세션을 새로 만들면 새 버킷을 받을 수 있으므로 세션이 아닌 IP로 구분
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  private void reject(HttpServletResponse response, long waitNanos)
+    throws IOException {
+    long retryAfterSeconds = Math.max(
+      1,
+      (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)
+    );
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setContentLength(REJECTED_BODY.length);
+    response.getOutputStream().write(REJECTED_BODY);
+  }
+}
@@ -0,0 +1,62 @@
+package com.hongsamstick.question.config;
+
+import com.hongsamstick.question.util.TokenBucket;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 엔드포인트별 요청 수 제한 정책
+ *  - method와 경로 패턴이 일치하는 요청을 key 기준으로 묶어 같은 버킷에서 토큰을 사용합니다.
+ */
+public class RateLimitPolicy {
+
+  /**
+   * 요청을 묶는 기준
+   */
+  public enum Key {
+    CLIENT_IP, // 클라이언트 IP
+    VISITOR, // 회원 이메일, 로그인하지 않았으면 클라이언트 IP
+  }
+
+  private final String name;
+  private final String method;
+  private final PathPattern pattern;
+  private final Key key;
+  private final TokenBucket bucket;
+
+  public RateLimitPolicy(
+    String name,
+    String method,
+    String pattern,
+    Key key,
+    TokenBucket bucket
+  ) {
+    this.name = name;
+    this.method = method;
+    this.pattern = PathPatternParser.defaultInstance.parse(pattern);
+    this.key = key;
+    this.bucket = bucket;
+  }
+
+  public boolean matches(HttpServletRequest request, PathContainer path) {
+    return method.equals(request.getMethod()) && pattern.matches(path);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public Key getKey() {
+    return key;
+  }
+
+  public TokenBucket getBucket() {
+    return bucket;
+  }
+}
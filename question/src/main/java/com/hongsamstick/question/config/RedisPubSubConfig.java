@@ -0,0 +1,20 @@
+package com.hongsamstick.question.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+  // 노드 간 변경 알림(pub/sub) 구독 컨테이너
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+    RedisConnectionFactory redisConnectionFactory
+  ) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    return container;
+  }
+}
@@ -1,12 +1,15 @@
 package com.hongsamstick.question.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 
@@ -20,9 +23,28 @@ public class SecurityConfig {
   @Autowired
   private PrincipalDetailsService principalDetailService;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Value("${password.hash.threads:0}")
+  private int passwordHashThreads;
+
+  @Value("${password.hash.queue-capacity:64}")
+  private int passwordHashQueueCapacity;
+
+  @Value("${password.hash.timeout-ms:3000}")
+  private long passwordHashTimeoutMs;
+
+  // 로그인(폼 로그인)과 회원 서비스의 BCrypt 해시/비교를 전용 스레드에서 실행
   @Bean
-  public BCryptPasswordEncoder bCryptPasswordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder bCryptPasswordEncoder() {
+    return new BoundedPasswordEncoder(
+      new BCryptPasswordEncoder(),
+      passwordHashThreads,
+      passwordHashQueueCapacity,
+      passwordHashTimeoutMs,
+      meterRegistry
+    );
   }
 
   public void configure(AuthenticationManagerBuilder auth) throws Exception {
@@ -0,0 +1,76 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.config.PrincipalDetails;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 조건부 GET (ETag / Last-Modified)
+ *  - 화면을 결정하는 값들로 강한 ETag를 만들고, 요청의 If-None-Match 또는
+ *    If-Modified-Since와 일치하면 뷰를 렌더링하지 않고 304로 응답합니다.
+ *  - 캐시는 저장하되 매번 재검증하도록 no-cache로 응답합니다.
+ */
+final class ConditionalGet {
+
+  private static final String ANONYMOUS = "anonymous";
+
+  private ConditionalGet() {}
+
+  // 화면을 결정하는 값들의 해시로 ETag 생성
+  static String etag(Object... parts) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    for (Object part : parts) {
+      digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+      digest.update((byte) 0);
+    }
+    return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+  }
+
+  // 로그인 여부에 따라 네비게이션이 달라지므로 사용자별로 구분
+  // perSession이면 CSRF 토큰이 포함된 폼이 있으므로 세션까지 구분
+  // (익명 사용자도 세션마다 토큰이 다르므로, 만료된 세션의 토큰이 담긴 화면을 재사용하면 403)
+  static String viewer(
+    PrincipalDetails principalDetails,
+    WebRequest request,
+    boolean perSession
+  ) {
+    String username = principalDetails == null
+      ? ANONYMOUS
+      : principalDetails.getUsername();
+    return perSession ? username + ":" + request.getSessionId() : username;
+  }
+
+  // 변경되지 않았으면 304 상태와 헤더를 설정하고 true 반환
+  // personalized이면 사용자/세션별 화면이므로 공유 캐시에 저장하지 않음
+  static boolean checkNotModified(
+    WebRequest request,
+    HttpServletResponse response,
+    String etag,
+    LocalDateTime lastModified,
+    boolean personalized
+  ) {
+    CacheControl cacheControl = personalized
+      ? CacheControl.noCache().cachePrivate()
+      : CacheControl.noCache();
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+    response.addHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+
+    long lastModifiedMillis = lastModified == null
+      ? -1
+      : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    return request.checkNotModified(etag, lastModifiedMillis);
+  }
+}
@@ -1,50 +1,215 @@
 package com.hongsamstick.question.controller;
 
-import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.config.PrincipalDetails;
+import com.hongsamstick.question.dto.PostCursorPage;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import com.hongsamstick.question.service.PostCardsCache;
+import com.hongsamstick.question.service.PostChangeSequence;
 import com.hongsamstick.question.service.PostService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
 @Controller
 public class IndexController {
 
+  private static final Set<String> SORTS = Set.of(
+    "latest",
+    "oldest",
+    "views",
+    "hot"
+  );
+
   private final PostService postService;
+  private final PostChangeSequence postChangeSequence;
+  private final PostCardsCache postCardsCache;
+  private final ITemplateEngine templateEngine;
+  private final long rankedEtagMillis;
 
-  public IndexController(PostService postService) {
+  public IndexController(
+    PostService postService,
+    PostChangeSequence postChangeSequence,
+    PostCardsCache postCardsCache,
+    ITemplateEngine templateEngine,
+    @Value("${post.index.ranked-etag-seconds:30}") long rankedEtagSeconds
+  ) {
     this.postService = postService;
+    this.postChangeSequence = postChangeSequence;
+    this.postCardsCache = postCardsCache;
+    this.templateEngine = templateEngine;
+    this.rankedEtagMillis = rankedEtagSeconds * 1000;
   }
 
   /**
    * 게시판 목록 페이지
    * GET /post
    *
+   * page가 있으면 기존 OFFSET 페이지네이션, 없으면 커서(keyset) 페이지네이션
+   *
    * @param model
-   * @param page 페이지 번호 (default: 0)
    * @param sort 정렬 기준 (default: latest)
-   * @return  index.html
+   * @param page 페이지 번호 (OFFSET 페이지네이션)
+   * @param cursor 이전/다음 페이지 커서 (keyset 페이지네이션)
+   * @return  index.html (변경이 없으면 304)
    */
   @GetMapping("/")
   public String listPosts(
     Model model,
     @RequestParam(required = false, defaultValue = "latest") String sort, // 정렬 기준
-    @RequestParam(defaultValue = "0") int page // 페이지 번호
+    @RequestParam(required = false) Integer page, // 페이지 번호
+    @RequestParam(required = false) String cursor, // 커서
+    @AuthenticationPrincipal PrincipalDetails principalDetails,
+    WebRequest webRequest,
+    HttpServletRequest request,
+    HttpServletResponse response
   ) {
     int size = 6; // 한 페이지에 보여줄 게시글 수
 
-    Pageable pageable = getPageable(sort, page, size);
+    // 목록이 바뀌지 않았으면 조회와 렌더링 없이 304
+    // 마감 시각이 지난 게시글은 PostCloseScheduler가 마감 처리하며 변경 번호를 올림
+    // 조회수 반영은 변경 번호를 올리지 않으므로, 조회수순/인기순은 ranked-etag-seconds마다 ETag 갱신
+    // 로그인한 사용자의 네비게이션에는 CSRF 토큰이 담긴 로그아웃 폼이 있으므로 세션별로 구분
+    // (익명 사용자의 화면에는 폼이 없으므로 세션을 만들지 않고 공유)
+    if (!model.containsAttribute("error")) {
+      boolean authenticated = webRequest.getUserPrincipal() != null;
+      long rankingWindow = "views".equals(sort) || "hot".equals(sort)
+        ? System.currentTimeMillis() / rankedEtagMillis
+        : 0;
+      String etag = ConditionalGet.etag(
+        "index",
+        postChangeSequence.current(),
+        rankingWindow,
+        sort,
+        page,
+        cursor,
+        ConditionalGet.viewer(principalDetails, webRequest, authenticated)
+      );
+      if (
+        ConditionalGet.checkNotModified(
+          webRequest,
+          response,
+          etag,
+          null,
+          authenticated
+        )
+      ) {
+        return null;
+      }
+    }
 
-    Page<Post> posts = postService.getPosts(0, pageable); // 게시판 목록
-    model.addAttribute("posts", posts);
+    // 게시글 카드 목록은 사용자와 무관하므로 앞쪽 페이지의 렌더링 결과를 캐시
+    // 인기순은 점수가 계속 바뀌어 커서가 안정적이지 않으므로 OFFSET 페이지네이션만 사용
+    String normalizedSort = normalizeSort(sort);
+    boolean hot = "hot".equals(normalizedSort);
+    Integer pageNumber = hot && page == null ? Integer.valueOf(0) : page;
+    String pageCursor = hot ? null : cursor;
+    Supplier<PostCardsCache.Fragment> renderer = () ->
+      renderPostCards(
+        normalizedSort,
+        pageNumber,
+        pageCursor,
+        size,
+        request,
+        response
+      );
+    String postCards = postCardsCache.isCacheable(pageNumber, pageCursor)
+      ? postCardsCache.get(normalizedSort, pageNumber, renderer)
+      : renderer.get().getHtml();
+
+    model.addAttribute("postCards", postCards);
+    model.addAttribute("trendingPosts", postService.getTrendingPosts());
     model.addAttribute("sort", sort);
     return "index"; // 뷰의 이름
   }
 
+  // 게시글을 조회하여 fragments/post-cards 렌더링
+  private PostCardsCache.Fragment renderPostCards(
+    String sort,
+    Integer page,
+    String cursor,
+    int size,
+    HttpServletRequest request,
+    HttpServletResponse response
+  ) {
+    Map<String, Object> variables = new HashMap<>();
+    List<PostSummaryDto> content;
+    if (page != null) {
+      Pageable pageable = getPageable(sort, page, size);
+      Page<PostSummaryDto> posts = postService.getPosts(0, pageable); // 게시판 목록
+      variables.put("posts", posts);
+      content = posts.getContent();
+    } else {
+      PostCursorPage<PostSummaryDto> cursorPage = postService.getPostsByCursor(
+        0,
+        sort,
+        cursor,
+        size
+      );
+      variables.put("posts", cursorPage.getContent());
+      variables.put("cursorPage", cursorPage);
+      content = cursorPage.getContent();
+    }
+    variables.put("sort", sort);
+
+    // 캐시된 HTML이 다른 사용자에게도 전달되므로 URL에 세션 ID를 붙이지 않음
+    HttpServletResponse urlResponse = new HttpServletResponseWrapper(response) {
+      @Override
+      public String encodeURL(String url) {
+        return url;
+      }
+    };
+    IWebExchange exchange = JakartaServletWebApplication
+      .buildApplication(request.getServletContext())
+      .buildExchange(request, urlResponse);
+    WebContext context = new WebContext(
+      exchange,
+      LocaleContextHolder.getLocale(),
+      variables
+    );
+    String html = templateEngine.process(
+      "fragments/post-cards",
+      Set.of("cards"),
+      context
+    );
+
+    LocalDateTime closesAt = content
+      .stream()
+      .map(PostSummaryDto::getEndDate)
+      .filter(Objects::nonNull)
+      .min(Comparator.naturalOrder())
+      .orElse(null);
+    return new PostCardsCache.Fragment(html, closesAt);
+  }
+
+  // 알 수 없는 정렬 기준은 최신순으로 처리
+  private String normalizeSort(String sort) {
+    return SORTS.contains(sort) ? sort : "latest";
+  }
+
   // 페이지 정보를 반환
   // sort: 정렬 기준, page: 페이지 번호, size: 한 페이지에 보여줄 게시글 수
   private Pageable getPageable(String sort, int page, int size) {
@@ -53,7 +218,7 @@ public class IndexController {
   }
 
   // 정렬 기준에 따라 정렬 조건을 반환
-  // latest: 최신순, oldest: 오래된순, views: 조회수순
+  // latest: 최신순, oldest: 오래된순, views: 조회수순, hot: 인기순(시간 감쇠)
   private Sort getSortCondition(String sort) {
     switch (sort) {
       case "latest":
@@ -62,6 +227,8 @@ public class IndexController {
         return Sort.by(Sort.Direction.ASC, "startDate");
       case "views":
         return Sort.by(Sort.Direction.DESC, "viewcount");
+      case "hot":
+        return Sort.by(Sort.Direction.DESC, "hotScore");
       default:
         return Sort.by(Sort.Direction.DESC, "startDate");
     }
@@ -0,0 +1,37 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.service.OpenPostIndex;
+import java.util.Map;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 공개 게시글 인덱스 관리 (actuator)
+ * GET  /actuator/postindex : 인덱스 상태
+ * POST /actuator/postindex : DB에서 인덱스 다시 생성
+ *
+ * management.endpoints.web.exposure.include에 postindex를 추가해야 노출됩니다.
+ */
+@Component
+@Endpoint(id = "postindex")
+public class OpenPostIndexEndpoint {
+
+  private final OpenPostIndex openPostIndex;
+
+  public OpenPostIndexEndpoint(OpenPostIndex openPostIndex) {
+    this.openPostIndex = openPostIndex;
+  }
+
+  @ReadOperation
+  public Map<String, Object> status() {
+    return openPostIndex.status();
+  }
+
+  // 다른 노드가 생성 중이면 rebuilt: false
+  @WriteOperation
+  public Map<String, Object> rebuild() {
+    return Map.of("rebuilt", openPostIndex.rebuild());
+  }
+}
@@ -1,10 +1,13 @@
 package com.hongsamstick.question.controller;
 
 import com.hongsamstick.question.config.PrincipalDetails;
-import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostDetailDto;
 import com.hongsamstick.question.dto.PostDto;
 import com.hongsamstick.question.service.PostService;
+import com.hongsamstick.question.service.ViewCountService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -15,15 +18,21 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 @RequestMapping("/post")
 public class PostController {
 
   private final PostService postService;
+  private final ViewCountService viewCountService;
 
-  public PostController(PostService postService) {
+  public PostController(
+    PostService postService,
+    ViewCountService viewCountService
+  ) {
     this.postService = postService;
+    this.viewCountService = viewCountService;
   }
 
   /**
@@ -112,15 +121,45 @@ public class PostController {
    * @param code
    * @param model
    * @param principalDetails
-   * @return  post.html
+   * @return  post.html (변경이 없으면 304)
    */
   @GetMapping("/{code}")
   public String postDetail(
     @PathVariable UUID code,
     Model model,
-    @AuthenticationPrincipal PrincipalDetails principalDetails
+    @AuthenticationPrincipal PrincipalDetails principalDetails,
+    WebRequest webRequest,
+    HttpServletResponse response
   ) {
-    Post post = postService.getPostByCode(code);
+    PostDetailDto post = postService.getPostByCode(code);
+    viewCountService.increment(post.getPostId()); // 조회수는 메모리에 누적 후 일괄 반영
+    postService.recordView(post); // 실시간 인기 게시글 집계
+
+    // 화면에 표시할 값이 그대로면 렌더링 없이 304 (에러 메시지가 있으면 제외)
+    // 조회수는 ETag에 포함하지 않으므로 304 응답의 조회수는 이전 값일 수 있음
+    if (!model.containsAttribute("error")) {
+      String etag = ConditionalGet.etag(
+        "post",
+        post.getPostId(),
+        post.getUpdatedAt(),
+        ConditionalGet.viewer(principalDetails, webRequest, true)
+      );
+      LocalDateTime lastModified = post.getUpdatedAt() != null
+        ? post.getUpdatedAt()
+        : post.getStartDate();
+      if (
+        ConditionalGet.checkNotModified(
+          webRequest,
+          response,
+          etag,
+          lastModified,
+          true // 세션별 CSRF 토큰이 포함된 화면
+        )
+      ) {
+        return null;
+      }
+    }
+
     model.addAttribute("post", post);
     model.addAttribute("principalDetails", principalDetails);
 
@@ -137,7 +176,7 @@ public class PostController {
    */
   @GetMapping("/{code}/edit")
   public String editPostPage(@PathVariable UUID code, Model model) {
-    Post post = postService.getPostByCode(code);
+    PostDetailDto post = postService.getPostByCode(code);
     PostDto postDto = postService.convertPostToPostDto(post);
     model.addAttribute("postDto", postDto);
     model.addAttribute("code", code);
@@ -169,6 +208,9 @@ public class PostController {
       case "views":
         sortSpecification = Sort.by("viewcount").descending();
         break;
+      case "hot":
+        sortSpecification = Sort.by("hotScore").descending();
+        break;
       case "latest":
       default:
         sortSpecification = Sort.by("startDate").descending();
@@ -200,6 +242,7 @@ public class PostController {
   // POST /post/join-with-code
   @PostMapping("/join-with-code")
   public String joinWithCode(@RequestParam UUID code) {
+    postService.checkPostCode(code); // 확실히 없는 code는 바로 404
     return "redirect:/post/" + code.toString();
   }
 }
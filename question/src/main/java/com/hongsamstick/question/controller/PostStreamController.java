@@ -0,0 +1,64 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.service.PostService;
+import com.hongsamstick.question.service.PostStreamService;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class PostStreamController {
+
+  // 연결 수 제한에 걸렸을 때 다시 연결할 때까지의 시간 (초)
+  private static final String RETRY_AFTER_SECONDS = "5";
+
+  private final PostService postService;
+  private final PostStreamService postStreamService;
+
+  public PostStreamController(
+    PostService postService,
+    PostStreamService postStreamService
+  ) {
+    this.postService = postService;
+    this.postStreamService = postStreamService;
+  }
+
+  /**
+   * 게시판 실시간 이벤트 구독 (Server-Sent Events)
+   * GET /post/{code}/stream
+   *
+   * 이벤트 : question(새 질문), updated(게시판 수정), closed(마감), deleted(삭제)
+   *
+   * @param code
+   * @return 이벤트 스트림, 게시판이 없으면 404, 연결 수 제한에 걸리면 503
+   */
+  @GetMapping(
+    value = "/post/{code}/stream",
+    produces = MediaType.TEXT_EVENT_STREAM_VALUE
+  )
+  public ResponseEntity<SseEmitter> stream(@PathVariable UUID code) {
+    try {
+      postService.getPostByCode(code);
+    } catch (EntityNotFoundException ex) {
+      return ResponseEntity.notFound().build();
+    }
+    SseEmitter emitter = postStreamService.subscribe(code);
+    if (emitter == null) {
+      return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .build();
+    }
+    return ResponseEntity
+      .ok()
+      .header("X-Accel-Buffering", "no") // 프록시 버퍼링 끄기
+      .body(emitter);
+  }
+}
@@ -0,0 +1,43 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.dto.PostSuggestionDto;
+import com.hongsamstick.question.service.PostSuggestService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/search")
+public class PostSuggestRestController {
+
+  private static final int MAX_PREFIX_LENGTH = 50;
+
+  private final PostSuggestService postSuggestService;
+
+  public PostSuggestRestController(PostSuggestService postSuggestService) {
+    this.postSuggestService = postSuggestService;
+  }
+
+  /**
+   * 게시판 제목 자동 완성
+   * GET /search/suggest
+   *
+   * @param q 입력 중인 제목 앞부분
+   * @return 진행 중인 전체 공개 게시판 (조회수 순)
+   */
+  @GetMapping("/suggest")
+  public List<PostSuggestionDto> suggest(
+    @RequestParam(required = false, defaultValue = "") String q
+  ) {
+    String prefix = q.strip();
+    if (prefix.isEmpty()) {
+      return List.of();
+    }
+    if (prefix.length() > MAX_PREFIX_LENGTH) {
+      prefix = prefix.substring(0, MAX_PREFIX_LENGTH);
+    }
+    return postSuggestService.suggest(prefix);
+  }
+}
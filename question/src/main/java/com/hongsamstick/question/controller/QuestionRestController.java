@@ -0,0 +1,173 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.config.PrincipalDetails;
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.dto.QuestionCreateDto;
+import com.hongsamstick.question.dto.QuestionDto;
+import com.hongsamstick.question.exception.QuestionQueueFullException;
+import com.hongsamstick.question.service.QuestionService;
+import com.hongsamstick.question.service.QuestionVoteService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/post/{code}/questions")
+public class QuestionRestController {
+
+  // 큐가 가득 찼을 때 다시 시도할 때까지의 시간 (초)
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final QuestionService questionService;
+  private final QuestionVoteService questionVoteService;
+  private final VisitorCookie visitorCookie;
+
+  public QuestionRestController(
+    QuestionService questionService,
+    QuestionVoteService questionVoteService,
+    VisitorCookie visitorCookie
+  ) {
+    this.questionService = questionService;
+    this.questionVoteService = questionVoteService;
+    this.visitorCookie = visitorCookie;
+  }
+
+  /**
+   * 질문 등록
+   * POST /post/{code}/questions
+   *
+   * 저장 대기열에 넣은 뒤 바로 202로 응답하며, 질문은 잠시 후 목록에 나타납니다.
+   *
+   * @param code
+   * @param questionCreateDto 질문 내용
+   * @param principalDetails 로그인한 사용자 (익명이면 null)
+   * @return 202 (questionId), 400/403/404/409, 대기열이 가득 차면 503
+   */
+  @PostMapping
+  public ResponseEntity<?> submitQuestion(
+    @PathVariable UUID code,
+    @Valid @RequestBody QuestionCreateDto questionCreateDto,
+    BindingResult bindingResult,
+    @AuthenticationPrincipal PrincipalDetails principalDetails
+  ) {
+    if (bindingResult.hasErrors()) {
+      return ResponseEntity
+        .badRequest()
+        .body(
+          Map.of("error", bindingResult.getFieldErrors().get(0).getDefaultMessage())
+        );
+    }
+    Member member = principalDetails != null
+      ? principalDetails.getMember()
+      : null;
+    try {
+      UUID questionId = questionService.submit(
+        code,
+        questionCreateDto.getContent(),
+        member
+      );
+      return ResponseEntity
+        .status(HttpStatus.ACCEPTED)
+        .body(Map.of("questionId", questionId));
+    } catch (AccessDeniedException ex) {
+      return ResponseEntity
+        .status(HttpStatus.FORBIDDEN)
+        .body(Map.of("error", ex.getMessage()));
+    } catch (EntityNotFoundException ex) {
+      return ResponseEntity
+        .status(HttpStatus.NOT_FOUND)
+        .body(Map.of("error", ex.getMessage()));
+    } catch (IllegalStateException ex) {
+      return ResponseEntity
+        .status(HttpStatus.CONFLICT)
+        .body(Map.of("error", ex.getMessage()));
+    } catch (QuestionQueueFullException ex) {
+      return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .body(Map.of("error", ex.getMessage()));
+    }
+  }
+
+  /**
+   * 질문 추천
+   * POST /post/{code}/questions/{questionId}/upvote
+   *
+   * 회원은 이메일, 익명 방문자는 서명된 방문자 쿠키로 구분하여 질문 하나에 한 번만 추천할 수 있습니다.
+   * (세션을 만들지 않으며, 쿠키를 지운 익명 추천은 같은 IP에서 질문마다 일정 수까지만 받음)
+   *
+   * @param code
+   * @param questionId
+   * @param principalDetails 로그인한 사용자 (익명이면 null)
+   * @return 200 (upvoted: 이번 요청으로 추천했는지 여부), 403/404/409
+   */
+  @PostMapping("/{questionId}/upvote")
+  public ResponseEntity<?> upvoteQuestion(
+    @PathVariable UUID code,
+    @PathVariable UUID questionId,
+    @AuthenticationPrincipal PrincipalDetails principalDetails,
+    HttpServletRequest request,
+    HttpServletResponse response
+  ) {
+    Member member = principalDetails != null
+      ? principalDetails.getMember()
+      : null;
+    String visitorId = member == null
+      ? visitorCookie.resolve(request, response)
+      : null;
+    try {
+      boolean upvoted = questionVoteService.upvote(
+        code,
+        questionId,
+        member,
+        visitorId,
+        request.getRemoteAddr()
+      );
+      return ResponseEntity.ok(Map.of("upvoted", upvoted));
+    } catch (AccessDeniedException ex) {
+      return ResponseEntity
+        .status(HttpStatus.FORBIDDEN)
+        .body(Map.of("error", ex.getMessage()));
+    } catch (EntityNotFoundException ex) {
+      return ResponseEntity
+        .status(HttpStatus.NOT_FOUND)
+        .body(Map.of("error", ex.getMessage()));
+    } catch (IllegalStateException ex) {
+      return ResponseEntity
+        .status(HttpStatus.CONFLICT)
+        .body(Map.of("error", ex.getMessage()));
+    }
+  }
+
+  /**
+   * 질문 목록 (추천 순)
+   * GET /post/{code}/questions
+   */
+  @GetMapping
+  public ResponseEntity<?> getQuestions(@PathVariable UUID code) {
+    try {
+      List<QuestionDto> questions = questionService.getQuestions(code);
+      return ResponseEntity.ok(questions);
+    } catch (EntityNotFoundException ex) {
+      return ResponseEntity
+        .status(HttpStatus.NOT_FOUND)
+        .body(Map.of("error", ex.getMessage()));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.hongsamstick.question.controller;
+
+import com.hongsamstick.question.dto.PostSummaryDto;
+import com.hongsamstick.question.service.PostService;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Controller
+public class SearchController {
+
+  private static final int SIZE = 6; // 한 페이지에 보여줄 게시글 수
+  private static final int MAX_QUERY_LENGTH = 100;
+
+  private final PostService postService;
+
+  public SearchController(PostService postService) {
+    this.postService = postService;
+  }
+
+  /**
+   * 게시판 검색 결과 페이지
+   * GET /search
+   *
+   * 진행 중인 전체 공개 게시판의 제목/본문에서 검색 (관련도 순)
+   *
+   * @param model
+   * @param q 검색어
+   * @param page 페이지 번호
+   * @return  search.html
+   */
+  @GetMapping("/search")
+  public String search(
+    Model model,
+    @RequestParam(required = false, defaultValue = "") String q,
+    @RequestParam(defaultValue = "0") int page
+  ) {
+    String keyword = q.strip();
+    if (keyword.length() > MAX_QUERY_LENGTH) {
+      keyword = keyword.substring(0, MAX_QUERY_LENGTH);
+    }
+    Pageable pageable = PageRequest.of(Math.max(0, page), SIZE);
+    Page<PostSummaryDto> posts = keyword.isEmpty()
+      ? new PageImpl<>(List.of(), pageable, 0)
+      : postService.searchPosts(keyword, pageable);
+
+    model.addAttribute("q", keyword);
+    model.addAttribute("posts", posts);
+    return "search";
+  }
+}
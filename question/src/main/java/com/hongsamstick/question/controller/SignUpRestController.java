@@ -3,8 +3,10 @@ package com.hongsamstick.question.controller;
 import com.hongsamstick.question.dto.EmailDto;
 import com.hongsamstick.question.dto.EmailVerifyDto;
 import com.hongsamstick.question.dto.NameDto;
+import com.hongsamstick.question.exception.MailQueueFullException;
 import com.hongsamstick.question.service.MemberService;
 import java.util.Map;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,6 +18,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/signup")
 public class SignUpRestController {
 
+  private static final String RETRY_AFTER_SECONDS = "5";
+
   private final MemberService memberService;
 
   public SignUpRestController(MemberService memberService) {
@@ -39,6 +43,12 @@ public class SignUpRestController {
       return ResponseEntity
         .ok()
         .body(Map.of("message", "인증 코드가 이메일로 전송되었습니다."));
+    } catch (MailQueueFullException ex) {
+      // 메일 발송 대기열이 가득 찬 경우
+      return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .body(Map.of("error", ex.getMessage()));
     } catch (RuntimeException ex) {
       // 오류 처리 (예: 이미 가입된 이메일, 이메일 형식 오류 등)
       return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
@@ -109,6 +119,12 @@ public class SignUpRestController {
       return ResponseEntity
         .ok()
         .body(Map.of("message", "새로운 인증 코드가 이메일로 전송되었습니다."));
+    } catch (MailQueueFullException ex) {
+      // 메일 발송 대기열이 가득 찬 경우
+      return ResponseEntity
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+        .body(Map.of("error", ex.getMessage()));
     } catch (IllegalArgumentException ex) {
       // 예외 처리: 전송된 코드가 없거나 다른 문제가 발생한 경우
       return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
@@ -0,0 +1,101 @@
+package com.hongsamstick.question.controller;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 익명 방문자 식별 쿠키 (질문 추천 중복 확인용)
+ *  - 세션을 만들지 않도록 서명된 방문자 id를 쿠키로 발급합니다. (id.서명)
+ *  - 서명이 맞지 않으면 새 id를 발급하므로 임의의 id를 만들어 보낼 수 없습니다.
+ *  - 여러 노드에서는 question.vote.visitor-secret을 같은 값으로 설정해야 합니다.
+ *    (설정하지 않으면 노드마다 시작 시 임의의 키를 사용)
+ */
+@Component
+class VisitorCookie {
+
+  static final String NAME = "visitor";
+
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final Duration MAX_AGE = Duration.ofDays(365);
+
+  private final SecretKeySpec key;
+
+  VisitorCookie(@Value("${question.vote.visitor-secret:}") String secret) {
+    byte[] keyBytes;
+    if (secret.isEmpty()) {
+      keyBytes = new byte[32];
+      new SecureRandom().nextBytes(keyBytes);
+    } else {
+      keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+    }
+    this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+  }
+
+  // 요청의 방문자 id (없거나 서명이 맞지 않으면 새로 발급하여 응답에 쿠키 추가)
+  String resolve(HttpServletRequest request, HttpServletResponse response) {
+    Cookie[] cookies = request.getCookies();
+    if (cookies != null) {
+      for (Cookie cookie : cookies) {
+        if (NAME.equals(cookie.getName())) {
+          String visitorId = verify(cookie.getValue());
+          if (visitorId != null) {
+            return visitorId;
+          }
+        }
+      }
+    }
+    String visitorId = UUID.randomUUID().toString();
+    ResponseCookie cookie = ResponseCookie
+      .from(NAME, visitorId + "." + sign(visitorId))
+      .path("/")
+      .maxAge(MAX_AGE)
+      .httpOnly(true)
+      .secure(request.isSecure())
+      .sameSite("Lax")
+      .build();
+    response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    return visitorId;
+  }
+
+  // 서명이 맞으면 방문자 id, 아니면 null
+  private String verify(String value) {
+    int separator = value.lastIndexOf('.');
+    if (separator <= 0) {
+      return null;
+    }
+    String visitorId = value.substring(0, separator);
+    byte[] expected = sign(visitorId).getBytes(StandardCharsets.US_ASCII);
+    byte[] actual = value
+      .substring(separator + 1)
+      .getBytes(StandardCharsets.US_ASCII);
+    return MessageDigest.isEqual(expected, actual) ? visitorId : null;
+  }
+
+  private String sign(String visitorId) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      byte[] signature = mac.doFinal(
+        visitorId.getBytes(StandardCharsets.UTF_8)
+      );
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.hongsamstick.question.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 마감 후 보관된 게시글 (post_archive)
+ *  - PostArchiveService가 post 테이블에서 옮기며, postId와 code는 그대로 유지됩니다.
+ *  - 개설자는 외래 키 없이 이메일로만 저장합니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+  name = "post_archive",
+  uniqueConstraints = @UniqueConstraint(
+    name = "uk_post_archive_code",
+    columnNames = "code"
+  ),
+  indexes = {
+    // 내가 개설한 게시판 목록용 인덱스
+    @Index(name = "idx_post_archive_email", columnList = "email, startDate")
+  }
+)
+public class ArchivedPost {
+
+  @Id
+  private Long postId;
+
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(nullable = false, length = 16)
+  private UUID code;
+
+  @Column(nullable = false)
+  private String email; // 개설자 이메일
+
+  @Column(length = 255, nullable = false)
+  private String title;
+
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String content;
+
+  @Column(nullable = false)
+  private Long viewcount;
+
+  @Column(nullable = false)
+  private Integer readPermission;
+
+  @Column(nullable = false)
+  private Integer writePermission;
+
+  @Column(nullable = false)
+  private LocalDateTime startDate;
+
+  private LocalDateTime endDate;
+
+  private LocalDateTime updatedAt;
+
+  @Column(nullable = false)
+  private LocalDateTime archivedAt;
+
+  // 상세 페이지 표시용 게시글로 변환 (개설자는 이메일만 채움)
+  public Post toPost() {
+    Member member = new Member();
+    member.setEmail(email);
+
+    Post post = new Post();
+    post.setPostId(postId);
+    post.setCode(code);
+    post.setMember(member);
+    post.setTitle(title);
+    post.setContent(content);
+    post.setViewcount(viewcount);
+    post.setReadPermission(readPermission);
+    post.setWritePermission(writePermission);
+    post.setStartDate(startDate);
+    post.setEndDate(endDate);
+    post.setUpdatedAt(updatedAt);
+    return post;
+  }
+}
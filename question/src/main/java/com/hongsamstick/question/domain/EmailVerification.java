@@ -29,4 +29,7 @@ public class EmailVerification {
 
   @Column(nullable = false)
   private boolean verified = false; // 인증 여부 (true: 인증됨, false: 미인증)
+
+  @Column(nullable = false)
+  private int attempts = 0; // 인증 시도 횟수
 }
@@ -1,21 +1,54 @@
 package com.hongsamstick.question.domain;
 
+import com.hongsamstick.question.util.TimeOrderedUuid;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(
+  name = "Post.member",
+  attributeNodes = @NamedAttributeNode("member")
+)
+@Table(
+  // 상세/수정/코드 참석 조회 키
+  uniqueConstraints = @UniqueConstraint(
+    name = "uk_post_code",
+    columnNames = "code"
+  ),
+  indexes = {
+    // 목록 keyset 페이지네이션용 인덱스
+    @Index(
+      name = "idx_post_read_start",
+      columnList = "readPermission, startDate, postId"
+    ),
+    @Index(
+      name = "idx_post_read_views",
+      columnList = "readPermission, viewcount, postId"
+    ),
+    // 마감된 게시글 보관(archive) 대상 조회용 인덱스
+    @Index(name = "idx_post_end_date", columnList = "endDate, postId"),
+    // 인기순 목록 (메모리 순위를 사용할 수 없을 때)
+    @Index(
+      name = "idx_post_read_hot",
+      columnList = "readPermission, hotScore, postId"
+    )
+  }
+)
 public class Post {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long postId;
 
-  @ManyToOne
+  // 개설자가 필요한 경우에만 "Post.member" 엔티티 그래프로 함께 조회
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "email")
   private Member member;
 
@@ -25,7 +58,9 @@ public class Post {
   @Column(columnDefinition = "TEXT", nullable = false)
   private String content;
 
-  @Column(nullable = false)
+  // 조회수는 ViewCountService가 JDBC 배치 UPDATE(viewcount + 증가분)로만 반영하므로
+  // 게시글 수정 시 읽어 둔 값으로 덮어써 그 사이의 조회수를 잃지 않도록 엔티티 저장에서 제외
+  @Column(nullable = false, updatable = false)
   private Long viewcount = 0L;
 
   @Column(nullable = false)
@@ -39,12 +74,31 @@ public class Post {
 
   private LocalDateTime endDate; // null이면 무기한
 
+  // 시간 감쇠 인기 점수 (로그 공간, HotRankingService가 주기적으로 반영)
+  // 반영은 JDBC 배치 UPDATE로만 하므로 엔티티 저장 시 덮어쓰지 않음
+  @Column(nullable = false, updatable = false)
+  private Double hotScore = 0.0;
+
   @Column(nullable = false)
-  private UUID code;
+  private Boolean closed = false; // 마감 시각에 PostCloseScheduler가 변경
+
+  // BINARY(16)로 저장 (기존 MySQL의 UUID 매핑과 동일한 바이트 순서)
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(nullable = false, length = 16)
+  private UUID code; // 시간 순서 UUID (UUIDv7)
+
+  // 마지막 수정 시각 (조회수 반영 제외), ETag/Last-Modified 계산과 검색 색인 동기화에 사용
+  private LocalDateTime updatedAt;
 
   @PrePersist
   protected void onCreate() {
     startDate = LocalDateTime.now();
-    code = UUID.randomUUID();
+    updatedAt = startDate;
+    code = TimeOrderedUuid.generate();
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = LocalDateTime.now();
   }
 }
@@ -0,0 +1,50 @@
+package com.hongsamstick.question.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 게시판에 등록된 질문
+ *  - QuestionService가 큐에 모아 JDBC 배치 INSERT로 저장하므로, 키는 IDENTITY 대신 애플리케이션에서 만든 UUIDv7입니다.
+ *  - 게시글은 마감 후 post_archive로 옮겨지므로 외래 키 없이 postId만 저장합니다.
+ *  - 작성자 이름은 등록 시점의 값으로 저장합니다. (익명이면 email과 함께 null)
+ *  - 추천 수는 QuestionVoteService가 메모리에 모아 주기적으로 배치 UPDATE 합니다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+  indexes = {
+    // 게시판별 질문 목록 조회용 인덱스
+    @Index(name = "idx_question_post", columnList = "postId, createdAt")
+  }
+)
+public class Question {
+
+  // BINARY(16)로 저장 (Post.code와 같은 바이트 순서)
+  @Id
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(length = 16)
+  private UUID questionId;
+
+  @Column(nullable = false)
+  private Long postId;
+
+  @Column(length = 500, nullable = false)
+  private String content;
+
+  private String email; // 작성자 이메일 (익명이면 null)
+
+  private String authorName; // 작성자 이름 (익명이면 null)
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private Long upvotes = 0L;
+}
@@ -0,0 +1,15 @@
+package com.hongsamstick.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 이메일과 이름 (MemberFilter 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberKey {
+
+  private String email;
+  private String name;
+}
@@ -0,0 +1,17 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 진행 중인 전체 공개 게시글의 정렬 기준값 (OpenPostIndex 생성용)
+ */
+@Getter
+@AllArgsConstructor
+public class OpenPostEntry {
+
+  private Long postId;
+  private LocalDateTime startDate;
+  private Long viewcount;
+}
@@ -0,0 +1,95 @@
+package com.hongsamstick.question.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 목록 커서 (keyset 페이지네이션)
+ *  - 정렬 기준값(startDate 또는 viewcount)과 postId를 인코딩한 불투명 토큰입니다.
+ *  - backward가 true이면 이전 페이지를, false이면 다음 페이지를 가리킵니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+  private static final String DELIMITER = "|";
+
+  private String sort; // latest, oldest, views
+  private boolean backward; // true : 이전 페이지, false : 다음 페이지
+  private String value; // 정렬 기준값
+  private Long postId;
+
+  // 현재 페이지의 마지막 게시글 다음을 가리키는 커서
+  public static PostCursor next(String sort, PostSummaryDto post) {
+    return new PostCursor(sort, false, keyOf(sort, post), post.getPostId());
+  }
+
+  // 현재 페이지의 첫 게시글 이전을 가리키는 커서
+  public static PostCursor prev(String sort, PostSummaryDto post) {
+    return new PostCursor(sort, true, keyOf(sort, post), post.getPostId());
+  }
+
+  private static String keyOf(String sort, PostSummaryDto post) {
+    if ("views".equals(sort)) {
+      return String.valueOf(post.getViewcount());
+    }
+    return post.getStartDate().toString();
+  }
+
+  public LocalDateTime getStartDate() {
+    return LocalDateTime.parse(value);
+  }
+
+  public Long getViewcount() {
+    return Long.valueOf(value);
+  }
+
+  public String encode() {
+    String raw = String.join(
+      DELIMITER,
+      sort,
+      backward ? "p" : "n",
+      value,
+      String.valueOf(postId)
+    );
+    return Base64
+      .getUrlEncoder()
+      .withoutPadding()
+      .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 잘못된 토큰이면 null을 반환하여 첫 페이지로 처리
+  public static PostCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(
+        Base64.getUrlDecoder().decode(token),
+        StandardCharsets.UTF_8
+      );
+      String[] parts = raw.split("\\" + DELIMITER);
+      if (parts.length != 4) {
+        return null;
+      }
+      PostCursor cursor = new PostCursor(
+        parts[0],
+        "p".equals(parts[1]),
+        parts[2],
+        Long.valueOf(parts[3])
+      );
+      // 정렬 기준값 형식 검증
+      if ("views".equals(cursor.getSort())) {
+        cursor.getViewcount();
+      } else {
+        cursor.getStartDate();
+      }
+      return cursor;
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+}
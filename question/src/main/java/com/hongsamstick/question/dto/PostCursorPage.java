@@ -0,0 +1,26 @@
+package com.hongsamstick.question.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 게시판 목록 페이지
+ *  - COUNT 쿼리 없이 이전/다음 페이지 커서만 제공합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursorPage<T> {
+
+  private List<T> content;
+  private String prevCursor; // 이전 페이지가 없으면 null
+  private String nextCursor; // 다음 페이지가 없으면 null
+
+  public boolean hasPrev() {
+    return prevCursor != null;
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
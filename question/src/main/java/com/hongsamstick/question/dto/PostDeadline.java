@@ -0,0 +1,17 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 마감 예정 게시글 (PostCloseScheduler 등록용)
+ */
+@Getter
+@AllArgsConstructor
+public class PostDeadline {
+
+  private UUID code;
+  private LocalDateTime endDate;
+}
@@ -0,0 +1,29 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 상세 정보 (PostCache에 저장되는 불변 값)
+ *  - 영속성 컨텍스트와 무관하므로 여러 요청 스레드가 공유해도 지연 로딩이나 변경이 일어나지 않습니다.
+ *  - 개설자는 이메일만 보관합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailDto {
+
+  private final Long postId;
+  private final UUID code;
+  private final String email; // 개설자 이메일
+  private final String title;
+  private final String content;
+  private final Long viewcount;
+  private final Integer readPermission;
+  private final Integer writePermission;
+  private final LocalDateTime startDate;
+  private final LocalDateTime endDate; // null이면 무기한
+  private final LocalDateTime updatedAt;
+  private final Boolean closed;
+}
@@ -0,0 +1,15 @@
+package com.hongsamstick.question.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 진행 중인 전체 공개 게시글의 인기 점수 (HotRankingService 로딩용)
+ */
+@Getter
+@AllArgsConstructor
+public class PostHotScore {
+
+  private Long postId;
+  private Double hotScore;
+}
@@ -0,0 +1,23 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 색인에 넣을 게시글 정보 (PostSearchService 색인용)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchDocument {
+
+  private Long postId;
+  private UUID code;
+  private String title;
+  private String content;
+  private Integer readPermission;
+  private LocalDateTime startDate;
+  private LocalDateTime endDate; // null이면 무기한
+  private Boolean closed;
+}
@@ -0,0 +1,20 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 제목 자동 완성 항목 (PostSuggestService)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSuggestionDto {
+
+  private Long postId;
+  private UUID code;
+  private String title;
+  private Long viewcount;
+  private LocalDateTime endDate; // null이면 무기한
+}
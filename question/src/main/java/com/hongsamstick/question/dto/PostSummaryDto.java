@@ -0,0 +1,24 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 목록 카드용 요약 정보
+ *  - 본문(content)을 제외하고 카드에 필요한 컬럼과 개설자 정보만 한 번의 조인 쿼리로 조회합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+
+  private Long postId;
+  private UUID code;
+  private String title;
+  private Long viewcount;
+  private LocalDateTime startDate;
+  private LocalDateTime endDate; // null이면 무기한
+  private String memberName; // 개설자 이름
+  private String memberPicture; // 개설자 프로필 사진
+}
@@ -0,0 +1,19 @@
+package com.hongsamstick.question.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionCreateDto {
+
+  @NotBlank(message = "질문 내용은 필수입니다.")
+  @Size(max = 500, message = "질문은 500자 이하이어야 합니다.")
+  private String content;
+}
@@ -0,0 +1,20 @@
+package com.hongsamstick.question.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 상세 페이지의 질문 목록 항목
+ */
+@Getter
+@AllArgsConstructor
+public class QuestionDto {
+
+  private UUID questionId;
+  private String content;
+  private String authorName; // 익명이면 null
+  private LocalDateTime createdAt;
+  private long upvotes; // 아직 DB에 반영되지 않은 추천 포함
+}
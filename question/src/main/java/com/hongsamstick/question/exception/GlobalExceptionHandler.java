@@ -1,10 +1,13 @@
 package com.hongsamstick.question.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
@@ -27,6 +30,18 @@ public class GlobalExceptionHandler {
     return "redirect:" + previousPage;
   }
 
+  // 존재하지 않는 게시글 code 예외 처리
+  // 리다이렉트 없이 404 상태로 에러 페이지를 바로 렌더링
+  @ExceptionHandler(PostNotFoundException.class)
+  @ResponseStatus(HttpStatus.NOT_FOUND)
+  public String handlePostNotFoundException(
+    PostNotFoundException ex,
+    Model model
+  ) {
+    model.addAttribute("error", ex.getMessage());
+    return "errorPage";
+  }
+
   // 엔티티를 찾을 수 없는 예외 처리
   @ExceptionHandler(EntityNotFoundException.class)
   public String handleEntityNotFoundException(
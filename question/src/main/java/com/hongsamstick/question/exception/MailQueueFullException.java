@@ -0,0 +1,17 @@
+package com.hongsamstick.question.exception;
+
+/**
+ * 메일 발송 대기열이 가득 찬 경우의 예외
+ *  - 요청이 몰릴 때마다 발생하므로 스택 트레이스를 만들지 않습니다.
+ */
+public class MailQueueFullException extends RuntimeException {
+
+  public MailQueueFullException() {
+    super("메일 발송 요청이 많아 잠시 후 다시 시도해 주세요.");
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
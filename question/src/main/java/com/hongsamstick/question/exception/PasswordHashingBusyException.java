@@ -0,0 +1,21 @@
+package com.hongsamstick.question.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 스레드가 모두 사용 중이고 대기열도 가득 찬 경우의 예외
+ *  - 로그인이 몰릴 때마다 발생하므로 스택 트레이스를 만들지 않습니다.
+ *  - 로그인 중에 발생하면 인증 실패로 처리되어 UserLoginFailHandler가 안내 메시지를 보여 줍니다.
+ */
+public class PasswordHashingBusyException
+  extends AuthenticationServiceException {
+
+  public PasswordHashingBusyException() {
+    super("요청이 많아 잠시 후 다시 시도해 주세요.");
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
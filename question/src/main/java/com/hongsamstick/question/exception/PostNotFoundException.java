@@ -0,0 +1,19 @@
+package com.hongsamstick.question.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * 존재하지 않는 게시글 code 예외
+ *  - 잘못 입력했거나 추측한 code마다 발생하므로 스택 트레이스를 만들지 않습니다.
+ */
+public class PostNotFoundException extends EntityNotFoundException {
+
+  public PostNotFoundException(Object code) {
+    super("게시판을 찾을 수 없습니다. code : " + code);
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+}
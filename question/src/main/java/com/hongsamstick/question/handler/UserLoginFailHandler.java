@@ -1,5 +1,6 @@
 package com.hongsamstick.question.handler;
 
+import com.hongsamstick.question.exception.PasswordHashingBusyException;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -30,6 +31,9 @@ public class UserLoginFailHandler
     ) {
       errorMessage =
         "아이디 또는 비밀번호가 맞지 않습니다. 다시 확인해 주세요.";
+    } else if (exception instanceof PasswordHashingBusyException) {
+      // 비밀번호 확인 스레드가 모두 사용 중인 경우
+      errorMessage = exception.getMessage();
     } else if (exception instanceof InternalAuthenticationServiceException) {
       errorMessage =
         "내부적으로 발생한 시스템 문제로 인해 요청을 처리할 수 없습니다. 관리자에게 문의하세요.";
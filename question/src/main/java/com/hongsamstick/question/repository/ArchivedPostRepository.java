@@ -0,0 +1,47 @@
+package com.hongsamstick.question.repository;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import com.hongsamstick.question.domain.ArchivedPost;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface ArchivedPostRepository
+  extends JpaRepository<ArchivedPost, Long> {
+  // code로 보관된 게시글 찾기
+  Optional<ArchivedPost> findByCode(UUID code);
+
+  // 모든 보관된 게시글 code (트랜잭션 안에서 스트림으로 읽기)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT a.code FROM ArchivedPost a")
+  Stream<UUID> streamAllCodes();
+
+  // 내가 개설한 보관된 게시글 요약 목록
+  @Query(
+    value = "SELECT new com.hongsamstick.question.dto.PostSummaryDto(" +
+    "a.postId, a.code, a.title, a.viewcount, a.startDate, a.endDate, m.name, m.picture) " +
+    "FROM ArchivedPost a LEFT JOIN Member m ON m.email = a.email " +
+    "WHERE a.email = :email",
+    countQuery = "SELECT COUNT(a) FROM ArchivedPost a WHERE a.email = :email"
+  )
+  Page<PostSummaryDto> findMyArchivedSummaries(String email, Pageable pageable);
+
+  // 회원이 개설한 보관된 게시글 id (회원 탈퇴 시 질문 삭제용)
+  @Query("SELECT a.postId FROM ArchivedPost a WHERE a.email = :email")
+  List<Long> findPostIdsByEmail(String email);
+
+  // 회원 탈퇴 시 보관된 게시글 삭제
+  @Modifying
+  @Query("DELETE FROM ArchivedPost a WHERE a.email = :email")
+  int deleteByEmail(String email);
+}
@@ -1,10 +1,26 @@
 package com.hongsamstick.question.repository;
 
 import com.hongsamstick.question.domain.EmailVerification;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface EmailVerificationRepository
   extends JpaRepository<EmailVerification, String> {
   
   EmailVerification findByEmail(String email);
+
+  // 같은 이메일의 인증 시도를 순서대로 처리하기 위해 행 잠금
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT e FROM EmailVerification e WHERE e.email = :email")
+  Optional<EmailVerification> findForUpdate(String email);
+
+  // 만료된 인증 정보 삭제
+  @Modifying
+  @Query("DELETE FROM EmailVerification e WHERE e.expiredAt < :now")
+  int deleteExpired(LocalDateTime now);
 }
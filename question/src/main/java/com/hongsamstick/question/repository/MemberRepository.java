@@ -1,8 +1,15 @@
 package com.hongsamstick.question.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.dto.MemberKey;
+import jakarta.persistence.QueryHint;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface MemberRepository extends JpaRepository<Member, String> {
   Optional<Member> findByEmail(String email);
@@ -14,4 +21,12 @@ public interface MemberRepository extends JpaRepository<Member, String> {
   boolean existsByName(String name); // 이름 중복 검사
 
   void deleteByEmail(String email); // 이메일로 회원 삭제
+
+  // 모든 회원의 이메일과 이름 (트랜잭션 안에서 스트림으로 읽기)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.MemberKey(m.email, m.name) " +
+    "FROM Member m"
+  )
+  Stream<MemberKey> streamAllKeys();
 }
@@ -0,0 +1,67 @@
+package com.hongsamstick.question.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 마감된 게시글을 post에서 post_archive로 옮기는 쿼리
+ *  - 호출하는 쪽의 트랜잭션 안에서 lock → copy → delete 순서로 사용합니다.
+ */
+@Repository
+public class PostArchiveRepository {
+
+  private static final String LOCK_ARCHIVABLE_SQL =
+    "SELECT post_id FROM post WHERE end_date < :cutoff " +
+    "ORDER BY end_date, post_id LIMIT :limit FOR UPDATE";
+
+  private static final String COPY_SQL =
+    "INSERT INTO post_archive (post_id, code, email, title, content, viewcount, " +
+    "read_permission, write_permission, start_date, end_date, updated_at, archived_at) " +
+    "SELECT post_id, code, email, title, content, viewcount, " +
+    "read_permission, write_permission, start_date, end_date, updated_at, :archivedAt " +
+    "FROM post WHERE post_id IN (:postIds)";
+
+  private static final String DELETE_SQL =
+    "DELETE FROM post WHERE post_id IN (:postIds)";
+
+  private static final String OLDEST_ARCHIVABLE_SQL =
+    "SELECT MIN(end_date) FROM post WHERE end_date < :cutoff";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public PostArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // cutoff 이전에 마감된 게시글을 마감 순으로 limit개 잠금 (idx_post_end_date 범위만 잠김)
+  public List<Long> lockArchivable(LocalDateTime cutoff, int limit) {
+    return jdbcTemplate.queryForList(
+      LOCK_ARCHIVABLE_SQL,
+      Map.of("cutoff", Timestamp.valueOf(cutoff), "limit", limit),
+      Long.class
+    );
+  }
+
+  // 잠근 게시글을 post_archive로 복사한 뒤 post에서 삭제
+  public int move(List<Long> postIds, LocalDateTime archivedAt) {
+    jdbcTemplate.update(
+      COPY_SQL,
+      Map.of("postIds", postIds, "archivedAt", Timestamp.valueOf(archivedAt))
+    );
+    return jdbcTemplate.update(DELETE_SQL, Map.of("postIds", postIds));
+  }
+
+  // 아직 옮기지 않은 가장 오래된 마감 시각 (없으면 null)
+  public LocalDateTime findOldestArchivableEndDate(LocalDateTime cutoff) {
+    Timestamp oldest = jdbcTemplate.queryForObject(
+      OLDEST_ARCHIVABLE_SQL,
+      Map.of("cutoff", Timestamp.valueOf(cutoff)),
+      Timestamp.class
+    );
+    return oldest == null ? null : oldest.toLocalDateTime();
+  }
+}
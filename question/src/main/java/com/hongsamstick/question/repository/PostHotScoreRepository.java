@@ -0,0 +1,33 @@
+package com.hongsamstick.question.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class PostHotScoreRepository {
+
+  // hot_score = ln(e^hot_score + e^?) (overflow 없이 계산, 여러 노드의 반영 순서와 무관)
+  private static final String ADD_HOT_SCORE_SQL =
+    "UPDATE post SET hot_score = GREATEST(hot_score, ?) + LN(1 + EXP(-ABS(hot_score - ?))) " +
+    "WHERE post_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public PostHotScoreRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // 게시글별 점수 증가분(로그 공간)을 하나의 배치 UPDATE로 반영
+  @Transactional
+  public void addHotScores(List<Map.Entry<Long, Double>> deltas) {
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    for (Map.Entry<Long, Double> delta : deltas) {
+      args.add(new Object[] { delta.getValue(), delta.getValue(), delta.getKey() });
+    }
+    jdbcTemplate.batchUpdate(ADD_HOT_SCORE_SQL, args);
+  }
+}
@@ -1,21 +1,149 @@
 package com.hongsamstick.question.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.OpenPostEntry;
+import com.hongsamstick.question.dto.PostDeadline;
+import com.hongsamstick.question.dto.PostHotScore;
+import com.hongsamstick.question.dto.PostSearchDocument;
+import com.hongsamstick.question.dto.PostSuggestionDto;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+  // 목록 카드용 요약 정보 조회 (본문 제외, 개설자 조인)
+  String SUMMARY_SELECT =
+    "SELECT new com.hongsamstick.question.dto.PostSummaryDto(" +
+    "p.postId, p.code, p.title, p.viewcount, p.startDate, p.endDate, m.name, m.picture) " +
+    "FROM Post p LEFT JOIN p.member m ";
+
+  // 검색 색인용 게시글 정보
+  String SEARCH_DOCUMENT_SELECT =
+    "SELECT new com.hongsamstick.question.dto.PostSearchDocument(" +
+    "p.postId, p.code, p.title, p.content, p.readPermission, p.startDate, p.endDate, p.closed) " +
+    "FROM Post p ";
+
+  String OPEN_POST_CONDITION =
+    "WHERE p.readPermission = :readPermission AND (p.endDate IS NULL OR p.endDate > :now) ";
+
   // code로 게시글 찾기
   Optional<Post> findByCode(UUID code);
 
+  // code로 게시글과 개설자를 함께 찾기 (상세 페이지)
+  @EntityGraph("Post.member")
+  Optional<Post> findWithMemberByCode(UUID code);
+
+  // 모든 게시글 code (트랜잭션 안에서 스트림으로 읽기)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT p.code FROM Post p")
+  Stream<UUID> streamAllCodes();
+
+  // 마감 예정인 게시글 (시작 시 PostCloseScheduler에 등록)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.PostDeadline(p.code, p.endDate) " +
+    "FROM Post p WHERE p.closed = false AND p.endDate > :now"
+  )
+  Stream<PostDeadline> streamUpcomingDeadlines(LocalDateTime now);
+
+  // 진행 중인 게시글의 정렬 기준값 (OpenPostIndex 생성용)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.OpenPostEntry(p.postId, p.startDate, p.viewcount) " +
+    "FROM Post p " +
+    OPEN_POST_CONDITION +
+    "AND p.closed = false"
+  )
+  Stream<OpenPostEntry> streamOpenPostEntries(
+    Integer readPermission,
+    LocalDateTime now
+  );
+
+  // 진행 중인 게시글의 인기 점수 (HotRankingService 로딩용)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.PostHotScore(p.postId, p.hotScore) " +
+    "FROM Post p " +
+    OPEN_POST_CONDITION +
+    "AND p.closed = false"
+  )
+  Stream<PostHotScore> streamHotScores(Integer readPermission, LocalDateTime now);
+
+  // 진행 중인 게시글 제목 (PostSuggestService 생성용, 조회수 내림차순)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.PostSuggestionDto(" +
+    "p.postId, p.code, p.title, p.viewcount, p.endDate) " +
+    "FROM Post p " +
+    OPEN_POST_CONDITION +
+    "AND p.closed = false ORDER BY p.viewcount DESC, p.postId DESC"
+  )
+  Stream<PostSuggestionDto> streamSuggestions(
+    Integer readPermission,
+    LocalDateTime now
+  );
+
+  // 마감되지 않은 모든 게시글 (PostSearchService 색인 생성용)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+    SEARCH_DOCUMENT_SELECT +
+    "WHERE p.closed = false AND (p.endDate IS NULL OR p.endDate > :now)"
+  )
+  Stream<PostSearchDocument> streamSearchDocuments(LocalDateTime now);
+
+  // since 이후 수정된 게시글 (PostSearchService 재시작 시 따라잡기용)
+  @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+  @Query(SEARCH_DOCUMENT_SELECT + "WHERE p.updatedAt > :since")
+  Stream<PostSearchDocument> streamSearchDocumentsUpdatedAfter(
+    LocalDateTime since
+  );
+
+  // code 목록에 해당하는 게시글 (변경 알림을 받은 게시글 색인 갱신용)
+  @Query(SEARCH_DOCUMENT_SELECT + "WHERE p.code IN :codes")
+  List<PostSearchDocument> findSearchDocumentsByCodeIn(List<UUID> codes);
+
+  // 아직 마감 처리되지 않은 게시글의 마감 시각
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.PostDeadline(p.code, p.endDate) " +
+    "FROM Post p WHERE p.code = :code AND p.closed = false"
+  )
+  Optional<PostDeadline> findOpenDeadlineByCode(UUID code);
+
+  // 마감 시각이 지난 게시글을 마감 처리 (다른 노드가 먼저 처리했거나 연장되었으면 0)
+  @Modifying
+  @Query(
+    "UPDATE Post p SET p.closed = true " +
+    "WHERE p.code = :code AND p.closed = false AND p.endDate <= :now"
+  )
+  int closeIfEnded(UUID code, LocalDateTime now);
+
+  // 마감 시각이 지났지만 마감 처리되지 않은 게시글을 한 번에 마감 처리
+  @Modifying
+  @Query(
+    "UPDATE Post p SET p.closed = true WHERE p.closed = false AND p.endDate <= :now"
+  )
+  int closeAllEnded(LocalDateTime now);
+
   // postId로 게시글 찾기
   Post findByPostId(Long postId);
 
+  // 회원이 개설한 게시글 id (회원 탈퇴 시 질문 삭제용)
+  @Query("SELECT p.postId FROM Post p WHERE p.member.email = :email")
+  List<Long> findPostIdsByEmail(String email);
+
   // 게시글 삭제하기
   void deleteByCode(UUID code);
 
@@ -26,16 +154,105 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Pageable pageable
   );
 
-  // 내가 쓴 게시글 찾기 (페이지네이션 적용)
+  // 코드로 게시글 찾기(마감 기한이 지나지 않은 게시글)
+  Optional<Post> findByCodeAndEndDateAfter(UUID code, LocalDateTime currentDate);
+
+  // 진행 중인 게시글 요약 목록 (OFFSET 페이지네이션)
+  @Query(
+    value = SUMMARY_SELECT + OPEN_POST_CONDITION,
+    countQuery = "SELECT COUNT(p) FROM Post p " + OPEN_POST_CONDITION
+  )
+  Page<PostSummaryDto> findOpenPostSummaries(
+    Integer readPermission,
+    LocalDateTime now,
+    Pageable pageable
+  );
+
+  // postId 목록에 해당하는 진행 중인 게시글 요약 (OpenPostIndex 조회 결과, 순서는 호출자가 정렬)
+  @Query(SUMMARY_SELECT + OPEN_POST_CONDITION + "AND p.postId IN :postIds")
+  List<PostSummaryDto> findOpenPostSummariesByPostIdIn(
+    Integer readPermission,
+    LocalDateTime now,
+    List<Long> postIds
+  );
+
+  // 내가 쓴 게시글 요약 목록 (페이지네이션 적용)
   @Query(
-    "SELECT p FROM Post p WHERE p.member.email = :email AND (p.endDate > CURRENT_TIMESTAMP OR p.endDate IS NULL OR :excludeEnded = false)"
+    value = SUMMARY_SELECT +
+    "WHERE m.email = :email AND (p.endDate > CURRENT_TIMESTAMP OR p.endDate IS NULL OR :excludeEnded = false)",
+    countQuery = "SELECT COUNT(p) FROM Post p WHERE p.member.email = :email AND (p.endDate > CURRENT_TIMESTAMP OR p.endDate IS NULL OR :excludeEnded = false)"
   )
-  Page<Post> findByMemberEmailAndExcludeEnded(
+  Page<PostSummaryDto> findMyPostSummaries(
     String email,
     boolean excludeEnded,
     Pageable pageable
   );
 
-  // 코드로 게시글 찾기(마감 기한이 지나지 않은 게시글)
-  Optional<Post> findByCodeAndEndDateAfter(UUID code, LocalDateTime currentDate);
+  // 진행 중인 게시글 첫 페이지 (커서 페이지네이션, COUNT 쿼리 없음)
+  @Query(SUMMARY_SELECT + OPEN_POST_CONDITION)
+  List<PostSummaryDto> findOpenPosts(
+    Integer readPermission,
+    LocalDateTime now,
+    Pageable pageable
+  );
+
+  // 커서보다 startDate가 이전인 진행 중인 게시글 (startDate 내림차순)
+  @Query(
+    SUMMARY_SELECT +
+    OPEN_POST_CONDITION +
+    "AND (p.startDate < :startDate OR (p.startDate = :startDate AND p.postId < :postId)) " +
+    "ORDER BY p.startDate DESC, p.postId DESC"
+  )
+  List<PostSummaryDto> findOpenPostsBeforeStartDate(
+    Integer readPermission,
+    LocalDateTime now,
+    LocalDateTime startDate,
+    Long postId,
+    Pageable pageable
+  );
+
+  // 커서보다 startDate가 이후인 진행 중인 게시글 (startDate 오름차순)
+  @Query(
+    SUMMARY_SELECT +
+    OPEN_POST_CONDITION +
+    "AND (p.startDate > :startDate OR (p.startDate = :startDate AND p.postId > :postId)) " +
+    "ORDER BY p.startDate ASC, p.postId ASC"
+  )
+  List<PostSummaryDto> findOpenPostsAfterStartDate(
+    Integer readPermission,
+    LocalDateTime now,
+    LocalDateTime startDate,
+    Long postId,
+    Pageable pageable
+  );
+
+  // 커서보다 조회수가 적은 진행 중인 게시글 (조회수 내림차순)
+  @Query(
+    SUMMARY_SELECT +
+    OPEN_POST_CONDITION +
+    "AND (p.viewcount < :viewcount OR (p.viewcount = :viewcount AND p.postId < :postId)) " +
+    "ORDER BY p.viewcount DESC, p.postId DESC"
+  )
+  List<PostSummaryDto> findOpenPostsBelowViewcount(
+    Integer readPermission,
+    LocalDateTime now,
+    Long viewcount,
+    Long postId,
+    Pageable pageable
+  );
+
+  // 커서보다 조회수가 많은 진행 중인 게시글 (조회수 오름차순)
+  @Query(
+    SUMMARY_SELECT +
+    OPEN_POST_CONDITION +
+    "AND (p.viewcount > :viewcount OR (p.viewcount = :viewcount AND p.postId > :postId)) " +
+    "ORDER BY p.viewcount ASC, p.postId ASC"
+  )
+  List<PostSummaryDto> findOpenPostsAboveViewcount(
+    Integer readPermission,
+    LocalDateTime now,
+    Long viewcount,
+    Long postId,
+    Pageable pageable
+  );
 }
@@ -0,0 +1,32 @@
+package com.hongsamstick.question.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class PostViewCountRepository {
+
+  private static final String ADD_VIEW_COUNT_SQL =
+    "UPDATE post SET viewcount = viewcount + ? WHERE post_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public PostViewCountRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  // 게시글별 조회수 증가분을 하나의 배치 UPDATE로 반영
+  // 조회수는 수정으로 보지 않으므로 updated_at(ETag, 검색 색인 동기화 기준)은 바꾸지 않음
+  @Transactional
+  public void addViewCounts(List<Map.Entry<Long, Long>> deltas) {
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    for (Map.Entry<Long, Long> delta : deltas) {
+      args.add(new Object[] { delta.getValue(), delta.getKey() });
+    }
+    jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, args);
+  }
+}
@@ -0,0 +1,106 @@
+package com.hongsamstick.question.repository;
+
+import com.hongsamstick.question.domain.Question;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 질문 배치 INSERT / 추천 수 배치 UPDATE
+ *  - MySQL에서는 JDBC URL에 rewriteBatchedStatements=true를 두어야 여러 행 INSERT 하나로 전송됩니다.
+ *  - 질문은 외래 키가 없으므로, INSERT 전에 게시글 행을 잠가 그 사이 삭제된 게시글의 질문은 저장하지 않습니다.
+ */
+@Repository
+public class QuestionBatchRepository {
+
+  private static final String INSERT_QUESTION_SQL =
+    "INSERT INTO question (question_id, post_id, content, email, author_name, created_at, upvotes) " +
+    "VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+  private static final String LOCK_POSTS_SQL =
+    "SELECT post_id FROM post WHERE post_id IN (:postIds) ORDER BY post_id FOR UPDATE";
+
+  private static final String ADD_UPVOTES_SQL =
+    "UPDATE question SET upvotes = upvotes + ? WHERE question_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+  public QuestionBatchRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+  }
+
+  /**
+   * 질문 목록을 하나의 트랜잭션에서 배치 INSERT
+   *  - 게시글 행을 커밋까지 잠가 두므로, 게시글 삭제는 이 INSERT가 끝난 뒤 질문을 지우거나
+   *    삭제가 먼저 커밋되어 해당 질문을 저장하지 않습니다.
+   *
+   * @return 저장한 질문 (게시글이 삭제된 질문 제외)
+   */
+  @Transactional
+  public List<Question> insertQuestions(List<Question> questions) {
+    Set<Long> postIds = new HashSet<>();
+    for (Question question : questions) {
+      postIds.add(question.getPostId());
+    }
+    Set<Long> livePostIds = new HashSet<>(
+      namedJdbcTemplate.queryForList(
+        LOCK_POSTS_SQL,
+        Map.of("postIds", postIds),
+        Long.class
+      )
+    );
+
+    List<Question> inserted = new ArrayList<>(questions.size());
+    List<Object[]> args = new ArrayList<>(questions.size());
+    for (Question question : questions) {
+      if (!livePostIds.contains(question.getPostId())) {
+        continue;
+      }
+      inserted.add(question);
+      args.add(
+        new Object[] {
+          toBytes(question.getQuestionId()),
+          question.getPostId(),
+          question.getContent(),
+          question.getEmail(),
+          question.getAuthorName(),
+          Timestamp.valueOf(question.getCreatedAt()),
+        }
+      );
+    }
+    if (!args.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_QUESTION_SQL, args);
+    }
+    return inserted;
+  }
+
+  // 질문별 추천 수 증가분을 하나의 배치 UPDATE로 반영 (없는 질문은 무시됨)
+  @Transactional
+  public void addUpvotes(List<Map.Entry<UUID, Long>> deltas) {
+    List<Object[]> args = new ArrayList<>(deltas.size());
+    for (Map.Entry<UUID, Long> delta : deltas) {
+      args.add(new Object[] { delta.getValue(), toBytes(delta.getKey()) });
+    }
+    jdbcTemplate.batchUpdate(ADD_UPVOTES_SQL, args);
+  }
+
+  // Hibernate의 UUID BINARY 매핑과 같은 바이트 순서
+  private static byte[] toBytes(UUID uuid) {
+    return ByteBuffer
+      .allocate(16)
+      .putLong(uuid.getMostSignificantBits())
+      .putLong(uuid.getLeastSignificantBits())
+      .array();
+  }
+}
@@ -0,0 +1,35 @@
+package com.hongsamstick.question.repository;
+
+import com.hongsamstick.question.domain.Question;
+import com.hongsamstick.question.dto.QuestionDto;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface QuestionRepository extends JpaRepository<Question, UUID> {
+  // 게시판의 모든 질문 (저장된 추천 수, 순위는 QuestionVoteService가 메모리에서 계산)
+  @Query(
+    "SELECT new com.hongsamstick.question.dto.QuestionDto(" +
+    "q.questionId, q.content, q.authorName, q.createdAt, q.upvotes) " +
+    "FROM Question q WHERE q.postId = :postId"
+  )
+  List<QuestionDto> findAllByPostId(Long postId);
+
+  // 질문이 등록된 게시글 id
+  @Query("SELECT q.postId FROM Question q WHERE q.questionId = :questionId")
+  Optional<Long> findPostIdByQuestionId(UUID questionId);
+
+  // 게시글 삭제 시 질문 함께 삭제
+  @Modifying
+  @Query("DELETE FROM Question q WHERE q.postId = :postId")
+  int deleteAllByPostId(Long postId);
+
+  // 회원 탈퇴 시 게시글과 보관된 게시글의 질문 함께 삭제
+  @Modifying
+  @Query("DELETE FROM Question q WHERE q.postId IN :postIds")
+  int deleteAllByPostIdIn(Collection<Long> postIds);
+}
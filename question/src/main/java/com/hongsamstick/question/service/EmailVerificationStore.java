@@ -0,0 +1,35 @@
+package com.hongsamstick.question.service;
+
+/**
+ * 이메일 인증 코드 저장소
+ *  - email-verification.store=redis(기본값)이면 키 TTL로 만료되는 Redis 해시, jpa이면 DB 테이블에 저장합니다.
+ *  - 인증 코드는 code-ttl-minutes 동안 유효하며, max-attempts번 틀리면 폐기되어 새 코드를 요청해야 합니다.
+ *  - 인증에 성공하면 verified-ttl-minutes 동안 인증 상태를 유지하고, 가입이 끝나면 삭제합니다.
+ */
+public interface EmailVerificationStore {
+  enum VerifyResult {
+    VERIFIED, // 인증 성공
+    MISMATCH, // 코드 불일치
+    EXPIRED, // 발급된 코드가 없거나 만료됨
+    TOO_MANY_ATTEMPTS, // 시도 횟수 초과로 코드 폐기
+  }
+
+  // 새 인증 코드 발급 (기존 코드, 시도 횟수, 인증 여부는 초기화)
+  void issue(String email, String code);
+
+  /**
+   * 인증 코드 재발급
+   *
+   * @return 발급된 코드가 없거나 만료되었으면 false
+   */
+  boolean reissue(String email, String code);
+
+  // 코드 확인과 인증 처리를 한 번에 수행
+  VerifyResult verify(String email, String code);
+
+  // 인증을 마친 이메일인지 확인
+  boolean isVerified(String email);
+
+  // 인증 정보 삭제 (가입 완료 후)
+  void remove(String email);
+}
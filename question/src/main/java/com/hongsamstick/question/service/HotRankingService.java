@@ -0,0 +1,354 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostHotScore;
+import com.hongsamstick.question.repository.PostHotScoreRepository;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.util.HotRanking;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 시간 감쇠 인기순(hot) 순위
+ *  - 조회수와 질문 수를 half-life-hours 반감기로 감쇠시킨 합을 로그 공간 점수로 관리합니다.
+ *  - 이벤트는 메모리 순위(HotRanking)에 O(log n)으로 바로 반영하고, 증가분은 persist-interval-ms마다
+ *    post.hot_score에 배치로 더한 뒤 Redis 채널로 다른 노드에 전달합니다.
+ *  - 시작 시와 reload-interval-ms마다 DB에서 다시 읽어, 놓친 알림이나 마감/삭제된 게시글을 정리합니다.
+ *  - 반감기를 바꾸면 저장된 점수와 새 이벤트의 비율이 달라지므로 운영 중에는 바꾸지 않습니다.
+ */
+@Service
+public class HotRankingService {
+
+  public static final String CHANNEL = "post:hot";
+
+  // 점수 기준 시각 (모든 점수는 이 시각으로부터의 반감기 수를 지수로 가짐)
+  private static final long EPOCH_MS = Instant
+    .parse("2024-01-01T00:00:00Z")
+    .toEpochMilli();
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    HotRankingService.class
+  );
+
+  private final String instanceId = UUID.randomUUID().toString();
+
+  // 아직 DB에 반영되지 않은 증가분 (반영 후 다른 노드에도 전달)
+  private final ConcurrentHashMap<Long, Double> pendingScores = new ConcurrentHashMap<>();
+  // 개설/수정/삭제로 지정된 점수 (DB에는 이미 있으므로 다른 노드에만 전달, NaN이면 제거)
+  private final ConcurrentHashMap<Long, Double> resetScores = new ConcurrentHashMap<>();
+
+  // 로딩 전에는 null이며, 이때 목록은 SQL로 조회
+  private volatile HotRanking ranking;
+
+  private final PostRepository postRepository;
+  private final PostHotScoreRepository postHotScoreRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final StringRedisTemplate redisTemplate;
+  private final double halfLifeMs;
+  private final double questionWeight;
+
+  private final Counter persistedPosts;
+  private final Counter persistFailures;
+  private final Timer reloadTimer;
+
+  public HotRankingService(
+    PostRepository postRepository,
+    PostHotScoreRepository postHotScoreRepository,
+    PlatformTransactionManager transactionManager,
+    StringRedisTemplate redisTemplate,
+    RedisMessageListenerContainer listenerContainer,
+    MeterRegistry meterRegistry,
+    @Value("${post.hot.half-life-hours:12}") double halfLifeHours,
+    @Value("${post.hot.question-weight:5}") double questionWeight
+  ) {
+    this.postRepository = postRepository;
+    this.postHotScoreRepository = postHotScoreRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.redisTemplate = redisTemplate;
+    this.halfLifeMs = halfLifeHours * Duration.ofHours(1).toMillis();
+    this.questionWeight = questionWeight;
+
+    this.persistedPosts =
+      Counter
+        .builder("post.hot.persisted")
+        .description("인기 점수를 DB에 반영한 게시글 수")
+        .register(meterRegistry);
+    this.persistFailures =
+      Counter
+        .builder("post.hot.persist.failures")
+        .description("인기 점수 반영 실패 횟수")
+        .register(meterRegistry);
+    this.reloadTimer =
+      Timer
+        .builder("post.hot.reload")
+        .description("인기 순위 로딩 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("post.hot.ranking.size", this, s -> s.ranking == null ? 0 : s.ranking.size())
+      .description("인기 순위에 있는 게시글 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.hot.pending", pendingScores, Map::size)
+      .description("인기 점수 반영 대기 중인 게시글 수")
+      .register(meterRegistry);
+
+    listenerContainer.addMessageListener(
+      (message, pattern) ->
+        receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+      new ChannelTopic(CHANNEL)
+    );
+  }
+
+  // weight만큼의 이벤트가 지금 발생했을 때의 점수
+  public double scoreOf(double weight) {
+    return Math.log(weight) + Math.log(2) * (System.currentTimeMillis() - EPOCH_MS) / halfLifeMs;
+  }
+
+  // 새 게시글의 초기 점수 (조회 1회와 같은 값으로 시작하여 최신 게시글이 순위에 나타남)
+  public double initialScore() {
+    return scoreOf(1);
+  }
+
+  // 현재 트랜잭션이 커밋된 후 게시글 상태에 맞게 순위에 추가/제거
+  public void syncAfterCommit(Post post) {
+    Long postId = post.getPostId();
+    double score = post.getHotScore();
+    boolean open =
+      Integer.valueOf(0).equals(post.getReadPermission()) &&
+      !Boolean.TRUE.equals(post.getClosed()) &&
+      (post.getEndDate() == null ||
+        post.getEndDate().isAfter(LocalDateTime.now()));
+    afterCommit(() -> put(postId, open ? score : Double.NaN));
+  }
+
+  // 현재 트랜잭션이 커밋된 후 순위에서 제거
+  public void removeAfterCommit(Long postId) {
+    afterCommit(() -> put(postId, Double.NaN));
+  }
+
+  // 점수를 지정 (NaN이면 제거), 다음 반영 주기에 다른 노드에도 전달
+  private void put(Long postId, double score) {
+    if (postId == null) {
+      return;
+    }
+    apply(ranking, postId, score);
+    resetScores.put(postId, score);
+  }
+
+  private void apply(HotRanking current, long postId, double score) {
+    if (current == null) {
+      return;
+    }
+    if (Double.isNaN(score)) {
+      current.remove(postId);
+    } else if (current.scoreOf(postId) == null) {
+      // 이미 있으면 엔티티에서 읽은 점수보다 메모리 점수가 최신
+      current.put(postId, score);
+    }
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        }
+      );
+    } else {
+      action.run();
+    }
+  }
+
+  // DB에 반영된 조회수 증가분 (ViewCountService)
+  public void recordViews(List<Map.Entry<Long, Long>> views) {
+    for (Map.Entry<Long, Long> entry : views) {
+      record(entry.getKey(), scoreOf(entry.getValue()));
+    }
+  }
+
+  // 새 질문 1개
+  public void recordQuestion(Long postId) {
+    record(postId, scoreOf(questionWeight));
+  }
+
+  private void record(Long postId, double score) {
+    HotRanking current = ranking;
+    if (current != null && current.scoreOf(postId) != null) {
+      current.add(postId, score);
+    }
+    pendingScores.merge(postId, score, HotRanking::logAddExp);
+  }
+
+  // 목록에서 더 이상 진행 중이 아닌 것으로 확인된 게시글 제거
+  public void remove(Long postId) {
+    HotRanking current = ranking;
+    if (current != null) {
+      current.remove(postId);
+    }
+  }
+
+  /**
+   * 인기순 목록 페이지의 postId 조회
+   *
+   * @return postId 페이지 (순위를 아직 불러오지 않았으면 빈 값)
+   */
+  public Optional<Page<Long>> findPostIds(Pageable pageable) {
+    HotRanking current = ranking;
+    if (current == null) {
+      return Optional.empty();
+    }
+    List<Long> postIds = current.top(
+      pageable.getOffset(),
+      pageable.getPageSize()
+    );
+    return Optional.of(new PageImpl<>(postIds, pageable, current.size()));
+  }
+
+  // 누적된 증가분을 DB에 반영하고 다른 노드에 전달
+  @Scheduled(fixedDelayString = "${post.hot.persist-interval-ms:30000}")
+  public void persist() {
+    Map<Long, Double> deltas = drain(pendingScores);
+    Map<Long, Double> resets = drain(resetScores);
+    if (!deltas.isEmpty()) {
+      try {
+        postHotScoreRepository.addHotScores(new ArrayList<>(deltas.entrySet()));
+        persistedPosts.increment(deltas.size());
+      } catch (DataAccessException e) {
+        // 반영하지 못한 증가분은 다음 주기에 다시 시도 (다른 노드에는 반영 후 전달)
+        deltas.forEach((postId, score) ->
+          pendingScores.merge(postId, score, HotRanking::logAddExp)
+        );
+        persistFailures.increment();
+        logger.warn("인기 점수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        deltas = Map.of();
+      }
+    }
+    broadcast(deltas, resets);
+  }
+
+  private Map<Long, Double> drain(ConcurrentHashMap<Long, Double> scores) {
+    Map<Long, Double> drained = new HashMap<>();
+    for (Long postId : scores.keySet()) {
+      Double score = scores.remove(postId);
+      if (score != null) {
+        drained.put(postId, score);
+      }
+    }
+    return drained;
+  }
+
+  // "instanceId|a postId score,..." (a: 증가분, p: 지정한 점수, NaN이면 제거)
+  private void broadcast(Map<Long, Double> deltas, Map<Long, Double> resets) {
+    if (deltas.isEmpty() && resets.isEmpty()) {
+      return;
+    }
+    StringBuilder message = new StringBuilder(instanceId).append('|');
+    deltas.forEach((postId, score) ->
+      message.append("a ").append(postId).append(' ').append(score).append(',')
+    );
+    resets.forEach((postId, score) ->
+      message.append("p ").append(postId).append(' ').append(score).append(',')
+    );
+    try {
+      redisTemplate.convertAndSend(CHANNEL, message.toString());
+    } catch (RuntimeException e) {
+      // 다른 노드는 다음 로딩 때 DB에서 반영
+      logger.warn("인기 점수 변경을 다른 노드에 전달하지 못했습니다.", e);
+    }
+  }
+
+  private void receive(String message) {
+    int separator = message.indexOf('|');
+    HotRanking current = ranking;
+    if (current == null || message.substring(0, separator).equals(instanceId)) {
+      return;
+    }
+    for (String item : message.substring(separator + 1).split(",")) {
+      if (item.isEmpty()) {
+        continue;
+      }
+      String[] parts = item.split(" ");
+      long postId = Long.parseLong(parts[1]);
+      double score = Double.parseDouble(parts[2]);
+      if ("p".equals(parts[0])) {
+        apply(current, postId, score);
+      } else if (current.scoreOf(postId) != null) {
+        current.add(postId, score);
+      }
+    }
+  }
+
+  // DB에서 순위를 다시 생성 (아직 반영되지 않은 증가분은 새 순위에 더함)
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+    initialDelayString = "${post.hot.reload-interval-ms:3600000}",
+    fixedDelayString = "${post.hot.reload-interval-ms:3600000}"
+  )
+  public void reload() {
+    try {
+      HotRanking loaded = reloadTimer.record(this::load);
+      pendingScores.forEach((postId, score) -> {
+        if (loaded.scoreOf(postId) != null) {
+          loaded.add(postId, score);
+        }
+      });
+      ranking = loaded;
+      logger.info("인기 순위를 불러왔습니다. 게시글 {}개", loaded.size());
+    } catch (DataAccessException e) {
+      logger.warn("인기 순위를 불러오지 못했습니다.", e);
+    }
+  }
+
+  private HotRanking load() {
+    HotRanking loaded = new HotRanking();
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (
+        Stream<PostHotScore> scores = postRepository.streamHotScores(
+          0,
+          LocalDateTime.now()
+        )
+      ) {
+        scores.forEach(score ->
+          loaded.put(score.getPostId(), score.getHotScore())
+        );
+      }
+    });
+    return loaded;
+  }
+}
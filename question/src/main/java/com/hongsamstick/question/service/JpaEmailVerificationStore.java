@@ -0,0 +1,138 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.domain.EmailVerification;
+import com.hongsamstick.question.repository.EmailVerificationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DB 이메일 인증 코드 저장소 (email-verification.store=jpa, Redis 없이 운영하는 경우)
+ *  - 인증 시도는 행 잠금으로 순서대로 처리하므로 동시에 시도해도 시도 횟수가 정확히 집계됩니다.
+ *  - 만료 시각이 지난 인증 정보는 purge-interval-ms마다 삭제합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "email-verification.store", havingValue = "jpa")
+public class JpaEmailVerificationStore implements EmailVerificationStore {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    JpaEmailVerificationStore.class
+  );
+
+  private final EmailVerificationRepository emailVerificationRepository;
+  private final Duration codeTtl;
+  private final Duration verifiedTtl;
+  private final int maxAttempts;
+
+  public JpaEmailVerificationStore(
+    EmailVerificationRepository emailVerificationRepository,
+    @Value("${email-verification.code-ttl-minutes:3}") long codeTtlMinutes,
+    @Value("${email-verification.verified-ttl-minutes:30}") long verifiedTtlMinutes,
+    @Value("${email-verification.max-attempts:5}") int maxAttempts
+  ) {
+    this.emailVerificationRepository = emailVerificationRepository;
+    this.codeTtl = Duration.ofMinutes(codeTtlMinutes);
+    this.verifiedTtl = Duration.ofMinutes(verifiedTtlMinutes);
+    this.maxAttempts = maxAttempts;
+  }
+
+  @Override
+  @Transactional
+  public void issue(String email, String code) {
+    EmailVerification emailVerification = emailVerificationRepository
+      .findForUpdate(email)
+      .orElseGet(EmailVerification::new);
+    emailVerification.setEmail(email);
+    emailVerification.setCreatedAt(LocalDateTime.now());
+    reset(emailVerification, code);
+  }
+
+  @Override
+  @Transactional
+  public boolean reissue(String email, String code) {
+    Optional<EmailVerification> emailVerification = findValid(
+      emailVerificationRepository.findForUpdate(email)
+    );
+    emailVerification.ifPresent(found -> reset(found, code));
+    return emailVerification.isPresent();
+  }
+
+  private void reset(EmailVerification emailVerification, String code) {
+    emailVerification.setCode(code);
+    emailVerification.setVerified(false);
+    emailVerification.setAttempts(0);
+    emailVerification.setExpiredAt(LocalDateTime.now().plus(codeTtl));
+    emailVerificationRepository.save(emailVerification);
+  }
+
+  @Override
+  @Transactional
+  public VerifyResult verify(String email, String code) {
+    EmailVerification emailVerification = findValid(
+      emailVerificationRepository.findForUpdate(email)
+    )
+      .orElse(null);
+    if (emailVerification == null) {
+      return VerifyResult.EXPIRED;
+    }
+    boolean matches = emailVerification.getCode().equals(code);
+    if (emailVerification.isVerified()) {
+      return matches ? VerifyResult.VERIFIED : VerifyResult.MISMATCH;
+    }
+
+    emailVerification.setAttempts(emailVerification.getAttempts() + 1);
+    if (matches) {
+      emailVerification.setVerified(true);
+      emailVerification.setExpiredAt(LocalDateTime.now().plus(verifiedTtl));
+      emailVerificationRepository.save(emailVerification);
+      return VerifyResult.VERIFIED;
+    }
+    if (emailVerification.getAttempts() >= maxAttempts) {
+      emailVerificationRepository.delete(emailVerification);
+      return VerifyResult.TOO_MANY_ATTEMPTS;
+    }
+    emailVerificationRepository.save(emailVerification);
+    return VerifyResult.MISMATCH;
+  }
+
+  @Override
+  public boolean isVerified(String email) {
+    return findValid(emailVerificationRepository.findById(email))
+      .map(EmailVerification::isVerified)
+      .orElse(false);
+  }
+
+  @Override
+  @Transactional
+  public void remove(String email) {
+    emailVerificationRepository.deleteById(email);
+  }
+
+  // 만료되지 않은 인증 정보
+  private Optional<EmailVerification> findValid(
+    Optional<EmailVerification> emailVerification
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    return emailVerification.filter(found -> found.getExpiredAt().isAfter(now));
+  }
+
+  // 만료된 인증 정보 삭제
+  @Scheduled(
+    initialDelayString = "${email-verification.purge-interval-ms:600000}",
+    fixedDelayString = "${email-verification.purge-interval-ms:600000}"
+  )
+  @Transactional
+  public void purgeExpired() {
+    int purged = emailVerificationRepository.deleteExpired(LocalDateTime.now());
+    if (purged > 0) {
+      logger.info("만료된 이메일 인증 정보 {}개를 삭제했습니다.", purged);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.hongsamstick.question.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hongsamstick.question.util.TokenBucket;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메모리 요청 수 제한 저장소
+ *  - 키마다 AtomicLong 하나(TokenBucket의 TAT)를 Caffeine에 두며, 조회와 갱신 모두 락 없이 처리합니다.
+ *  - 키는 최대 max-keys개까지 보관하고 idle-minutes 동안 요청이 없으면 제거합니다.
+ *    제거된 키는 가득 찬 버킷으로 다시 시작하므로 idle-minutes는 가장 긴 보충 시간보다 길어야 합니다.
+ */
+@Service
+@ConditionalOnProperty(
+  name = "rate-limit.store",
+  havingValue = "local",
+  matchIfMissing = true
+)
+public class LocalRateLimitStore implements RateLimitStore {
+
+  private final Cache<String, AtomicLong> buckets;
+
+  public LocalRateLimitStore(
+    @Value("${rate-limit.max-keys:100000}") long maxKeys,
+    @Value("${rate-limit.idle-minutes:10}") long idleMinutes
+  ) {
+    this.buckets =
+      Caffeine
+        .newBuilder()
+        .maximumSize(maxKeys)
+        .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+        .build();
+  }
+
+  @Override
+  public long tryAcquire(String key, TokenBucket bucket) {
+    long now = System.nanoTime();
+    AtomicLong state = buckets.get(key, k -> bucket.newState(now));
+    return bucket.tryAcquire(state, now);
+  }
+
+  // 보관 중인 키 수
+  public long size() {
+    return buckets.estimatedSize();
+  }
+}
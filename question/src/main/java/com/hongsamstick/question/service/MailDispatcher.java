@@ -0,0 +1,301 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.exception.MailQueueFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메일 비동기 발송
+ *  - 발송 요청은 크기가 제한된 메모리 큐에 넣고 바로 반환합니다. 큐가 가득 차면 거절합니다.
+ *  - 발송 스레드(workers개)가 큐에서 최대 batch-size개(또는 linger-ms 동안 모인 만큼)를 꺼내
+ *    JavaMailSender.send 한 번으로 보내므로, 한 배치는 SMTP 연결 하나를 재사용합니다.
+ *  - 실패한 메일만 max-attempts번까지 간격을 늘려 다시 보내고, 그래도 실패하면 버립니다.
+ *  - 비정상 종료 시 잃을 수 있는 메일은 큐에 남아 있던 메일(최대 queue-capacity개)로 제한되며,
+ *    정상 종료 시에는 남은 메일을 모두 보냅니다.
+ */
+@Service
+public class MailDispatcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    MailDispatcher.class
+  );
+
+  // 발송 대기 중인 메일과 큐에 넣은 시각 (발송 지연 측정용)
+  private static final class Pending {
+
+    private final SimpleMailMessage message;
+    private final long enqueuedAt;
+
+    private Pending(SimpleMailMessage message, long enqueuedAt) {
+      this.message = message;
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+
+  private final BlockingQueue<Pending> queue;
+  private final List<Thread> workers;
+  private volatile boolean running = true;
+
+  private final JavaMailSender mailSender;
+  private final int batchSize;
+  private final long lingerMs;
+  private final int maxAttempts;
+  private final long retryBackoffMs;
+
+  private final Counter acceptedMails;
+  private final Counter rejectedMails;
+  private final Counter sentMails;
+  private final Counter retriedMails;
+  private final Counter droppedMails;
+  private final DistributionSummary batchSizes;
+  private final Timer sendTimer;
+  private final Timer deliveryTimer;
+
+  public MailDispatcher(
+    JavaMailSender mailSender,
+    MeterRegistry meterRegistry,
+    @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+    @Value("${mail.dispatch.workers:2}") int workerCount,
+    @Value("${mail.dispatch.batch-size:20}") int batchSize,
+    @Value("${mail.dispatch.linger-ms:50}") long lingerMs,
+    @Value("${mail.dispatch.max-attempts:4}") int maxAttempts,
+    @Value("${mail.dispatch.retry-backoff-ms:500}") long retryBackoffMs
+  ) {
+    this.mailSender = mailSender;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.lingerMs = lingerMs;
+    this.maxAttempts = maxAttempts;
+    this.retryBackoffMs = retryBackoffMs;
+    this.workers = new ArrayList<>(workerCount);
+    for (int i = 0; i < workerCount; i++) {
+      Thread worker = new Thread(this::run, "mail-sender-" + (i + 1));
+      worker.setDaemon(true);
+      workers.add(worker);
+    }
+
+    this.acceptedMails =
+      Counter
+        .builder("mail.dispatch.accepted")
+        .description("큐에 넣은 메일 수")
+        .register(meterRegistry);
+    this.rejectedMails =
+      Counter
+        .builder("mail.dispatch.rejected")
+        .description("큐가 가득 차서 거절한 메일 수")
+        .register(meterRegistry);
+    this.sentMails =
+      Counter
+        .builder("mail.dispatch.sent")
+        .description("발송한 메일 수")
+        .register(meterRegistry);
+    this.retriedMails =
+      Counter
+        .builder("mail.dispatch.retried")
+        .description("다시 발송을 시도한 메일 수")
+        .register(meterRegistry);
+    this.droppedMails =
+      Counter
+        .builder("mail.dispatch.dropped")
+        .description("재시도 후에도 발송하지 못한 메일 수")
+        .register(meterRegistry);
+    this.batchSizes =
+      DistributionSummary
+        .builder("mail.dispatch.batch.size")
+        .description("SMTP 연결 하나로 보낸 메일 수")
+        .register(meterRegistry);
+    this.sendTimer =
+      Timer
+        .builder("mail.dispatch.send")
+        .description("메일 배치 발송 시간 (SMTP 연결 포함)")
+        .register(meterRegistry);
+    this.deliveryTimer =
+      Timer
+        .builder("mail.dispatch.delivery")
+        .description("큐에 넣은 뒤 발송이 끝날 때까지 걸린 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("mail.dispatch.queue", queue, BlockingQueue::size)
+      .description("발송 대기 중인 메일 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("mail.dispatch.queue.capacity", () -> queueCapacity)
+      .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    workers.forEach(Thread::start);
+  }
+
+  /**
+   * 메일 발송 요청 (큐에 넣은 후 바로 반환)
+   *
+   * @throws MailQueueFullException 발송 대기열이 가득 찬 경우
+   */
+  public void enqueue(SimpleMailMessage message) {
+    if (!running || !queue.offer(new Pending(message, System.nanoTime()))) {
+      rejectedMails.increment();
+      throw new MailQueueFullException();
+    }
+    acceptedMails.increment();
+  }
+
+  // 발송 대기 중인 메일 수
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  private void run() {
+    while (running || !queue.isEmpty()) {
+      try {
+        sendNextBatch(500);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        logger.error("메일 발송 스레드에서 예외가 발생했습니다.", e);
+      }
+    }
+  }
+
+  /**
+   * 큐에서 한 배치를 꺼내 발송
+   *  - 첫 메일을 최대 waitMs 동안 기다리고, 이후 batch-size개가 되거나 linger-ms가 지날 때까지 모읍니다.
+   *
+   * @return 발송을 시도한 메일 수
+   */
+  int sendNextBatch(long waitMs) throws InterruptedException {
+    Pending first = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return 0;
+    }
+    List<Pending> batch = new ArrayList<>(batchSize);
+    batch.add(first);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        break;
+      }
+      Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    send(batch);
+    return batch.size();
+  }
+
+  private void send(List<Pending> batch) throws InterruptedException {
+    List<Pending> remaining = batch;
+    for (int attempt = 1; ; attempt++) {
+      List<Pending> failed = trySend(remaining);
+      complete(remaining, failed);
+      if (failed.isEmpty()) {
+        return;
+      }
+      if (attempt >= maxAttempts) {
+        droppedMails.increment(failed.size());
+        logger.error("메일 {}개를 발송하지 못했습니다.", failed.size());
+        return;
+      }
+      logger.warn(
+        "메일 {}개 발송에 실패했습니다. 다시 시도합니다. ({}회)",
+        failed.size(),
+        attempt
+      );
+      retriedMails.increment(failed.size());
+      Thread.sleep(retryBackoffMs << (attempt - 1));
+      remaining = failed;
+    }
+  }
+
+  /**
+   * SMTP 연결 하나로 배치를 발송
+   *
+   * @return 발송하지 못한 메일
+   */
+  private List<Pending> trySend(List<Pending> batch) {
+    SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+    for (int i = 0; i < messages.length; i++) {
+      messages[i] = batch.get(i).message;
+    }
+    long start = System.nanoTime();
+    try {
+      mailSender.send(messages);
+      return List.of();
+    } catch (MailSendException e) {
+      // 연결 종료만 실패한 경우 failedMessages가 비어 있으며, 이때는 모두 발송된 것
+      Map<Object, Exception> failedMessages = e.getFailedMessages();
+      List<Pending> failed = new ArrayList<>(failedMessages.size());
+      for (Pending pending : batch) {
+        if (failedMessages.containsKey(pending.message)) {
+          failed.add(pending);
+        }
+      }
+      logger.debug("메일 발송 실패", e);
+      return failed;
+    } catch (MailException e) {
+      // 인증 실패 등 연결 전에 실패한 경우 배치 전체를 다시 보냄
+      logger.debug("메일 발송 실패", e);
+      return batch;
+    } finally {
+      sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // 발송에 성공한 메일 집계
+  private void complete(List<Pending> batch, List<Pending> failed) {
+    int sent = batch.size() - failed.size();
+    if (sent == 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    for (Pending pending : batch) {
+      if (!failed.contains(pending)) {
+        deliveryTimer.record(now - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+      }
+    }
+    sentMails.increment(sent);
+    batchSizes.record(sent);
+  }
+
+  // 새 메일을 받지 않고 큐에 남은 메일을 모두 보낸 뒤 종료
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    boolean started = false;
+    for (Thread worker : workers) {
+      if (worker.isAlive()) {
+        started = true;
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+      }
+    }
+    if (!started) {
+      while (sendNextBatch(0) > 0) {}
+    }
+  }
+}
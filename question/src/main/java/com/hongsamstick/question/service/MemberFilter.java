@@ -0,0 +1,315 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.dto.MemberKey;
+import com.hongsamstick.question.repository.MemberRepository;
+import com.hongsamstick.question.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 가입된 회원 이메일과 이름의 Bloom filter
+ *  - 확실히 없는 이메일/이름은 DB를 조회하지 않고 바로 사용 가능으로 응답합니다.
+ *    있을 수도 있는 값만 DB에서 확인하므로 응답은 DB 조회 결과와 같습니다.
+ *  - 시작 시와 rebuild-interval-ms마다 DB에서 다시 생성하며, 탈퇴한 회원의 값은 이때 정리됩니다.
+ *  - 가입한 회원은 커밋 후 Redis 채널로 모든 노드의 필터에 추가됩니다.
+ *  - DB의 대소문자/악센트 무시 비교와 어긋나지 않도록 값을 정규화(NFKD, 결합 문자 제거, 소문자)해서 저장합니다.
+ *    정규화로 서로 다른 값이 같아지면 DB 조회가 늘어날 뿐 응답은 달라지지 않습니다.
+ *  - 가입 시의 중복 검사는 필터를 거치지 않고 항상 DB에서 확인합니다.
+ */
+@Service
+public class MemberFilter {
+
+  public static final String CHANNEL = "member:registered";
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    MemberFilter.class
+  );
+
+  private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+  // 이메일 필터와 이름 필터 (항상 함께 교체)
+  private static final class Filters {
+
+    private final BloomFilter emails;
+    private final BloomFilter names;
+
+    private Filters(long expectedInsertions, double falsePositiveRate) {
+      this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+      this.names = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    private void put(String email, String name) {
+      emails.put(normalize(email));
+      names.put(normalize(name));
+    }
+  }
+
+  private final Object lock = new Object();
+
+  private final MemberRepository memberRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final StringRedisTemplate redisTemplate;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+
+  // 생성 전에는 null이며, 이때는 모든 값을 DB에서 확인
+  private volatile Filters filters;
+  // 생성 중에 가입한 회원도 새 필터에 반영하기 위한 참조
+  private Filters building;
+  // 마지막 생성 이후 탈퇴한 회원 수 (필터에는 남아 있어 DB 조회가 늘어남)
+  private final AtomicLong removedSinceRebuild = new AtomicLong();
+
+  private final Counter emailSkips;
+  private final Counter emailLookups;
+  private final Counter nameSkips;
+  private final Counter nameLookups;
+  private final Timer rebuildTimer;
+
+  public MemberFilter(
+    MemberRepository memberRepository,
+    PlatformTransactionManager transactionManager,
+    StringRedisTemplate redisTemplate,
+    RedisMessageListenerContainer listenerContainer,
+    MeterRegistry meterRegistry,
+    @Value(
+      "${member.filter.expected-insertions:100000}"
+    ) long expectedInsertions,
+    @Value("${member.filter.fpp:0.001}") double falsePositiveRate
+  ) {
+    this.memberRepository = memberRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.redisTemplate = redisTemplate;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+
+    this.emailSkips = checks(meterRegistry, "email", "absent");
+    this.emailLookups = checks(meterRegistry, "email", "db");
+    this.nameSkips = checks(meterRegistry, "name", "absent");
+    this.nameLookups = checks(meterRegistry, "name", "db");
+    this.rebuildTimer =
+      Timer
+        .builder("member.filter.rebuild")
+        .description("회원 필터 생성 시간")
+        .register(meterRegistry);
+    registerGauges(meterRegistry, "email", f -> f.emails);
+    registerGauges(meterRegistry, "name", f -> f.names);
+    Gauge
+      .builder("member.filter.fpp.target", () -> falsePositiveRate)
+      .register(meterRegistry);
+    Gauge
+      .builder("member.filter.removed", removedSinceRebuild, AtomicLong::get)
+      .description("마지막 생성 이후 탈퇴하여 필터에만 남아 있는 회원 수")
+      .register(meterRegistry);
+
+    listenerContainer.addMessageListener(
+      (message, pattern) ->
+        onRegistered(new String(message.getBody(), StandardCharsets.UTF_8)),
+      new ChannelTopic(CHANNEL)
+    );
+  }
+
+  private static Counter checks(
+    MeterRegistry meterRegistry,
+    String filter,
+    String result
+  ) {
+    return Counter
+      .builder("member.filter.checks")
+      .description("중복 확인 요청 수 (absent: DB 조회 생략, db: DB에서 확인)")
+      .tag("filter", filter)
+      .tag("result", result)
+      .register(meterRegistry);
+  }
+
+  private void registerGauges(
+    MeterRegistry meterRegistry,
+    String filter,
+    Function<Filters, BloomFilter> selector
+  ) {
+    Gauge
+      .builder("member.filter.memory", this, f -> f.measure(selector, BloomFilter::getMemoryBytes))
+      .tag("filter", filter)
+      .baseUnit("bytes")
+      .register(meterRegistry);
+    Gauge
+      .builder("member.filter.bits", this, f -> f.measure(selector, BloomFilter::getBitSize))
+      .tag("filter", filter)
+      .description("필터 비트 배열 크기")
+      .register(meterRegistry);
+    Gauge
+      .builder("member.filter.elements", this, f -> f.measure(selector, BloomFilter::approximateElementCount))
+      .tag("filter", filter)
+      .description("필터에 추가된 값의 수 (추정)")
+      .register(meterRegistry);
+    Gauge
+      .builder("member.filter.fpp", this, f -> f.measure(selector, BloomFilter::estimatedFpp))
+      .tag("filter", filter)
+      .description("현재 채워진 비율로 추정한 오탐률")
+      .register(meterRegistry);
+  }
+
+  // 확실히 가입되지 않은 이메일인지 확인 (false이면 DB에서 확인해야 함)
+  public boolean isEmailDefinitelyAbsent(String email) {
+    Filters current = filters;
+    if (current == null || current.emails.mightContain(normalize(email))) {
+      emailLookups.increment();
+      return false;
+    }
+    emailSkips.increment();
+    return true;
+  }
+
+  // 확실히 사용되지 않은 이름인지 확인 (false이면 DB에서 확인해야 함)
+  public boolean isNameDefinitelyAbsent(String name) {
+    Filters current = filters;
+    if (current == null || current.names.mightContain(normalize(name))) {
+      nameLookups.increment();
+      return false;
+    }
+    nameSkips.increment();
+    return true;
+  }
+
+  // 현재 트랜잭션이 커밋된 후 모든 노드의 필터에 가입한 회원 추가
+  public void addAfterCommit(String email, String name) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publish(email, name);
+          }
+        }
+      );
+    } else {
+      publish(email, name);
+    }
+  }
+
+  // 메시지 형식 : "{email} {name}" (이메일에는 공백이 없음)
+  private void publish(String email, String name) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, email + " " + name);
+    } catch (RuntimeException e) {
+      logger.warn("회원 가입 알림을 발행하지 못했습니다. 현재 노드에만 반영합니다.", e);
+      add(email, name);
+    }
+  }
+
+  private void onRegistered(String body) {
+    int separator = body.indexOf(' ');
+    if (separator < 0) {
+      return;
+    }
+    add(body.substring(0, separator), body.substring(separator + 1));
+  }
+
+  public void add(String email, String name) {
+    synchronized (lock) {
+      Filters current = filters;
+      if (current != null) {
+        current.put(email, name);
+      }
+      if (building != null) {
+        building.put(email, name);
+      }
+    }
+  }
+
+  // 탈퇴한 회원 (Bloom filter는 제거를 지원하지 않으므로 다음 생성 때 정리)
+  public void recordRemoved() {
+    removedSinceRebuild.incrementAndGet();
+  }
+
+  // DB의 모든 회원으로 필터를 새로 생성한 뒤 교체
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+    initialDelayString = "${member.filter.rebuild-interval-ms:3600000}",
+    fixedDelayString = "${member.filter.rebuild-interval-ms:3600000}"
+  )
+  public void rebuild() {
+    try {
+      rebuildTimer.record(this::doRebuild);
+    } catch (DataAccessException e) {
+      logger.warn("회원 필터를 생성하지 못했습니다. 기존 필터를 유지합니다.", e);
+      synchronized (lock) {
+        building = null;
+      }
+    }
+  }
+
+  private void doRebuild() {
+    long count = memberRepository.count();
+    Filters next = new Filters(
+      Math.max(expectedInsertions, count * 2),
+      falsePositiveRate
+    );
+    long removed = removedSinceRebuild.get();
+    synchronized (lock) {
+      building = next;
+    }
+
+    // 생성 시작 이후에 가입한 회원은 add()로 next에도 추가됨
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<MemberKey> members = memberRepository.streamAllKeys()) {
+        members.forEach(member -> next.put(member.getEmail(), member.getName()));
+      }
+    });
+
+    synchronized (lock) {
+      filters = next;
+      building = null;
+    }
+    removedSinceRebuild.addAndGet(-removed);
+    logger.info(
+      "회원 필터를 생성했습니다. 회원 수 : {}, 메모리 : {} bytes",
+      count,
+      next.emails.getMemoryBytes() + next.names.getMemoryBytes()
+    );
+  }
+
+  // DB 비교 규칙(대소문자, 악센트, 전각/반각 무시)보다 같게 보는 범위가 넓도록 정규화
+  static String normalize(String value) {
+    String decomposed = Normalizer.normalize(value.strip(), Normalizer.Form.NFKD);
+    return COMBINING_MARKS
+      .matcher(decomposed)
+      .replaceAll("")
+      .toLowerCase(Locale.ROOT);
+  }
+
+  private double measure(
+    Function<Filters, BloomFilter> selector,
+    ToDoubleFunction<BloomFilter> metric
+  ) {
+    Filters current = filters;
+    return current == null
+      ? 0
+      : metric.applyAsDouble(selector.apply(current));
+  }
+}
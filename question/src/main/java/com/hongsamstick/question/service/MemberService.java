@@ -1,38 +1,53 @@
 package com.hongsamstick.question.service;
 
 import com.hongsamstick.question.config.PrincipalDetails;
-import com.hongsamstick.question.domain.EmailVerification;
 import com.hongsamstick.question.domain.Member;
-import com.hongsamstick.question.repository.EmailVerificationRepository;
+import com.hongsamstick.question.repository.ArchivedPostRepository;
 import com.hongsamstick.question.repository.MemberRepository;
-import java.time.LocalDateTime;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class MemberService {
 
-  private final JavaMailSender emailSender;
+  private final MailDispatcher mailDispatcher;
   private final MemberRepository memberRepository;
-  private final EmailVerificationRepository emailVerificationRepository;
+  private final EmailVerificationStore emailVerificationStore;
   private final PasswordEncoder passwordEncoder;
+  private final ArchivedPostRepository archivedPostRepository;
+  private final MemberFilter memberFilter;
+  private final PostRepository postRepository;
+  private final QuestionRepository questionRepository;
 
   public MemberService(
     MemberRepository memberRepository,
     PasswordEncoder passwordEncoder,
-    JavaMailSender emailSender,
-    EmailVerificationRepository emailVerificationRepository
+    MailDispatcher mailDispatcher,
+    EmailVerificationStore emailVerificationStore,
+    ArchivedPostRepository archivedPostRepository,
+    MemberFilter memberFilter,
+    PostRepository postRepository,
+    QuestionRepository questionRepository
   ) {
     this.memberRepository = memberRepository;
     this.passwordEncoder = passwordEncoder;
-    this.emailSender = emailSender;
-    this.emailVerificationRepository = emailVerificationRepository;
+    this.mailDispatcher = mailDispatcher;
+    this.emailVerificationStore = emailVerificationStore;
+    this.archivedPostRepository = archivedPostRepository;
+    this.memberFilter = memberFilter;
+    this.postRepository = postRepository;
+    this.questionRepository = questionRepository;
   }
 
   // 회원가입
@@ -66,15 +81,8 @@ public class MemberService {
     }
 
     // 인증 코드 확인
-    // 이메일 인증 정보를 조회합니다.
-    // verified가 false인 경우, 인증되지 않은 이메일로 간주합니다.
-    EmailVerification emailVerification = emailVerificationRepository
-      .findById(email)
-      .orElseThrow(() ->
-        new IllegalArgumentException("인증되지 않은 이메일입니다.")
-      );
-
-    if (!emailVerification.isVerified()) {
+    // 인증 정보가 없거나 만료된 경우, 인증되지 않은 이메일로 간주합니다.
+    if (!emailVerificationStore.isVerified(email)) {
       throw new RuntimeException("이메일 인증을 완료해주세요.");
     }
 
@@ -83,7 +91,28 @@ public class MemberService {
     newMember.setPassword(passwordEncoder.encode(password));
     newMember.setName(name);
 
-    return memberRepository.save(newMember);
+    Member savedMember = memberRepository.save(newMember);
+
+    // 가입이 커밋된 후 인증 정보 삭제, 중복 확인 필터에 추가
+    removeVerificationAfterCommit(email);
+    memberFilter.addAfterCommit(email, name);
+
+    return savedMember;
+  }
+
+  private void removeVerificationAfterCommit(String email) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            emailVerificationStore.remove(email);
+          }
+        }
+      );
+    } else {
+      emailVerificationStore.remove(email);
+    }
   }
 
   // 비밀번호 유효성 검사
@@ -93,14 +122,20 @@ public class MemberService {
     return password != null && password.matches(regex);
   }
 
-  // 이메일 확인
+  // 이메일 확인 (필터에 확실히 없으면 DB를 조회하지 않음)
   public boolean emailExists(String email) {
-    return memberRepository.existsByEmail(email);
+    return (
+      !memberFilter.isEmailDefinitelyAbsent(email) &&
+      memberRepository.existsByEmail(email)
+    );
   }
 
-  // 이름 중복 확인
+  // 이름 중복 확인 (필터에 확실히 없으면 DB를 조회하지 않음)
   public boolean nameExists(String name) {
-    return memberRepository.existsByName(name);
+    return (
+      !memberFilter.isNameDefinitelyAbsent(name) &&
+      memberRepository.existsByName(name)
+    );
   }
 
   // get 내 정보 페이지
@@ -126,11 +161,8 @@ public class MemberService {
     // 인증 코드 생성
     String code = generateCode();
 
-    // 이메일 인증 정보 저장
-    EmailVerification emailVerification = new EmailVerification();
-    emailVerification.setEmail(email);
-    emailVerification.setCode(code);
-    emailVerificationRepository.save(emailVerification);
+    // 이메일 인증 정보 저장 (기존 코드와 시도 횟수는 초기화)
+    emailVerificationStore.issue(email, code);
 
     // 이메일 전송
     sendEmail(email, code);
@@ -150,30 +182,27 @@ public class MemberService {
     return code;
   }
 
-  // 이메일 보내는 메소드
+  // 이메일 보내는 메소드 (발송 큐에 넣은 후 바로 반환)
   public void sendEmail(String email, String code) {
     SimpleMailMessage message = new SimpleMailMessage();
     message.setFrom("hongsamstick1@gmail.com");
     message.setTo(email);
     message.setSubject("회원가입 인증 코드");
     message.setText("회원가입 인증 코드: " + code);
-    emailSender.send(message);
+    mailDispatcher.enqueue(message);
   }
 
   // 이메일로 인증 코드 재전송
   public void resendVerificationCode(String email) {
-    // 이메일 인증 정보를 조회합니다.
-    EmailVerification emailVerification = emailVerificationRepository
-      .findById(email)
-      .orElseThrow(() -> new IllegalArgumentException("전송된 코드가 없습니다.")
-      );
-
     // 인증 코드를 재생성합니다.
     String code = generateCode();
-    emailVerification.setCode(code);
 
-    // 이메일 인증 정보를 업데이트합니다.
-    emailVerificationRepository.save(emailVerification);
+    // 이메일 인증 정보를 업데이트합니다. (전송된 코드가 없거나 만료되었으면 실패)
+    if (!emailVerificationStore.reissue(email, code)) {
+      throw new IllegalArgumentException(
+        "전송된 코드가 없습니다. 새로운 인증 코드를 요청해주세요."
+      );
+    }
 
     // 이메일을 재전송합니다.
     sendEmail(email, code);
@@ -181,30 +210,21 @@ public class MemberService {
 
   // 이메일로 인증 코드 확인
   public boolean verifyCode(String email, String code) {
-    // 이메일 인증 정보를 조회합니다.
-    EmailVerification emailVerification = emailVerificationRepository
-      .findById(email)
-      .orElseThrow(() -> new IllegalArgumentException("전송된 코드가 없습니다.")
-      );
-
-    // 만료 시간을 확인합니다.
-    LocalDateTime now = LocalDateTime.now();
-    if (emailVerification.getExpiredAt().isBefore(now)) {
-      throw new IllegalArgumentException(
-        "인증 코드가 만료되었습니다. 새로운 인증 코드를 요청해주세요."
-      );
+    // 코드 확인, 시도 횟수 증가, 인증 처리를 한 번에 수행합니다.
+    switch (emailVerificationStore.verify(email, code)) {
+      case VERIFIED:
+        return true;
+      case MISMATCH:
+        return false;
+      case TOO_MANY_ATTEMPTS:
+        throw new IllegalArgumentException(
+          "인증 시도 횟수를 초과했습니다. 새로운 인증 코드를 요청해주세요."
+        );
+      default:
+        throw new IllegalArgumentException(
+          "인증 코드가 만료되었습니다. 새로운 인증 코드를 요청해주세요."
+        );
     }
-
-    // 입력한 코드와 저장된 코드가 일치하면 true, 아니면 false 반환
-    boolean isVerified = emailVerification.getCode().equals(code);
-
-    // 인증 성공한 경우 verified 필드를 true로 변경
-    if (isVerified) {
-      emailVerification.setVerified(true);
-      emailVerificationRepository.save(emailVerification);
-    }
-
-    return isVerified;
   }
 
   // 비밀번호 변경
@@ -266,8 +286,19 @@ public class MemberService {
       throw new RuntimeException("비밀번호가 일치하지 않습니다.");
     }
 
-    // 회원 탈퇴
+    // 회원 탈퇴 (게시글은 cascade로, 보관된 게시글은 이메일로 삭제)
+    // 질문은 외래 키 없이 postId로 연결되므로, 게시글을 먼저 삭제(행 잠금)한 뒤 질문 삭제
+    List<Long> postIds = new ArrayList<>(
+      postRepository.findPostIdsByEmail(member.getEmail())
+    );
+    postIds.addAll(archivedPostRepository.findPostIdsByEmail(member.getEmail()));
+    archivedPostRepository.deleteByEmail(member.getEmail());
     memberRepository.delete(member);
+    memberRepository.flush();
+    if (!postIds.isEmpty()) {
+      questionRepository.deleteAllByPostIdIn(postIds);
+    }
+    memberFilter.recordRemoved();
 
     // 세션 무효화
     SecurityContextHolder.getContext().setAuthentication(null);
@@ -0,0 +1,509 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.OpenPostEntry;
+import com.hongsamstick.question.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 진행 중인 전체 공개 게시글의 Redis sorted set 인덱스
+ *  - 시작 시각 순(START_KEY)과 조회수 순(VIEWS_KEY) 두 개의 sorted set에 postId를 보관합니다.
+ *  - 게시글 개설/수정/삭제는 커밋 후, 조회수는 DB 반영 후, 마감은 마감 처리 후 반영합니다.
+ *  - 목록(OFFSET 페이지네이션)은 인덱스에서 postId만 가져오고 IN 쿼리 한 번으로 채웁니다.
+ *  - 인덱스가 준비되지 않았거나 다시 생성 중이거나 Redis를 사용할 수 없으면 빈 값을 반환하며,
+ *    호출자는 기존 SQL 목록 조회를 사용합니다.
+ *  - 반영에 실패하면 인덱스를 준비되지 않은 상태로 바꾸고 check-interval-ms 후 DB에서 다시 생성합니다.
+ */
+@Service
+public class OpenPostIndex {
+
+  // 같은 hash slot에 두어 Redis Cluster에서도 스크립트 하나로 처리
+  public static final String START_KEY = "{post:open}:start";
+  public static final String VIEWS_KEY = "{post:open}:views";
+  public static final String READY_KEY = "{post:open}:ready";
+  public static final String REBUILDING_KEY = "{post:open}:rebuilding";
+  private static final String TMP_START_KEY = START_KEY + ":tmp";
+  private static final String TMP_VIEWS_KEY = VIEWS_KEY + ":tmp";
+
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  // 다시 생성 중이면 새로 만드는 인덱스에도 반영 (생성은 NX로 추가하므로 이 값이 우선)
+  private static final RedisScript<Long> UPSERT = new DefaultRedisScript<>(
+    "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+    "redis.call('ZADD', KEYS[2], 'NX', ARGV[3], ARGV[1]) " +
+    "if redis.call('EXISTS', KEYS[5]) == 1 then " +
+    "  redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1]) " +
+    "  redis.call('ZADD', KEYS[4], 'NX', ARGV[3], ARGV[1]) " +
+    "end " +
+    "return 1",
+    Long.class
+  );
+
+  private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+    "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+    "redis.call('ZREM', KEYS[2], ARGV[1]) " +
+    "if redis.call('EXISTS', KEYS[5]) == 1 then " +
+    "  redis.call('ZREM', KEYS[3], ARGV[1]) " +
+    "  redis.call('ZREM', KEYS[4], ARGV[1]) " +
+    "end " +
+    "return 1",
+    Long.class
+  );
+
+  // 인덱스에 있는 게시글만 조회수 증가 (코드 공개/마감된 게시글은 추가하지 않음)
+  private static final RedisScript<Long> ADD_VIEWS = new DefaultRedisScript<>(
+    "local rebuilding = redis.call('EXISTS', KEYS[3]) == 1 " +
+    "for i = 1, #ARGV, 2 do " +
+    "  if redis.call('ZSCORE', KEYS[1], ARGV[i]) then " +
+    "    redis.call('ZINCRBY', KEYS[1], ARGV[i + 1], ARGV[i]) " +
+    "  end " +
+    "  if rebuilding and redis.call('ZSCORE', KEYS[2], ARGV[i]) then " +
+    "    redis.call('ZINCRBY', KEYS[2], ARGV[i + 1], ARGV[i]) " +
+    "  end " +
+    "end " +
+    "return 1",
+    Long.class
+  );
+
+  // [전체 개수, postId...] (준비되지 않았거나 다시 생성 중이면 nil)
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private static final RedisScript<List> RANGE = new DefaultRedisScript<>(
+    "if redis.call('EXISTS', KEYS[2]) == 0 or redis.call('EXISTS', KEYS[3]) == 1 then " +
+    "  return nil " +
+    "end " +
+    "local ids " +
+    "if ARGV[3] == '1' then " +
+    "  ids = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2]) " +
+    "else " +
+    "  ids = redis.call('ZRANGE', KEYS[1], ARGV[1], ARGV[2]) " +
+    "end " +
+    "table.insert(ids, 1, redis.call('ZCARD', KEYS[1])) " +
+    "return ids",
+    List.class
+  );
+
+  // 새로 만든 인덱스로 교체 (생성을 시작한 노드의 token이 아니면 0)
+  private static final RedisScript<Long> SWAP = new DefaultRedisScript<>(
+    "if redis.call('GET', KEYS[6]) ~= ARGV[1] then return 0 end " +
+    "for i = 1, 2 do " +
+    "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+    "    redis.call('RENAME', KEYS[i], KEYS[i + 2]) " +
+    "  else " +
+    "    redis.call('DEL', KEYS[i + 2]) " +
+    "  end " +
+    "end " +
+    "redis.call('SET', KEYS[5], ARGV[1]) " +
+    "redis.call('DEL', KEYS[6]) " +
+    "return 1",
+    Long.class
+  );
+
+  private static final List<String> WRITE_KEYS = List.of(
+    START_KEY,
+    VIEWS_KEY,
+    TMP_START_KEY,
+    TMP_VIEWS_KEY,
+    REBUILDING_KEY
+  );
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    OpenPostIndex.class
+  );
+
+  private final AtomicBoolean rebuildRequired = new AtomicBoolean(false);
+
+  private final StringRedisTemplate redisTemplate;
+  private final PostRepository postRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final boolean enabled;
+  private final long rebuildTimeoutMs;
+
+  private final Counter hits;
+  private final Counter fallbacks;
+  private final Counter syncFailures;
+  private final Timer rebuildTimer;
+
+  public OpenPostIndex(
+    StringRedisTemplate redisTemplate,
+    PostRepository postRepository,
+    PlatformTransactionManager transactionManager,
+    MeterRegistry meterRegistry,
+    @Value("${post.open-index.enabled:true}") boolean enabled,
+    @Value("${post.open-index.rebuild-timeout-ms:600000}") long rebuildTimeoutMs
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.postRepository = postRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.enabled = enabled;
+    this.rebuildTimeoutMs = rebuildTimeoutMs;
+
+    this.hits =
+      Counter
+        .builder("post.open.index.hits")
+        .description("Redis 인덱스로 처리한 목록 조회 수")
+        .register(meterRegistry);
+    this.fallbacks =
+      Counter
+        .builder("post.open.index.fallbacks")
+        .description("인덱스를 사용할 수 없어 SQL로 처리한 목록 조회 수")
+        .register(meterRegistry);
+    this.syncFailures =
+      Counter
+        .builder("post.open.index.sync.failures")
+        .description("인덱스 반영 실패 횟수")
+        .register(meterRegistry);
+    this.rebuildTimer =
+      Timer
+        .builder("post.open.index.rebuild")
+        .description("인덱스 생성 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 목록 페이지의 postId 조회
+   *
+   * @param pageable startDate 또는 viewcount 정렬
+   * @return postId 페이지 (인덱스를 사용할 수 없으면 빈 값)
+   */
+  public Optional<Page<Long>> findPostIds(Pageable pageable) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    Sort.Order order = getIndexedOrder(pageable.getSort());
+    if (order == null) {
+      return Optional.empty();
+    }
+
+    long start = pageable.getOffset();
+    long stop = start + pageable.getPageSize() - 1;
+    try {
+      List<?> result = redisTemplate.execute(
+        RANGE,
+        List.of(keyOf(order), READY_KEY, REBUILDING_KEY),
+        Long.toString(start),
+        Long.toString(stop),
+        order.isDescending() ? "1" : "0"
+      );
+      if (result == null || result.isEmpty()) {
+        fallbacks.increment();
+        return Optional.empty();
+      }
+      long total = ((Number) result.get(0)).longValue();
+      List<Long> postIds = new ArrayList<>(result.size() - 1);
+      for (Object postId : result.subList(1, result.size())) {
+        postIds.add(Long.valueOf(postId.toString()));
+      }
+      hits.increment();
+      return Optional.of(new PageImpl<>(postIds, pageable, total));
+    } catch (RuntimeException e) {
+      fallbacks.increment();
+      logger.warn("게시글 인덱스를 조회하지 못했습니다. SQL로 조회합니다.", e);
+      return Optional.empty();
+    }
+  }
+
+  // 인덱스로 처리할 수 있는 정렬이면 해당 정렬 조건 반환
+  private Sort.Order getIndexedOrder(Sort sort) {
+    List<Sort.Order> orders = sort.toList();
+    if (orders.size() != 1) {
+      return null;
+    }
+    Sort.Order order = orders.get(0);
+    return "startDate".equals(order.getProperty()) ||
+      "viewcount".equals(order.getProperty())
+      ? order
+      : null;
+  }
+
+  private String keyOf(Sort.Order order) {
+    return "viewcount".equals(order.getProperty()) ? VIEWS_KEY : START_KEY;
+  }
+
+  // 현재 트랜잭션이 커밋된 후 게시글 상태에 맞게 추가/제거
+  public void syncAfterCommit(Post post) {
+    Long postId = post.getPostId();
+    LocalDateTime startDate = post.getStartDate();
+    boolean open =
+      Integer.valueOf(0).equals(post.getReadPermission()) &&
+      !Boolean.TRUE.equals(post.getClosed()) &&
+      (post.getEndDate() == null ||
+        post.getEndDate().isAfter(LocalDateTime.now()));
+    long viewcount = post.getViewcount() == null ? 0 : post.getViewcount();
+    afterCommit(() -> {
+      if (open) {
+        add(postId, startDate, viewcount);
+      } else {
+        remove(postId);
+      }
+    });
+  }
+
+  // 현재 트랜잭션이 커밋된 후 제거
+  public void removeAfterCommit(Long postId) {
+    afterCommit(() -> remove(postId));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        }
+      );
+    } else {
+      action.run();
+    }
+  }
+
+  public void add(Long postId, LocalDateTime startDate, long viewcount) {
+    if (!enabled || postId == null || startDate == null) {
+      return;
+    }
+    write(
+      UPSERT,
+      WRITE_KEYS,
+      postId.toString(),
+      Long.toString(toEpochMilli(startDate)),
+      Long.toString(viewcount)
+    );
+  }
+
+  public void remove(Long postId) {
+    if (!enabled || postId == null) {
+      return;
+    }
+    write(REMOVE, WRITE_KEYS, postId.toString());
+  }
+
+  // 마감 처리된 게시글 제거 (PostCloseScheduler)
+  public void removeClosed(UUID code) {
+    if (!enabled) {
+      return;
+    }
+    try {
+      postRepository
+        .findByCode(code)
+        .ifPresent(post -> remove(post.getPostId()));
+    } catch (DataAccessException e) {
+      markStale(e);
+    }
+  }
+
+  // DB에 반영된 조회수 증가분 반영 (ViewCountService)
+  public void addViews(List<Map.Entry<Long, Long>> deltas) {
+    if (!enabled || deltas.isEmpty()) {
+      return;
+    }
+    String[] args = new String[deltas.size() * 2];
+    int i = 0;
+    for (Map.Entry<Long, Long> delta : deltas) {
+      args[i++] = delta.getKey().toString();
+      args[i++] = delta.getValue().toString();
+    }
+    write(
+      ADD_VIEWS,
+      List.of(VIEWS_KEY, TMP_VIEWS_KEY, REBUILDING_KEY),
+      (Object[]) args
+    );
+  }
+
+  private void write(RedisScript<Long> script, List<String> keys, Object... args) {
+    try {
+      redisTemplate.execute(script, keys, args);
+    } catch (RuntimeException e) {
+      markStale(e);
+    }
+  }
+
+  // 반영하지 못한 변경이 있으면 모든 노드가 SQL을 사용하도록 하고 다시 생성
+  private void markStale(RuntimeException e) {
+    syncFailures.increment();
+    rebuildRequired.set(true);
+    logger.warn("게시글 인덱스에 반영하지 못했습니다. 인덱스를 다시 생성합니다.", e);
+    try {
+      redisTemplate.delete(READY_KEY);
+    } catch (RuntimeException ignored) {
+      // Redis를 사용할 수 없으면 조회도 SQL로 처리됨
+    }
+  }
+
+  // 인덱스가 없거나 반영에 실패한 적이 있으면 다시 생성
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+    initialDelayString = "${post.open-index.check-interval-ms:60000}",
+    fixedDelayString = "${post.open-index.check-interval-ms:60000}"
+  )
+  public void check() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      if (
+        rebuildRequired.getAndSet(false) ||
+        !Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))
+      ) {
+        rebuild();
+      }
+    } catch (RuntimeException e) {
+      rebuildRequired.set(true);
+      logger.warn("게시글 인덱스를 확인하지 못했습니다.", e);
+    }
+  }
+
+  /**
+   * DB에서 인덱스를 다시 생성
+   *  - 임시 key에 만든 뒤 RENAME으로 교체하며, 생성 중에는 모든 노드가 SQL로 조회합니다.
+   *  - 다른 노드가 생성 중이면 false를 반환합니다.
+   *
+   * @return 생성 여부
+   */
+  public boolean rebuild() {
+    String token = UUID.randomUUID().toString();
+    Boolean acquired = redisTemplate
+      .opsForValue()
+      .setIfAbsent(REBUILDING_KEY, token, rebuildTimeoutMs, TimeUnit.MILLISECONDS);
+    if (!Boolean.TRUE.equals(acquired)) {
+      return false;
+    }
+
+    boolean swapped = false;
+    try {
+      long count = rebuildTimer.record(() -> fill());
+      Long result = redisTemplate.execute(
+        SWAP,
+        List.of(
+          TMP_START_KEY,
+          TMP_VIEWS_KEY,
+          START_KEY,
+          VIEWS_KEY,
+          READY_KEY,
+          REBUILDING_KEY
+        ),
+        token
+      );
+      swapped = Long.valueOf(1).equals(result);
+      if (swapped) {
+        logger.info("게시글 인덱스를 생성했습니다. 게시글 {}개", count);
+      } else {
+        logger.warn("게시글 인덱스 생성 시간이 초과되어 교체하지 않았습니다.");
+      }
+      return swapped;
+    } finally {
+      if (!swapped) {
+        rebuildRequired.set(true);
+        redisTemplate.delete(List.of(TMP_START_KEY, TMP_VIEWS_KEY));
+        if (token.equals(redisTemplate.opsForValue().get(REBUILDING_KEY))) {
+          redisTemplate.delete(REBUILDING_KEY);
+        }
+      }
+    }
+  }
+
+  // 임시 key에 진행 중인 게시글 추가 (생성 중 반영된 변경은 NX로 덮어쓰지 않음)
+  private long fill() {
+    redisTemplate.delete(List.of(TMP_START_KEY, TMP_VIEWS_KEY));
+    Long count = readOnlyTransaction.execute(status -> {
+      long total = 0;
+      Set<ZSetOperations.TypedTuple<String>> starts = new HashSet<>();
+      Set<ZSetOperations.TypedTuple<String>> views = new HashSet<>();
+      try (
+        Stream<OpenPostEntry> entries = postRepository.streamOpenPostEntries(
+          0,
+          LocalDateTime.now()
+        )
+      ) {
+        for (OpenPostEntry entry : (Iterable<OpenPostEntry>) entries::iterator) {
+          String postId = entry.getPostId().toString();
+          starts.add(
+            ZSetOperations.TypedTuple.of(
+              postId,
+              (double) toEpochMilli(entry.getStartDate())
+            )
+          );
+          views.add(
+            ZSetOperations.TypedTuple.of(
+              postId,
+              (double) entry.getViewcount()
+            )
+          );
+          total++;
+          if (starts.size() >= REBUILD_BATCH_SIZE) {
+            flushBatch(starts, views);
+          }
+        }
+      }
+      flushBatch(starts, views);
+      return total;
+    });
+    return count == null ? 0 : count;
+  }
+
+  private void flushBatch(
+    Set<ZSetOperations.TypedTuple<String>> starts,
+    Set<ZSetOperations.TypedTuple<String>> views
+  ) {
+    if (starts.isEmpty()) {
+      return;
+    }
+    redisTemplate.opsForZSet().addIfAbsent(TMP_START_KEY, starts);
+    redisTemplate.opsForZSet().addIfAbsent(TMP_VIEWS_KEY, views);
+    starts.clear();
+    views.clear();
+  }
+
+  // 인덱스 상태 (actuator)
+  public Map<String, Object> status() {
+    return Map.of(
+      "enabled",
+      enabled,
+      "ready",
+      Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY)),
+      "rebuilding",
+      Boolean.TRUE.equals(redisTemplate.hasKey(REBUILDING_KEY)),
+      "size",
+      Optional.ofNullable(redisTemplate.opsForZSet().zCard(START_KEY)).orElse(0L)
+    );
+  }
+
+  private long toEpochMilli(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,139 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.repository.PostArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 마감된 게시글 보관 작업
+ *  - 마감 후 min-age-hours가 지난 게시글을 post에서 post_archive로 옮깁니다.
+ *  - chunk-size개씩 별도의 짧은 트랜잭션으로 처리하여 잠금을 오래 잡지 않습니다.
+ *  - 한 번의 실행에서 최대 max-chunks개 chunk까지 처리하고 나머지는 다음 주기에 처리합니다.
+ *  - 보관된 게시글은 상세 페이지와 내가 개설한 게시판 목록에서 계속 조회됩니다.
+ */
+@Service
+public class PostArchiveService {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostArchiveService.class
+  );
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+  private final AtomicLong lagSeconds = new AtomicLong();
+
+  private final PostArchiveRepository postArchiveRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxChunks;
+  private final Duration minAge;
+
+  private final Counter archivedPosts;
+  private final Counter failures;
+  private final Timer chunkTimer;
+
+  public PostArchiveService(
+    PostArchiveRepository postArchiveRepository,
+    PlatformTransactionManager transactionManager,
+    MeterRegistry meterRegistry,
+    @Value("${post.archive.chunk-size:500}") int chunkSize,
+    @Value("${post.archive.max-chunks:100}") int maxChunks,
+    @Value("${post.archive.min-age-hours:24}") long minAgeHours
+  ) {
+    this.postArchiveRepository = postArchiveRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxChunks = maxChunks;
+    this.minAge = Duration.ofHours(minAgeHours);
+
+    this.archivedPosts =
+      Counter
+        .builder("post.archive.archived")
+        .description("보관 테이블로 옮긴 게시글 수")
+        .register(meterRegistry);
+    this.failures =
+      Counter
+        .builder("post.archive.failures")
+        .description("보관 작업 실패 횟수")
+        .register(meterRegistry);
+    this.chunkTimer =
+      Timer
+        .builder("post.archive.chunk")
+        .description("chunk 하나를 옮기는 트랜잭션 시간")
+        .register(meterRegistry);
+
+    Gauge
+      .builder("post.archive.chunk.size", () -> chunkSize)
+      .register(meterRegistry);
+    Gauge
+      .builder("post.archive.lag", lagSeconds, AtomicLong::get)
+      .description("보관 대상이 된 후 아직 옮겨지지 않은 가장 오래된 게시글의 대기 시간")
+      .baseUnit("seconds")
+      .register(meterRegistry);
+  }
+
+  @Scheduled(
+    initialDelayString = "${post.archive.interval-ms:60000}",
+    fixedDelayString = "${post.archive.interval-ms:60000}"
+  )
+  public void archive() {
+    if (!running.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      LocalDateTime cutoff = now.minus(minAge);
+      for (int i = 0; i < maxChunks; i++) {
+        int moved = chunkTimer.record(() -> moveChunk(cutoff, now));
+        archivedPosts.increment(moved);
+        if (moved < chunkSize) {
+          break;
+        }
+      }
+      updateLag(cutoff);
+    } catch (DataAccessException e) {
+      failures.increment();
+      logger.warn("마감된 게시글을 보관하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private int moveChunk(LocalDateTime cutoff, LocalDateTime archivedAt) {
+    Integer moved = transactionTemplate.execute(status -> {
+      List<Long> postIds = postArchiveRepository.lockArchivable(
+        cutoff,
+        chunkSize
+      );
+      if (postIds.isEmpty()) {
+        return 0;
+      }
+      postArchiveRepository.move(postIds, archivedAt);
+      return postIds.size();
+    });
+    return moved == null ? 0 : moved;
+  }
+
+  private void updateLag(LocalDateTime cutoff) {
+    LocalDateTime oldest = postArchiveRepository.findOldestArchivableEndDate(
+      cutoff
+    );
+    lagSeconds.set(
+      oldest == null ? 0 : Duration.between(oldest, cutoff).getSeconds()
+    );
+  }
+}
@@ -0,0 +1,53 @@
+package com.hongsamstick.question.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hongsamstick.question.dto.PostDetailDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 상세 로컬 캐시 (code 기준)
+ *  - 관리 중인 엔티티가 아닌 불변 PostDetailDto를 저장하므로 요청 스레드 간에 안전하게 공유됩니다.
+ *  - 크기와 TTL로 제한되며, 수정/삭제 시 PostChangeNotifier를 통해 모든 노드에서 제거됩니다.
+ *  - 적중/실패/제거 횟수는 cache.* 지표(cache=post)로 확인할 수 있습니다.
+ */
+@Service
+public class PostCache {
+
+  private final Cache<UUID, PostDetailDto> cache;
+
+  public PostCache(
+    PostChangeNotifier postChangeNotifier,
+    MeterRegistry meterRegistry,
+    @Value("${post.cache.maximum-size:10000}") long maximumSize,
+    @Value("${post.cache.ttl-seconds:60}") long ttlSeconds
+  ) {
+    this.cache =
+      Caffeine
+        .newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "post");
+    postChangeNotifier.subscribe(this::evict);
+  }
+
+  // 캐시에 없으면 loader로 조회 후 저장
+  public PostDetailDto get(
+    UUID code,
+    Function<UUID, PostDetailDto> loader
+  ) {
+    return cache.get(code, loader);
+  }
+
+  public void evict(UUID code) {
+    cache.invalidate(code);
+  }
+}
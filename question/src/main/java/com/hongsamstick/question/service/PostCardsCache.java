@@ -0,0 +1,125 @@
+package com.hongsamstick.question.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * index 페이지 게시글 카드 목록의 렌더링 결과 캐시
+ *  - 트래픽이 몰리는 앞쪽 페이지(정렬 기준별)만 저장합니다.
+ *  - 게시글 개설/수정/삭제 알림을 받으면 모든 노드에서 비웁니다.
+ *  - 표시된 게시글 중 가장 빠른 마감 시각이 되면 만료되고, 조회수순은 더 짧은 TTL을 사용합니다.
+ *  - 조회수 표시와 페이지 수는 TTL 동안 늦게 반영될 수 있습니다.
+ */
+@Service
+public class PostCardsCache {
+
+  // 렌더링 결과와 표시된 게시글 중 가장 빠른 마감 시각 (없으면 null)
+  @Getter
+  @AllArgsConstructor
+  public static class Fragment {
+
+    private String html;
+    private LocalDateTime closesAt;
+  }
+
+  private final Cache<String, Fragment> cache;
+  // 비우는 중에 렌더링된 이전 결과가 다시 저장되어도 읽히지 않도록 키에 포함
+  private final AtomicLong generation = new AtomicLong();
+
+  private final boolean enabled;
+  private final int cachedPages;
+
+  public PostCardsCache(
+    PostChangeNotifier postChangeNotifier,
+    MeterRegistry meterRegistry,
+    @Value("${post.cards-cache.enabled:true}") boolean enabled,
+    @Value("${post.cards-cache.pages:3}") int cachedPages,
+    @Value("${post.cards-cache.ttl-seconds:30}") long ttlSeconds,
+    @Value("${post.cards-cache.views-ttl-seconds:5}") long viewsTtlSeconds
+  ) {
+    this.enabled = enabled;
+    this.cachedPages = cachedPages;
+
+    long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    long viewsTtlNanos = Duration.ofSeconds(viewsTtlSeconds).toNanos();
+    this.cache =
+      Caffeine
+        .newBuilder()
+        .maximumSize(200)
+        .expireAfter(
+          new Expiry<String, Fragment>() {
+            @Override
+            public long expireAfterCreate(
+              String key,
+              Fragment fragment,
+              long currentTime
+            ) {
+              long ttl = key.startsWith("views:") ? viewsTtlNanos : ttlNanos;
+              if (fragment.getClosesAt() == null) {
+                return ttl;
+              }
+              long untilClose = Duration
+                .between(LocalDateTime.now(), fragment.getClosesAt())
+                .toNanos();
+              return Math.max(0, Math.min(ttl, untilClose));
+            }
+
+            @Override
+            public long expireAfterUpdate(
+              String key,
+              Fragment fragment,
+              long currentTime,
+              long currentDuration
+            ) {
+              return expireAfterCreate(key, fragment, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(
+              String key,
+              Fragment fragment,
+              long currentTime,
+              long currentDuration
+            ) {
+              return currentDuration;
+            }
+          }
+        )
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.cards");
+    postChangeNotifier.subscribe(code -> invalidateAll());
+  }
+
+  // 캐시 대상 여부 (커서 페이지네이션은 첫 페이지만)
+  public boolean isCacheable(Integer page, String cursor) {
+    if (!enabled) {
+      return false;
+    }
+    return page == null ? cursor == null : page >= 0 && page < cachedPages;
+  }
+
+  // 캐시에 없으면 renderer로 렌더링 후 저장 (같은 키의 동시 렌더링은 한 번만 실행)
+  // 카드 목록은 로그인 여부와 무관하므로 회원과 익명 사용자가 같은 결과를 공유
+  public String get(String sort, Integer page, Supplier<Fragment> renderer) {
+    String key =
+      sort + ":" + (page == null ? "cursor" : page) + ":" + generation.get();
+    return cache.get(key, k -> renderer.get()).getHtml();
+  }
+
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    cache.invalidateAll();
+  }
+}
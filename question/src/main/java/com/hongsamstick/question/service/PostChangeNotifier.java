@@ -0,0 +1,80 @@
+package com.hongsamstick.question.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 변경 알림
+ *  - 트랜잭션 커밋 후 변경된 게시글 code를 Redis 채널에 발행합니다.
+ *  - 모든 노드(발행한 노드 포함)가 구독 중이므로 각 노드의 로컬 캐시 등이 함께 갱신됩니다.
+ *  - Redis에 발행하지 못하면 최소한 현재 노드의 구독자에게는 직접 전달합니다.
+ */
+@Service
+public class PostChangeNotifier {
+
+  public static final String CHANNEL = "post:changed";
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostChangeNotifier.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final List<Consumer<UUID>> localSubscribers = new CopyOnWriteArrayList<>();
+
+  public PostChangeNotifier(
+    StringRedisTemplate redisTemplate,
+    RedisMessageListenerContainer listenerContainer
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.listenerContainer = listenerContainer;
+  }
+
+  // 게시글 변경 알림 구독
+  public void subscribe(Consumer<UUID> subscriber) {
+    localSubscribers.add(subscriber);
+    listenerContainer.addMessageListener(
+      (message, pattern) -> {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        subscriber.accept(UUID.fromString(body));
+      },
+      new ChannelTopic(CHANNEL)
+    );
+  }
+
+  // 현재 트랜잭션이 커밋된 후 변경 알림 발행
+  public void publishAfterCommit(UUID code) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publish(code);
+          }
+        }
+      );
+    } else {
+      publish(code);
+    }
+  }
+
+  public void publish(UUID code) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL, code.toString());
+    } catch (RuntimeException e) {
+      logger.warn("게시글 변경 알림을 발행하지 못했습니다. code : " + code, e);
+      localSubscribers.forEach(subscriber -> subscriber.accept(code));
+    }
+  }
+}
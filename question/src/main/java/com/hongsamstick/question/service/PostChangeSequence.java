@@ -0,0 +1,115 @@
+package com.hongsamstick.question.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 목록 전체의 변경 번호
+ *  - 게시글 개설/수정/삭제와 마감 시 Redis INCR로 증가시키고 모든 노드에 알립니다.
+ *    조회수 반영으로는 증가시키지 않으므로 목록의 조회수는 304 응답에서 늦게 반영될 수 있습니다.
+ *  - 각 노드는 받은 값을 로컬에 보관하므로 current()는 네트워크 왕복 없이 동작합니다.
+ *  - Redis를 사용할 수 없는 동안에는 노드별 값으로 바뀌어, 다른 노드나 이전 값과 겹치지 않습니다.
+ */
+@Service
+public class PostChangeSequence {
+
+  public static final String KEY = "post:change-seq";
+  public static final String CHANNEL = "post:sequence";
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostChangeSequence.class
+  );
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong localChanges = new AtomicLong();
+  private volatile boolean degraded;
+
+  private final StringRedisTemplate redisTemplate;
+
+  public PostChangeSequence(
+    StringRedisTemplate redisTemplate,
+    RedisMessageListenerContainer listenerContainer
+  ) {
+    this.redisTemplate = redisTemplate;
+    listenerContainer.addMessageListener(
+      (message, pattern) ->
+        observe(
+          Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))
+        ),
+      new ChannelTopic(CHANNEL)
+    );
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    try {
+      String value = redisTemplate.opsForValue().get(KEY);
+      observe(value == null ? 0 : Long.parseLong(value));
+    } catch (RuntimeException e) {
+      degrade(e);
+    }
+  }
+
+  // 현재 변경 번호 (ETag 계산용)
+  public String current() {
+    long value = sequence.get();
+    return degraded
+      ? value + "-" + instanceId + "-" + localChanges.get()
+      : Long.toString(value);
+  }
+
+  // 현재 트랜잭션이 커밋된 후 변경 번호 증가
+  public void advanceAfterCommit() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            advance();
+          }
+        }
+      );
+    } else {
+      advance();
+    }
+  }
+
+  public void advance() {
+    try {
+      Long next = redisTemplate.opsForValue().increment(KEY);
+      if (next == null) {
+        throw new IllegalStateException("INCR 결과가 없습니다.");
+      }
+      observe(next);
+      redisTemplate.convertAndSend(CHANNEL, next.toString());
+    } catch (RuntimeException e) {
+      degrade(e);
+    }
+  }
+
+  // 더 큰 값을 받으면 그 이전 상태의 번호는 다시 나오지 않으므로 정상 상태로 복귀
+  private void observe(long value) {
+    long previous = sequence.getAndAccumulate(value, Math::max);
+    if (value > previous) {
+      degraded = false;
+    }
+  }
+
+  private void degrade(RuntimeException e) {
+    localChanges.incrementAndGet();
+    degraded = true;
+    logger.warn("게시글 변경 번호를 갱신하지 못했습니다. 노드별 번호를 사용합니다.", e);
+  }
+}
@@ -0,0 +1,212 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.dto.PostDeadline;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.util.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 마감 스케줄러
+ *  - 시작 시 마감 예정인 게시글을 타이밍 휠에 등록하고, tick-ms마다 휠을 진행합니다.
+ *  - 게시글이 개설/수정/삭제되면 PostChangeNotifier 알림을 받아 모든 노드에서 다시 등록/취소합니다.
+ *  - 마감 시각이 되면 closed 플래그를 변경하고, 변경에 성공한 노드가 변경 알림(캐시 제거),
+ *    목록 변경 번호 증가, PostClosedEvent 발행을 한 번씩 수행합니다.
+ *  - 등록/취소는 O(1)이며 마감 시각을 확인하기 위한 주기적인 조회 쿼리가 없습니다.
+ */
+@Service
+public class PostCloseScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostCloseScheduler.class
+  );
+
+  private final Map<UUID, HierarchicalTimingWheel.Timeout<UUID>> timeouts = new ConcurrentHashMap<>();
+  private final HierarchicalTimingWheel<UUID> wheel;
+  private final ScheduledExecutorService ticker;
+  private final long tickMs;
+
+  private final PostRepository postRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final PostChangeNotifier postChangeNotifier;
+  private final PostChangeSequence postChangeSequence;
+  private final OpenPostIndex openPostIndex;
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final Counter closedPosts;
+  private final Timer closeDelay;
+
+  public PostCloseScheduler(
+    PostRepository postRepository,
+    PlatformTransactionManager transactionManager,
+    PostChangeNotifier postChangeNotifier,
+    PostChangeSequence postChangeSequence,
+    OpenPostIndex openPostIndex,
+    ApplicationEventPublisher eventPublisher,
+    MeterRegistry meterRegistry,
+    @Value("${post.close.tick-ms:1000}") long tickMs
+  ) {
+    this.postRepository = postRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.postChangeNotifier = postChangeNotifier;
+    this.postChangeSequence = postChangeSequence;
+    this.openPostIndex = openPostIndex;
+    this.eventPublisher = eventPublisher;
+    this.tickMs = tickMs;
+    this.wheel = new HierarchicalTimingWheel<>(tickMs, System.currentTimeMillis());
+    this.ticker =
+      Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-close-ticker");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+    this.closedPosts =
+      Counter
+        .builder("post.close.closed")
+        .description("마감 처리한 게시글 수")
+        .register(meterRegistry);
+    this.closeDelay =
+      Timer
+        .builder("post.close.delay")
+        .description("마감 시각부터 마감 처리까지 걸린 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("post.close.pending", wheel, HierarchicalTimingWheel::size)
+      .description("마감 대기 중인 게시글 수")
+      .register(meterRegistry);
+
+    postChangeNotifier.subscribe(this::refresh);
+  }
+
+  // 이미 지난 마감을 처리하고 마감 예정인 게시글을 등록한 뒤 휠 진행 시작
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      Integer closed = transactionTemplate.execute(status ->
+        postRepository.closeAllEnded(now)
+      );
+      if (closed != null && closed > 0) {
+        postChangeSequence.advance();
+        logger.info("마감 시각이 지난 게시글 {}개를 마감 처리했습니다.", closed);
+      }
+      transactionTemplate.executeWithoutResult(status -> {
+        try (
+          Stream<PostDeadline> deadlines = postRepository.streamUpcomingDeadlines(
+            now
+          )
+        ) {
+          deadlines.forEach(deadline ->
+            schedule(deadline.getCode(), deadline.getEndDate())
+          );
+        }
+      });
+      logger.info("마감 예정인 게시글 {}개를 등록했습니다.", wheel.size());
+    } catch (DataAccessException e) {
+      logger.warn("마감 예정인 게시글을 불러오지 못했습니다.", e);
+    }
+    ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+  }
+
+  // 마감 시각 등록 (기존 등록은 취소, endDate가 null이면 취소만)
+  public void schedule(UUID code, LocalDateTime endDate) {
+    HierarchicalTimingWheel.Timeout<UUID> previous = endDate == null
+      ? timeouts.remove(code)
+      : timeouts.put(code, wheel.schedule(code, toEpochMilli(endDate)));
+    if (previous != null) {
+      previous.cancel();
+    }
+  }
+
+  public void cancel(UUID code) {
+    schedule(code, null);
+  }
+
+  // 변경된 게시글의 마감 시각을 DB에서 다시 읽어 등록 (삭제/마감된 게시글은 취소)
+  private void refresh(UUID code) {
+    try {
+      Optional<PostDeadline> deadline = postRepository.findOpenDeadlineByCode(
+        code
+      );
+      schedule(code, deadline.map(PostDeadline::getEndDate).orElse(null));
+    } catch (DataAccessException e) {
+      logger.warn("게시글 마감 시각을 갱신하지 못했습니다. code : " + code, e);
+    }
+  }
+
+  private void tick() {
+    try {
+      List<HierarchicalTimingWheel.Timeout<UUID>> expired = wheel.advanceTo(
+        System.currentTimeMillis()
+      );
+      for (HierarchicalTimingWheel.Timeout<UUID> timeout : expired) {
+        close(timeout);
+      }
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 이후 tick이 실행되지 않으므로 기록만 함
+      logger.warn("게시글 마감 처리 중 오류가 발생했습니다.", e);
+    }
+  }
+
+  private void close(HierarchicalTimingWheel.Timeout<UUID> timeout) {
+    UUID code = timeout.getValue();
+    if (!timeouts.remove(code, timeout)) {
+      return; // 만료 직전에 다시 등록되었거나 취소됨
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    Integer updated = transactionTemplate.execute(status ->
+      postRepository.closeIfEnded(code, now)
+    );
+    if (updated == null || updated == 0) {
+      return; // 다른 노드가 먼저 처리했거나 마감이 연장됨
+    }
+
+    LocalDateTime endDate = LocalDateTime.ofInstant(
+      Instant.ofEpochMilli(timeout.getDeadlineMs()),
+      ZoneId.systemDefault()
+    );
+    closedPosts.increment();
+    closeDelay.record(Duration.between(endDate, now));
+    postChangeNotifier.publish(code); // 모든 노드의 캐시 제거
+    postChangeSequence.advance(); // 목록 ETag 갱신
+    openPostIndex.removeClosed(code); // 전체 공개 목록 인덱스에서 제거
+    eventPublisher.publishEvent(new PostClosedEvent(code, endDate));
+  }
+
+  private long toEpochMilli(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    ticker.shutdownNow();
+  }
+}
@@ -0,0 +1,18 @@
+package com.hongsamstick.question.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 마감 이벤트
+ *  - 마감 시각에 closed 플래그를 변경한 노드에서 한 번 발행됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostClosedEvent {
+
+  private UUID code;
+  private LocalDateTime endDate;
+}
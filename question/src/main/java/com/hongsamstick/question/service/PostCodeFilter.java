@@ -0,0 +1,222 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.repository.ArchivedPostRepository;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.util.BloomFilter;
+import com.hongsamstick.question.util.TimeOrderedUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 존재하는 게시글 code의 Bloom filter
+ *  - 확실히 없는 code는 DB를 조회하지 않고 바로 404로 처리합니다.
+ *  - 시작 시와 rebuild-interval-ms마다 DB(post, post_archive)에서 다시 생성하며, 삭제된 code는 이때 정리됩니다.
+ *  - 개설된 code는 커밋 후 현재 노드에 바로 추가되고, 다른 노드에는 PostChangeNotifier로 전달됩니다.
+ *  - 알림을 놓친 노드가 새 게시글을 404로 처리하지 않도록, 필터 생성을 시작한 시각
+ *    (clock-skew-ms 여유 포함) 이후에 만들어진 UUIDv7 code는 필터 결과와 관계없이 DB에서 확인합니다.
+ *    생성 시각이 현재(clock-skew-ms 여유 포함)보다 미래인 code는 발급될 수 없으므로 필터 결과를 믿습니다.
+ */
+@Service
+public class PostCodeFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostCodeFilter.class
+  );
+
+  private final Object lock = new Object();
+
+  private final PostRepository postRepository;
+  private final ArchivedPostRepository archivedPostRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final long expectedInsertions;
+  private final double falsePositiveRate;
+  private final long clockSkewMs;
+
+  // 생성 전에는 null이며, 이때는 모든 code를 DB에서 확인
+  private volatile BloomFilter filter;
+  // 생성 중에 추가된 code도 새 필터에 반영하기 위한 참조
+  private BloomFilter building;
+  // 현재 필터가 포함을 보장하는 code의 생성 시각 상한
+  private volatile long trustedUntilMs;
+
+  private final Counter rejections;
+  private final Timer rebuildTimer;
+
+  public PostCodeFilter(
+    PostRepository postRepository,
+    ArchivedPostRepository archivedPostRepository,
+    PlatformTransactionManager transactionManager,
+    PostChangeNotifier postChangeNotifier,
+    MeterRegistry meterRegistry,
+    @Value(
+      "${post.code-filter.expected-insertions:1000000}"
+    ) long expectedInsertions,
+    @Value("${post.code-filter.fpp:0.001}") double falsePositiveRate,
+    @Value("${post.code-filter.clock-skew-ms:300000}") long clockSkewMs
+  ) {
+    this.postRepository = postRepository;
+    this.archivedPostRepository = archivedPostRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.clockSkewMs = clockSkewMs;
+
+    this.rejections =
+      Counter
+        .builder("post.code.filter.rejections")
+        .description("DB 조회 없이 404로 처리한 code 수")
+        .register(meterRegistry);
+    this.rebuildTimer =
+      Timer
+        .builder("post.code.filter.rebuild")
+        .description("code 필터 생성 시간")
+        .register(meterRegistry);
+
+    Gauge
+      .builder("post.code.filter.memory", this, f -> f.measure(BloomFilter::getMemoryBytes))
+      .baseUnit("bytes")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.code.filter.elements", this, f -> f.measure(BloomFilter::approximateElementCount))
+      .description("필터에 추가된 code 수 (추정)")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.code.filter.fpp", this, f -> f.measure(BloomFilter::estimatedFpp))
+      .description("현재 채워진 비율로 추정한 오탐률")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.code.filter.fpp.target", () -> falsePositiveRate)
+      .register(meterRegistry);
+
+    postChangeNotifier.subscribe(this::add);
+  }
+
+  // 확실히 존재하지 않는 code인지 확인 (false이면 DB에서 확인해야 함)
+  public boolean isDefinitelyAbsent(UUID code) {
+    BloomFilter current = filter;
+    if (current == null || current.mightContain(code)) {
+      return false;
+    }
+    if (isNewerThanFilter(code)) {
+      return false; // 필터 생성 이후의 code일 수 있음
+    }
+    rejections.increment();
+    return true;
+  }
+
+  // 필터 생성 이후에 개설되었을 수 있는 code인지 확인
+  // UUIDv7이 아니거나 생성 시각이 미래인 code(임의 추측, 오타)는 필터 결과를 그대로 믿음
+  private boolean isNewerThanFilter(UUID code) {
+    if (code.version() != 7) {
+      return false;
+    }
+    long createdAt = TimeOrderedUuid.timestampOf(code);
+    return (
+      createdAt >= trustedUntilMs &&
+      createdAt <= System.currentTimeMillis() + clockSkewMs
+    );
+  }
+
+  // 현재 트랜잭션이 커밋된 후 code 추가
+  public void addAfterCommit(UUID code) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            add(code);
+          }
+        }
+      );
+    } else {
+      add(code);
+    }
+  }
+
+  // 수정/삭제 알림으로 이미 있는 code가 다시 추가되어도 결과는 같음
+  public void add(UUID code) {
+    synchronized (lock) {
+      BloomFilter current = filter;
+      if (current != null) {
+        current.put(code);
+      }
+      if (building != null) {
+        building.put(code);
+      }
+    }
+  }
+
+  // DB의 모든 code로 필터를 새로 생성한 뒤 교체
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+    initialDelayString = "${post.code-filter.rebuild-interval-ms:3600000}",
+    fixedDelayString = "${post.code-filter.rebuild-interval-ms:3600000}"
+  )
+  public void rebuild() {
+    try {
+      rebuildTimer.record(this::doRebuild);
+    } catch (DataAccessException e) {
+      logger.warn("게시글 code 필터를 생성하지 못했습니다. 기존 필터를 유지합니다.", e);
+      synchronized (lock) {
+        building = null;
+      }
+    }
+  }
+
+  private void doRebuild() {
+    long startedAt = System.currentTimeMillis();
+    long count = postRepository.count() + archivedPostRepository.count();
+    BloomFilter next = new BloomFilter(
+      Math.max(expectedInsertions, count * 2),
+      falsePositiveRate
+    );
+    synchronized (lock) {
+      building = next;
+    }
+
+    // 생성 시작 이후에 커밋된 code는 add()로 next에도 추가됨
+    // 보관된 게시글도 상세 페이지에서 조회되므로 함께 추가
+    readOnlyTransaction.executeWithoutResult(status -> {
+      try (Stream<UUID> codes = postRepository.streamAllCodes()) {
+        codes.forEach(next::put);
+      }
+      try (Stream<UUID> codes = archivedPostRepository.streamAllCodes()) {
+        codes.forEach(next::put);
+      }
+    });
+
+    synchronized (lock) {
+      filter = next;
+      building = null;
+      trustedUntilMs = startedAt - clockSkewMs;
+    }
+    logger.info(
+      "게시글 code 필터를 생성했습니다. code 수 : {}, 메모리 : {} bytes",
+      count,
+      next.getMemoryBytes()
+    );
+  }
+
+  private double measure(ToDoubleFunction<BloomFilter> metric) {
+    BloomFilter current = filter;
+    return current == null ? 0 : metric.applyAsDouble(current);
+  }
+}
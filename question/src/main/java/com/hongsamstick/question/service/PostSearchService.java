@@ -0,0 +1,400 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.dto.PostSearchDocument;
+import com.hongsamstick.question.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 제목/본문 전문 검색 (노드별 Lucene 색인)
+ *  - 한글/한자는 2글자 단위(bigram), 영문/숫자는 단어 단위로 색인하여 LIKE 없이 부분 일치를 찾습니다.
+ *  - 게시글 변경 알림을 받은 code를 모아 refresh-ms마다 DB에서 다시 읽어 색인을 갱신합니다.
+ *  - 색인은 index-dir에 저장하며 commit-interval-ms마다 커밋합니다.
+ *    재시작 시 마지막 커밋 이후 수정된 게시글만 다시 색인하고, 색인이 비어 있으면 전체를 생성합니다.
+ *  - 검색은 전체 공개이면서 마감되지 않은 게시글만 대상으로 하며, 마감된 문서는 커밋할 때 정리합니다.
+ *  - 색인 디렉터리는 노드마다 따로 사용해야 합니다. (쓰기 잠금)
+ */
+@Service
+public class PostSearchService {
+
+  private static final String CODE = "code";
+  private static final String POST_ID = "postId";
+  private static final String TITLE = "title";
+  private static final String CONTENT = "content";
+  private static final String READ_PERMISSION = "readPermission";
+  private static final String START_DATE = "startDate";
+  private static final String END_DATE = "endDate";
+
+  // 커밋 데이터에 기록하는 마지막 커밋 시각
+  private static final String COMMITTED_AT = "committedAt";
+  // 커밋 직전에 커밋된 트랜잭션이나 노드 간 시계 차이를 고려한 따라잡기 여유 시간
+  private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+  // 검색어에서 사용하는 최대 토큰 수
+  private static final int MAX_QUERY_TERMS = 32;
+  private static final float TITLE_BOOST = 2.0f;
+
+  private static final Sort ORDER = new Sort(
+    SortField.FIELD_SCORE,
+    new SortField(START_DATE, SortField.Type.LONG, true)
+  );
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostSearchService.class
+  );
+
+  // 변경 알림을 받았지만 아직 색인에 반영하지 않은 code
+  private final Set<UUID> pendingCodes = ConcurrentHashMap.newKeySet();
+
+  private final PostRepository postRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Analyzer analyzer = new CJKAnalyzer();
+  private final Directory directory;
+  private final IndexWriter writer;
+  private final SearcherManager searcherManager;
+  private final int maxResults;
+
+  private final Counter indexedPosts;
+  private final Timer searchTimer;
+  private final Timer rebuildTimer;
+
+  public PostSearchService(
+    PostRepository postRepository,
+    PlatformTransactionManager transactionManager,
+    PostChangeNotifier postChangeNotifier,
+    MeterRegistry meterRegistry,
+    @Value("${post.search.index-dir:data/post-search}") String indexDir,
+    @Value("${post.search.max-results:1000}") int maxResults
+  ) throws IOException {
+    this.postRepository = postRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.maxResults = maxResults;
+    this.directory = FSDirectory.open(Path.of(indexDir));
+    this.writer =
+      new IndexWriter(
+        directory,
+        new IndexWriterConfig(analyzer)
+          .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+      );
+    this.searcherManager = new SearcherManager(writer, null);
+
+    this.indexedPosts =
+      Counter
+        .builder("post.search.indexed")
+        .description("검색 색인에 반영한 게시글 수")
+        .register(meterRegistry);
+    this.searchTimer =
+      Timer
+        .builder("post.search.query")
+        .description("게시글 검색 시간")
+        .register(meterRegistry);
+    this.rebuildTimer =
+      Timer
+        .builder("post.search.rebuild")
+        .description("검색 색인 생성/따라잡기 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("post.search.docs", writer, w -> w.getDocStats().numDocs)
+      .description("검색 색인의 문서 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.search.pending", pendingCodes, Set::size)
+      .description("검색 색인 반영 대기 중인 게시글 수")
+      .register(meterRegistry);
+
+    postChangeNotifier.subscribe(pendingCodes::add);
+  }
+
+  /**
+   * 검색어와 일치하는 진행 중인 전체 공개 게시글의 postId 조회
+   *  - 관련도 순, 같으면 최신 게시글 순입니다.
+   *  - 최대 max-results개까지만 페이지로 나눕니다.
+   *
+   * @return postId 페이지 (검색어에서 토큰을 얻지 못하면 빈 페이지)
+   */
+  public Page<Long> search(String keyword, Pageable pageable) {
+    List<String> terms = tokenize(keyword);
+    if (terms.isEmpty() || pageable.getOffset() >= maxResults) {
+      return new PageImpl<>(List.of(), pageable, 0);
+    }
+    return searchTimer.record(() -> {
+      try {
+        return search(terms, pageable);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private Page<Long> search(List<String> terms, Pageable pageable)
+    throws IOException {
+    BooleanQuery.Builder query = new BooleanQuery.Builder();
+    for (String term : terms) {
+      // 모든 토큰이 제목 또는 본문에 있어야 함
+      query.add(
+        new BooleanQuery.Builder()
+          .add(
+            new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_BOOST),
+            BooleanClause.Occur.SHOULD
+          )
+          .add(new TermQuery(new Term(CONTENT, term)), BooleanClause.Occur.SHOULD)
+          .build(),
+        BooleanClause.Occur.MUST
+      );
+    }
+    query.add(
+      IntPoint.newExactQuery(READ_PERMISSION, 0),
+      BooleanClause.Occur.FILTER
+    );
+    query.add(
+      LongPoint.newRangeQuery(
+        END_DATE,
+        System.currentTimeMillis() + 1,
+        Long.MAX_VALUE
+      ),
+      BooleanClause.Occur.FILTER
+    );
+
+    int end = (int) Math.min(
+      maxResults,
+      pageable.getOffset() + pageable.getPageSize()
+    );
+    IndexSearcher searcher = searcherManager.acquire();
+    try {
+      TopDocs topDocs = searcher.search(query.build(), end, ORDER, false);
+      List<Long> postIds = new ArrayList<>(pageable.getPageSize());
+      for (int i = (int) pageable.getOffset(); i < topDocs.scoreDocs.length; i++) {
+        ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+        Document document = searcher.storedFields().document(scoreDoc.doc);
+        postIds.add(document.getField(POST_ID).numericValue().longValue());
+      }
+      long total = Math.min(maxResults, topDocs.totalHits.value);
+      return new PageImpl<>(postIds, pageable, total);
+    } finally {
+      searcherManager.release(searcher);
+    }
+  }
+
+  // 색인과 같은 분석기로 검색어를 토큰으로 분리 (중복 제거)
+  private List<String> tokenize(String keyword) {
+    if (keyword == null || keyword.isBlank()) {
+      return List.of();
+    }
+    Set<String> terms = new LinkedHashSet<>();
+    try (TokenStream stream = analyzer.tokenStream(CONTENT, keyword)) {
+      CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+      stream.reset();
+      while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+        terms.add(term.toString());
+      }
+      stream.end();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new ArrayList<>(terms);
+  }
+
+  // 검색 결과에서 더 이상 진행 중이 아닌 것으로 확인된 게시글 제거
+  public void remove(Long postId) {
+    try {
+      writer.deleteDocuments(LongPoint.newExactQuery(POST_ID, postId));
+    } catch (IOException e) {
+      logger.warn("검색 색인에서 게시글을 제거하지 못했습니다. postId : " + postId, e);
+    }
+  }
+
+  // 변경 알림을 받은 게시글을 DB에서 다시 읽어 색인 갱신
+  @Scheduled(fixedDelayString = "${post.search.refresh-ms:1000}")
+  public void refresh() {
+    List<UUID> codes = new ArrayList<>(pendingCodes);
+    if (codes.isEmpty()) {
+      return;
+    }
+    pendingCodes.removeAll(codes);
+    try {
+      List<PostSearchDocument> documents = postRepository.findSearchDocumentsByCodeIn(
+        codes
+      );
+      Set<UUID> deleted = new LinkedHashSet<>(codes);
+      for (PostSearchDocument document : documents) {
+        deleted.remove(document.getCode());
+        index(document);
+      }
+      for (UUID code : deleted) {
+        writer.deleteDocuments(new Term(CODE, code.toString()));
+      }
+      searcherManager.maybeRefresh();
+    } catch (DataAccessException | IOException e) {
+      pendingCodes.addAll(codes); // 다음 주기에 다시 시도
+      logger.warn("검색 색인을 갱신하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+    }
+  }
+
+  // 게시글 문서 추가/교체 (마감된 게시글은 제거)
+  private void index(PostSearchDocument post) throws IOException {
+    Term code = new Term(CODE, post.getCode().toString());
+    long endDate = post.getEndDate() == null
+      ? Long.MAX_VALUE
+      : toEpochMilli(post.getEndDate());
+    if (
+      Boolean.TRUE.equals(post.getClosed()) ||
+      endDate <= System.currentTimeMillis()
+    ) {
+      writer.deleteDocuments(code);
+      return;
+    }
+
+    Document document = new Document();
+    document.add(new StringField(CODE, code.text(), Field.Store.NO));
+    document.add(new LongPoint(POST_ID, post.getPostId()));
+    document.add(new StoredField(POST_ID, post.getPostId()));
+    document.add(new TextField(TITLE, post.getTitle(), Field.Store.NO));
+    document.add(new TextField(CONTENT, post.getContent(), Field.Store.NO));
+    document.add(new IntPoint(READ_PERMISSION, post.getReadPermission()));
+    document.add(
+      new NumericDocValuesField(START_DATE, toEpochMilli(post.getStartDate()))
+    );
+    document.add(new LongPoint(END_DATE, endDate));
+    writer.updateDocument(code, document);
+    indexedPosts.increment();
+  }
+
+  private long toEpochMilli(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  // 마감된 문서를 정리하고 마지막 커밋 시각과 함께 디스크에 커밋
+  @Scheduled(
+    initialDelayString = "${post.search.commit-interval-ms:60000}",
+    fixedDelayString = "${post.search.commit-interval-ms:60000}"
+  )
+  public void commit() {
+    try {
+      long now = System.currentTimeMillis();
+      writer.deleteDocuments(LongPoint.newRangeQuery(END_DATE, Long.MIN_VALUE, now));
+      writer.setLiveCommitData(Map.of(COMMITTED_AT, Long.toString(now)).entrySet());
+      writer.commit();
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      logger.warn("검색 색인을 커밋하지 못했습니다.", e);
+    }
+  }
+
+  // 색인이 비어 있으면 전체 생성, 아니면 마지막 커밋 이후 수정된 게시글만 다시 색인
+  // (그 사이 삭제된 게시글은 검색 결과를 채울 때 확인되어 제거됨)
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    String committedAt = committedAt();
+    try {
+      rebuildTimer.record(() -> {
+        readOnlyTransaction.executeWithoutResult(status -> {
+          try (
+            Stream<PostSearchDocument> documents = committedAt == null
+              ? postRepository.streamSearchDocuments(LocalDateTime.now())
+              : postRepository.streamSearchDocumentsUpdatedAfter(
+                since(Long.parseLong(committedAt))
+              )
+          ) {
+            documents.forEach(document -> {
+              try {
+                index(document);
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+          }
+        });
+      });
+      commit();
+      logger.info(
+        committedAt == null
+          ? "검색 색인을 생성했습니다. 문서 {}개"
+          : "검색 색인을 마지막 커밋 이후 변경분으로 갱신했습니다. 문서 {}개",
+        writer.getDocStats().numDocs
+      );
+    } catch (DataAccessException | UncheckedIOException e) {
+      logger.warn("검색 색인을 불러오지 못했습니다.", e);
+    }
+  }
+
+  private LocalDateTime since(long committedAtMs) {
+    return LocalDateTime
+      .ofInstant(Instant.ofEpochMilli(committedAtMs), ZoneId.systemDefault())
+      .minus(CATCH_UP_MARGIN);
+  }
+
+  private String committedAt() {
+    for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+      if (COMMITTED_AT.equals(entry.getKey())) {
+        return entry.getValue();
+      }
+    }
+    return null;
+  }
+
+  @PreDestroy
+  public void shutdown() throws IOException {
+    commit();
+    searcherManager.close();
+    writer.close();
+    directory.close();
+  }
+}
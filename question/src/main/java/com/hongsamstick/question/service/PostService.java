@@ -1,15 +1,35 @@
 package com.hongsamstick.question.service;
 
+import com.hongsamstick.question.domain.ArchivedPost;
 import com.hongsamstick.question.domain.Member;
 import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostCursor;
+import com.hongsamstick.question.dto.PostCursorPage;
+import com.hongsamstick.question.dto.PostDetailDto;
 import com.hongsamstick.question.dto.PostDto;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import com.hongsamstick.question.exception.PostNotFoundException;
+import com.hongsamstick.question.repository.ArchivedPostRepository;
 import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import com.hongsamstick.question.util.SingleFlight;
+import com.hongsamstick.question.util.SpaceSaving;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -18,19 +38,105 @@ import org.springframework.stereotype.Service;
 public class PostService {
 
   private final PostRepository postRepository;
+  private final ArchivedPostRepository archivedPostRepository;
+  private final PostCache postCache;
+  private final PostChangeNotifier postChangeNotifier;
+  private final PostCodeFilter postCodeFilter;
+  private final PostChangeSequence postChangeSequence;
+  private final OpenPostIndex openPostIndex;
+  private final HotRankingService hotRankingService;
+  private final TrendingPostService trendingPostService;
+  private final PostSearchService postSearchService;
+  private final PostSuggestService postSuggestService;
+  private final QuestionRepository questionRepository;
+  private final PostStreamService postStreamService;
 
-  public PostService(PostRepository postRepository) {
+  // 마지막으로 채운 실시간 인기 게시글 (스냅샷이 바뀔 때만 다시 조회)
+  private volatile TrendingPostService.Snapshot trendingSnapshot;
+  private volatile List<PostSummaryDto> trendingPosts = List.of();
+
+  // 같은 code에 대한 동시 조회는 DB 쿼리 한 번으로 합침
+  private final SingleFlight<UUID, PostDetailDto> postLoads = new SingleFlight<>();
+  private final SingleFlight<UUID, Post> joinLoads = new SingleFlight<>();
+
+  public PostService(
+    PostRepository postRepository,
+    ArchivedPostRepository archivedPostRepository,
+    PostCache postCache,
+    PostChangeNotifier postChangeNotifier,
+    PostCodeFilter postCodeFilter,
+    PostChangeSequence postChangeSequence,
+    OpenPostIndex openPostIndex,
+    HotRankingService hotRankingService,
+    TrendingPostService trendingPostService,
+    PostSearchService postSearchService,
+    PostSuggestService postSuggestService,
+    QuestionRepository questionRepository,
+    PostStreamService postStreamService
+  ) {
     this.postRepository = postRepository;
+    this.archivedPostRepository = archivedPostRepository;
+    this.postCache = postCache;
+    this.postChangeNotifier = postChangeNotifier;
+    this.postCodeFilter = postCodeFilter;
+    this.postChangeSequence = postChangeSequence;
+    this.openPostIndex = openPostIndex;
+    this.hotRankingService = hotRankingService;
+    this.trendingPostService = trendingPostService;
+    this.postSearchService = postSearchService;
+    this.postSuggestService = postSuggestService;
+    this.questionRepository = questionRepository;
+    this.postStreamService = postStreamService;
+  }
+
+  // 확실히 존재하지 않는 code이면 DB 조회 없이 404
+  public void checkPostCode(UUID code) {
+    if (postCodeFilter.isDefinitelyAbsent(code)) {
+      throw new PostNotFoundException(code);
+    }
+  }
+
+  // 로컬 캐시를 거쳐 게시글 조회 (캐시된 불변 상세 정보)
+  public PostDetailDto getPostByCode(UUID code) {
+    checkPostCode(code);
+    return postCache.get(
+      code,
+      key -> postLoads.execute(key, () -> loadPostByCode(key))
+    );
   }
 
-  public Post getPostByCode(UUID code) {
+  // 상세 페이지에서 개설자 정보를 표시하므로 개설자를 함께 조회
+  // 마감 후 보관된 게시글이면 보관 테이블에서 조회
+  // 캐시에는 엔티티 대신 조회 시점의 값을 복사한 불변 DTO를 저장
+  private PostDetailDto loadPostByCode(UUID code) {
     return postRepository
-      .findByCode(code)
+      .findWithMemberByCode(code)
+      .or(() ->
+        archivedPostRepository.findByCode(code).map(ArchivedPost::toPost)
+      )
+      .map(this::convertPostToPostDetailDto)
       .orElseThrow(() ->
         new EntityNotFoundException("게시판을 찾을 수 없습니다." + code)
       );
   }
 
+  public PostDetailDto convertPostToPostDetailDto(Post post) {
+    return new PostDetailDto(
+      post.getPostId(),
+      post.getCode(),
+      post.getMember() != null ? post.getMember().getEmail() : null,
+      post.getTitle(),
+      post.getContent(),
+      post.getViewcount(),
+      post.getReadPermission(),
+      post.getWritePermission(),
+      post.getStartDate(),
+      post.getEndDate(),
+      post.getUpdatedAt(),
+      post.getClosed()
+    );
+  }
+
   public PostDto convertPostToPostDto(Post post) {
     return new PostDto(
       post.getTitle(),
@@ -41,6 +147,16 @@ public class PostService {
     );
   }
 
+  public PostDto convertPostToPostDto(PostDetailDto post) {
+    return new PostDto(
+      post.getTitle(),
+      post.getContent(),
+      post.getReadPermission(),
+      post.getWritePermission(),
+      post.getEndDate()
+    );
+  }
+
   // 게시판 개설하기
   @Transactional
   public UUID createPost(
@@ -63,7 +179,14 @@ public class PostService {
     post.setReadPermission(readPermission);
     post.setWritePermission(writePermission);
     post.setEndDate(endDate);
+    post.setHotScore(hotRankingService.initialScore());
     postRepository.save(post);
+    postCodeFilter.addAfterCommit(post.getCode()); // 현재 노드의 code 필터에 추가
+    postChangeNotifier.publishAfterCommit(post.getCode()); // 다른 노드의 code 필터에 추가
+    postChangeSequence.advanceAfterCommit(); // 목록 ETag 갱신
+    openPostIndex.syncAfterCommit(post); // 전체 공개 목록 인덱스에 추가
+    hotRankingService.syncAfterCommit(post); // 인기순 순위에 추가
+    postSuggestService.syncAfterCommit(post); // 제목 자동 완성에 추가
     return post.getCode();
   }
 
@@ -84,6 +207,7 @@ public class PostService {
       );
 
     // 현재 로그인한 사용자가 null이거나 게시물의 개설자와 같지 않은지 확인
+    // 개설자 이메일은 외래 키이므로 지연 로딩 프록시를 초기화하지 않고 비교
     if (
       member == null || !post.getMember().getEmail().equals(member.getEmail())
     ) {
@@ -105,9 +229,21 @@ public class PostService {
     }
     if (endDate != null) {
       post.setEndDate(endDate);
+      post.setClosed(false); // 마감 시각이 바뀌면 PostCloseScheduler가 다시 등록
     }
 
-    return postRepository.save(post);
+    Post savedPost = postRepository.save(post);
+    postChangeNotifier.publishAfterCommit(code); // 모든 노드의 캐시에서 제거
+    postChangeSequence.advanceAfterCommit(); // 목록 ETag 갱신
+    openPostIndex.syncAfterCommit(savedPost); // 공개 범위/마감 시각 변경 반영
+    hotRankingService.syncAfterCommit(savedPost);
+    postSuggestService.syncAfterCommit(savedPost); // 제목/공개 범위 변경 반영
+    postStreamService.publishAfterCommit(
+      code,
+      PostStreamService.UPDATED,
+      convertPostToPostDto(savedPost)
+    ); // 상세 페이지를 보고 있는 구독자에게 전달
+    return savedPost;
   }
 
   // 게시판 삭제하기
@@ -124,38 +260,388 @@ public class PostService {
       throw new AccessDeniedException("해당 게시물을 삭제할 권한이 없습니다.");
     }
 
+    // 질문은 외래 키 없이 postId로 연결되므로 게시글을 먼저 삭제(행 잠금)한 뒤 질문 삭제
+    // (저장 대기 중이던 질문은 QuestionBatchRepository가 게시글이 없으면 저장하지 않음)
     postRepository.delete(post);
+    postRepository.flush();
+    questionRepository.deleteAllByPostId(post.getPostId());
+    postChangeNotifier.publishAfterCommit(code); // 모든 노드의 캐시에서 제거
+    postChangeSequence.advanceAfterCommit(); // 목록 ETag 갱신
+    openPostIndex.removeAfterCommit(post.getPostId());
+    hotRankingService.removeAfterCommit(post.getPostId());
+    postSuggestService.removeAfterCommit(post.getPostId());
+    postStreamService.publishAfterCommit(
+      code,
+      PostStreamService.DELETED,
+      Map.of("code", code)
+    );
   }
 
   // index 페이지에 게시판 목록 보여주기
   // readPermission이 0이고 endDate가 현재 시간보다 큰 게시글 찾기
-  public Page<Post> getPosts(Integer readPermission, Pageable pageable) {
-    return postRepository.findByReadPermissionAndEndDateIsNullOrEndDateAfter(
+  // 전체 공개 목록은 Redis 인덱스(인기순은 메모리 순위)에서 postId를 가져오고,
+  // 사용할 수 없으면 SQL로 조회
+  public Page<PostSummaryDto> getPosts(
+    Integer readPermission,
+    Pageable pageable
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    if (Integer.valueOf(0).equals(readPermission)) {
+      Optional<Page<Long>> postIds = isHotSort(pageable.getSort())
+        ? hotRankingService.findPostIds(pageable)
+        : openPostIndex.findPostIds(pageable);
+      if (postIds.isPresent()) {
+        return hydrate(readPermission, now, postIds.get());
+      }
+    }
+    return postRepository.findOpenPostSummaries(readPermission, now, pageable);
+  }
+
+  private boolean isHotSort(Sort sort) {
+    return sort.getOrderFor("hotScore") != null;
+  }
+
+  // 인덱스 순서대로 요약 정보를 채움
+  private Page<PostSummaryDto> hydrate(
+    Integer readPermission,
+    LocalDateTime now,
+    Page<Long> postIds
+  ) {
+    return new PageImpl<>(
+      findOpenSummaries(readPermission, now, postIds.getContent()),
+      postIds.getPageable(),
+      postIds.getTotalElements()
+    );
+  }
+
+  // postId 순서대로 진행 중인 게시글 요약 조회
+  // 그 사이 마감/삭제/비공개 전환된 게시글은 제외하고 인덱스와 순위, 검색 색인에서도 제거
+  private List<PostSummaryDto> findOpenSummaries(
+    Integer readPermission,
+    LocalDateTime now,
+    List<Long> postIds
+  ) {
+    if (postIds.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, PostSummaryDto> byId = new HashMap<>();
+    for (PostSummaryDto summary : postRepository.findOpenPostSummariesByPostIdIn(
       readPermission,
+      now,
+      postIds
+    )) {
+      byId.put(summary.getPostId(), summary);
+    }
+    List<PostSummaryDto> posts = new ArrayList<>(byId.size());
+    for (Long postId : postIds) {
+      PostSummaryDto summary = byId.get(postId);
+      if (summary != null) {
+        posts.add(summary);
+      } else {
+        openPostIndex.remove(postId);
+        hotRankingService.remove(postId);
+        postSearchService.remove(postId);
+      }
+    }
+    return posts;
+  }
+
+  // 제목/본문 검색 (진행 중인 전체 공개 게시글, 관련도 순)
+  public Page<PostSummaryDto> searchPosts(String keyword, Pageable pageable) {
+    return hydrate(
+      0,
       LocalDateTime.now(),
-      pageable
+      postSearchService.search(keyword, pageable)
     );
   }
 
+  // 상세 페이지 조회 1회 (전체 공개 게시글만 실시간 인기 게시글에 집계)
+  public void recordView(PostDetailDto post) {
+    if (Integer.valueOf(0).equals(post.getReadPermission())) {
+      trendingPostService.record(post.getPostId());
+    }
+  }
+
+  // 최근 조회가 많은 진행 중인 게시글 (index 페이지 위젯)
+  public List<PostSummaryDto> getTrendingPosts() {
+    TrendingPostService.Snapshot snapshot = trendingPostService.getTopPosts();
+    if (snapshot != trendingSnapshot) {
+      List<Long> postIds = new ArrayList<>();
+      for (SpaceSaving.Estimate<Long> estimate : snapshot.getPosts()) {
+        postIds.add(estimate.getKey());
+      }
+      List<PostSummaryDto> posts = findOpenSummaries(
+        0,
+        LocalDateTime.now(),
+        postIds
+      );
+      trendingPosts =
+        posts.subList(0, Math.min(trendingPostService.getSize(), posts.size()));
+      trendingSnapshot = snapshot;
+    }
+    return trendingPosts;
+  }
+
+  // index 페이지에 게시판 목록 보여주기 (커서 페이지네이션)
+  // OFFSET/COUNT 없이 (정렬 기준값, postId) 인덱스를 따라 탐색
+  public PostCursorPage<PostSummaryDto> getPostsByCursor(
+    Integer readPermission,
+    String sort,
+    String cursorToken,
+    int size
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    PostCursor cursor = PostCursor.decode(cursorToken);
+    if (cursor != null && !cursor.getSort().equals(sort)) {
+      cursor = null; // 정렬 기준이 바뀌면 첫 페이지부터
+    }
+
+    Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인용 1건 추가
+    List<PostSummaryDto> posts;
+    if (cursor == null) {
+      posts =
+        postRepository.findOpenPosts(
+          readPermission,
+          now,
+          PageRequest.of(0, size + 1, getCursorSort(sort))
+        );
+    } else {
+      posts = seek(readPermission, sort, cursor, now, limit);
+    }
+
+    boolean backward = cursor != null && cursor.isBackward();
+    boolean hasMore = posts.size() > size;
+    if (hasMore) {
+      posts = posts.subList(0, size);
+    }
+    if (backward) {
+      posts = new ArrayList<>(posts);
+      Collections.reverse(posts);
+    }
+    if (posts.isEmpty()) {
+      return new PostCursorPage<>(posts, null, null);
+    }
+
+    boolean hasPrev = backward ? hasMore : cursor != null;
+    boolean hasNext = backward || hasMore;
+    String prevCursor = hasPrev
+      ? PostCursor.prev(sort, posts.get(0)).encode()
+      : null;
+    String nextCursor = hasNext
+      ? PostCursor.next(sort, posts.get(posts.size() - 1)).encode()
+      : null;
+    return new PostCursorPage<>(posts, prevCursor, nextCursor);
+  }
+
+  // 커서 위치에서 정렬 방향에 맞는 쪽으로 탐색
+  private List<PostSummaryDto> seek(
+    Integer readPermission,
+    String sort,
+    PostCursor cursor,
+    LocalDateTime now,
+    Pageable limit
+  ) {
+    boolean backward = cursor.isBackward();
+    switch (sort) {
+      case "oldest":
+        return backward
+          ? postRepository.findOpenPostsBeforeStartDate(
+            readPermission,
+            now,
+            cursor.getStartDate(),
+            cursor.getPostId(),
+            limit
+          )
+          : postRepository.findOpenPostsAfterStartDate(
+            readPermission,
+            now,
+            cursor.getStartDate(),
+            cursor.getPostId(),
+            limit
+          );
+      case "views":
+        return backward
+          ? postRepository.findOpenPostsAboveViewcount(
+            readPermission,
+            now,
+            cursor.getViewcount(),
+            cursor.getPostId(),
+            limit
+          )
+          : postRepository.findOpenPostsBelowViewcount(
+            readPermission,
+            now,
+            cursor.getViewcount(),
+            cursor.getPostId(),
+            limit
+          );
+      case "latest":
+      default:
+        return backward
+          ? postRepository.findOpenPostsAfterStartDate(
+            readPermission,
+            now,
+            cursor.getStartDate(),
+            cursor.getPostId(),
+            limit
+          )
+          : postRepository.findOpenPostsBeforeStartDate(
+            readPermission,
+            now,
+            cursor.getStartDate(),
+            cursor.getPostId(),
+            limit
+          );
+    }
+  }
+
+  // 커서 페이지네이션 정렬 조건 (postId로 동률 정리)
+  private Sort getCursorSort(String sort) {
+    switch (sort) {
+      case "oldest":
+        return Sort.by(Sort.Direction.ASC, "startDate", "postId");
+      case "views":
+        return Sort.by(Sort.Direction.DESC, "viewcount", "postId");
+      case "latest":
+      default:
+        return Sort.by(Sort.Direction.DESC, "startDate", "postId");
+    }
+  }
+
   // 내가 개설한 게시판 목록 보여주기
-  public Page<Post> getMyPosts(
+  // 마감된 게시글도 포함하면 보관된 게시글과 합쳐서 정렬
+  public Page<PostSummaryDto> getMyPosts(
     String email,
     Boolean excludeEnded,
     Pageable pageable
   ) {
-    return postRepository.findByMemberEmailAndExcludeEnded(
+    if (Boolean.TRUE.equals(excludeEnded)) {
+      return postRepository.findMyPostSummaries(email, true, pageable);
+    }
+    if (isHotSort(pageable.getSort())) {
+      return getMyPostsByHotScore(email, pageable);
+    }
+
+    // 두 목록에서 각각 현재 페이지 끝까지 가져와 병합
+    int window = (int) Math.min(
+      Integer.MAX_VALUE,
+      pageable.getOffset() + pageable.getPageSize()
+    );
+    Pageable top = PageRequest.of(0, window, pageable.getSort());
+    Page<PostSummaryDto> live = postRepository.findMyPostSummaries(
+      email,
+      false,
+      top
+    );
+    Page<PostSummaryDto> archived = archivedPostRepository.findMyArchivedSummaries(
       email,
-      excludeEnded,
+      top
+    );
+
+    List<PostSummaryDto> merged = new ArrayList<>(live.getContent());
+    merged.addAll(archived.getContent());
+    merged.sort(getSummaryComparator(pageable.getSort()));
+
+    int from = (int) Math.min(pageable.getOffset(), merged.size());
+    int to = Math.min(from + pageable.getPageSize(), merged.size());
+    return new PageImpl<>(
+      merged.subList(from, to),
+      pageable,
+      live.getTotalElements() + archived.getTotalElements()
+    );
+  }
+
+  // 인기순: 보관된 게시글은 마감 후 점수가 감쇠되었으므로 진행 중인 게시글 뒤에 마감 시각 역순으로 이어 붙임
+  private Page<PostSummaryDto> getMyPostsByHotScore(
+    String email,
+    Pageable pageable
+  ) {
+    Page<PostSummaryDto> live = postRepository.findMyPostSummaries(
+      email,
+      false,
       pageable
     );
+    long archivedFrom = Math.max(
+      0,
+      pageable.getOffset() - live.getTotalElements()
+    );
+    int needed = pageable.getPageSize() - live.getNumberOfElements();
+    Page<PostSummaryDto> archived = archivedPostRepository.findMyArchivedSummaries(
+      email,
+      PageRequest.of(
+        0,
+        (int) Math.max(1, archivedFrom + needed),
+        Sort.by(Sort.Direction.DESC, "endDate")
+      )
+    );
+
+    List<PostSummaryDto> posts = new ArrayList<>(live.getContent());
+    List<PostSummaryDto> archivedPosts = archived.getContent();
+    for (
+      int i = (int) archivedFrom;
+      i < archivedPosts.size() && posts.size() < pageable.getPageSize();
+      i++
+    ) {
+      posts.add(archivedPosts.get(i));
+    }
+    return new PageImpl<>(
+      posts,
+      pageable,
+      live.getTotalElements() + archived.getTotalElements()
+    );
+  }
+
+  // 목록 정렬 조건을 요약 정보 비교자로 변환 (postId로 동률 정리)
+  private Comparator<PostSummaryDto> getSummaryComparator(Sort sort) {
+    Comparator<PostSummaryDto> comparator = (a, b) -> 0;
+    for (Sort.Order order : sort) {
+      Comparator<PostSummaryDto> byProperty;
+      switch (order.getProperty()) {
+        case "viewcount":
+          byProperty =
+            Comparator.comparing(
+              PostSummaryDto::getViewcount,
+              Comparator.nullsLast(Comparator.naturalOrder())
+            );
+          break;
+        case "endDate":
+          byProperty =
+            Comparator.comparing(
+              PostSummaryDto::getEndDate,
+              Comparator.nullsLast(Comparator.naturalOrder())
+            );
+          break;
+        case "startDate":
+        default:
+          byProperty =
+            Comparator.comparing(
+              PostSummaryDto::getStartDate,
+              Comparator.nullsLast(Comparator.naturalOrder())
+            );
+          break;
+      }
+      comparator =
+        comparator.thenComparing(
+          order.isDescending() ? byProperty.reversed() : byProperty
+        );
+    }
+    return comparator.thenComparing(
+      PostSummaryDto::getPostId,
+      Comparator.reverseOrder()
+    );
   }
 
   // code로 게시글 찾기
   public Post getPostJoinWithCode(UUID code) {
-    return postRepository
-      .findByCodeAndEndDateAfter(code, LocalDateTime.now())
-      .orElseThrow(() ->
-        new EntityNotFoundException("게시판을 찾을 수 없습니다." + code)
-      );
+    checkPostCode(code);
+    return joinLoads.execute(
+      code,
+      () ->
+        postRepository
+          .findByCodeAndEndDateAfter(code, LocalDateTime.now())
+          .orElseThrow(() ->
+            new EntityNotFoundException("게시판을 찾을 수 없습니다." + code)
+          )
+    );
   }
 }
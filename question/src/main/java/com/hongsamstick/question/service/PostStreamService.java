@@ -0,0 +1,402 @@
+package com.hongsamstick.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 게시판 실시간 이벤트 (Server-Sent Events)
+ *  - 게시판(code)마다 구독자 목록을 두고, 이벤트 하나를 해당 게시판의 구독자에게만 전달합니다.
+ *  - 이벤트는 Redis 채널(post:events)로 발행하며 모든 노드가 자기 노드의 구독자에게 전달합니다.
+ *  - 연결은 서블릿 비동기 요청(SseEmitter)이므로 대기 중인 구독자는 Tomcat 스레드를 점유하지 않습니다.
+ *    전송은 dispatcher-threads개의 스레드가 나누어 처리합니다.
+ *  - 구독자마다 queue-capacity개까지만 전송 대기열에 쌓고, 넘치면 느린 구독자로 보고 연결을 끊습니다.
+ *    (EventSource가 다시 연결하면 목록을 다시 불러옴)
+ *  - heartbeat-ms마다 주석 이벤트를 보내 프록시의 유휴 연결 종료를 막고 끊어진 연결을 정리합니다.
+ */
+@Service
+public class PostStreamService {
+
+  public static final String CHANNEL = "post:events";
+
+  public static final String QUESTION = "question"; // 새 질문
+  public static final String UPDATED = "updated"; // 게시판 수정
+  public static final String CLOSED = "closed"; // 마감 (전송 후 연결 종료)
+  public static final String DELETED = "deleted"; // 삭제 (전송 후 연결 종료)
+
+  private static final String HEARTBEAT = "heartbeat";
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostStreamService.class
+  );
+
+  // 구독자에게 보낼 이벤트 (data는 이미 JSON으로 변환된 문자열)
+  private static final class Event {
+
+    private final String id;
+    private final String type;
+    private final String data;
+
+    private Event(String id, String type, String data) {
+      this.id = id;
+      this.type = type;
+      this.data = data;
+    }
+
+    private boolean isLast() {
+      return CLOSED.equals(type) || DELETED.equals(type);
+    }
+  }
+
+  private static final Event HEARTBEAT_EVENT = new Event(null, HEARTBEAT, null);
+
+  private final class Subscriber {
+
+    private final UUID code;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Event> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Subscriber(UUID code, SseEmitter emitter) {
+      this.code = code;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+  }
+
+  private final Map<UUID, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+  private final AtomicInteger connections = new AtomicInteger();
+  private final AtomicLong eventSequence = new AtomicLong();
+  private final ExecutorService dispatcher;
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int queueCapacity;
+  private final int maxConnections;
+  private final long timeoutMs;
+
+  private final Counter publishedEvents;
+  private final Counter sentEvents;
+  private final Counter evictedSubscribers;
+  private final Counter rejectedSubscribers;
+
+  public PostStreamService(
+    StringRedisTemplate redisTemplate,
+    RedisMessageListenerContainer listenerContainer,
+    ObjectMapper objectMapper,
+    MeterRegistry meterRegistry,
+    @Value("${post.stream.queue-capacity:64}") int queueCapacity,
+    @Value("${post.stream.max-connections:10000}") int maxConnections,
+    @Value("${post.stream.timeout-ms:1800000}") long timeoutMs,
+    @Value("${post.stream.dispatcher-threads:4}") int dispatcherThreads
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.queueCapacity = queueCapacity;
+    this.maxConnections = maxConnections;
+    this.timeoutMs = timeoutMs;
+    AtomicInteger threadNumber = new AtomicInteger();
+    // 구독자마다 전송 작업은 최대 하나만 대기하므로 작업 큐는 연결 수로 제한됨
+    this.dispatcher =
+      Executors.newFixedThreadPool(
+        dispatcherThreads,
+        runnable -> {
+          Thread thread = new Thread(
+            runnable,
+            "post-stream-dispatcher-" + threadNumber.incrementAndGet()
+          );
+          thread.setDaemon(true);
+          return thread;
+        }
+      );
+
+    this.publishedEvents =
+      Counter
+        .builder("post.stream.published")
+        .description("발행한 게시판 이벤트 수")
+        .register(meterRegistry);
+    this.sentEvents =
+      Counter
+        .builder("post.stream.sent")
+        .description("구독자에게 전송한 이벤트 수")
+        .register(meterRegistry);
+    this.evictedSubscribers =
+      Counter
+        .builder("post.stream.evicted")
+        .description("전송 대기열이 넘쳐 연결을 끊은 구독자 수")
+        .register(meterRegistry);
+    this.rejectedSubscribers =
+      Counter
+        .builder("post.stream.rejected")
+        .description("연결 수 제한으로 거절한 구독 수")
+        .register(meterRegistry);
+    Gauge
+      .builder("post.stream.connections", connections, AtomicInteger::get)
+      .description("현재 노드에 연결된 구독자 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.stream.topics", topics, Map::size)
+      .description("구독자가 있는 게시판 수")
+      .register(meterRegistry);
+
+    listenerContainer.addMessageListener(
+      (message, pattern) ->
+        receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+      new ChannelTopic(CHANNEL)
+    );
+  }
+
+  /**
+   * 게시판 이벤트 구독
+   *
+   * @return 연결할 SseEmitter, 연결 수가 max-connections에 도달했으면 null
+   */
+  public SseEmitter subscribe(UUID code) {
+    if (connections.incrementAndGet() > maxConnections) {
+      connections.decrementAndGet();
+      rejectedSubscribers.increment();
+      return null;
+    }
+    SseEmitter emitter = createEmitter();
+    Subscriber subscriber = new Subscriber(code, emitter);
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(() -> remove(subscriber));
+    emitter.onError(e -> remove(subscriber));
+    // 마지막 구독자 제거와 겹쳐도 목록에서 빠진 집합에 추가되지 않도록 compute 안에서 추가
+    topics.compute(
+      code,
+      (key, subscribers) -> {
+        Set<Subscriber> added = subscribers != null
+          ? subscribers
+          : ConcurrentHashMap.newKeySet();
+        added.add(subscriber);
+        return added;
+      }
+    );
+    enqueue(subscriber, HEARTBEAT_EVENT); // 응답 헤더를 바로 보내 연결을 확정
+    return emitter;
+  }
+
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeoutMs);
+  }
+
+  // 현재 트랜잭션이 커밋된 후 이벤트 발행
+  public void publishAfterCommit(UUID code, String type, Object payload) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            publish(code, type, payload);
+          }
+        }
+      );
+    } else {
+      publish(code, type, payload);
+    }
+  }
+
+  /**
+   * 이벤트 발행 (모든 노드의 구독자에게 전달)
+   *  - 메시지 형식 : "{code} {type} {JSON}"
+   *  - Redis에 발행하지 못하면 현재 노드의 구독자에게만 전달합니다.
+   */
+  public void publish(UUID code, String type, Object payload) {
+    String data;
+    try {
+      data = objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      logger.warn("게시판 이벤트를 변환하지 못했습니다. code : " + code, e);
+      return;
+    }
+    publishedEvents.increment();
+    try {
+      redisTemplate.convertAndSend(CHANNEL, code + " " + type + " " + data);
+    } catch (RuntimeException e) {
+      logger.warn("게시판 이벤트를 발행하지 못했습니다. code : " + code, e);
+      dispatch(code, type, data);
+    }
+  }
+
+  // 마감 처리한 노드에서 한 번 발행
+  @EventListener
+  public void onPostClosed(PostClosedEvent event) {
+    publish(event.getCode(), CLOSED, Map.of("endDate", event.getEndDate()));
+  }
+
+  private void receive(String message) {
+    String[] parts = message.split(" ", 3);
+    if (parts.length < 3) {
+      return;
+    }
+    try {
+      dispatch(UUID.fromString(parts[0]), parts[1], parts[2]);
+    } catch (IllegalArgumentException e) {
+      logger.warn("잘못된 게시판 이벤트입니다. : " + message);
+    }
+  }
+
+  // 현재 노드의 해당 게시판 구독자에게 전달 (구독자가 없으면 아무것도 하지 않음)
+  private void dispatch(UUID code, String type, String data) {
+    Set<Subscriber> subscribers = topics.get(code);
+    if (subscribers == null) {
+      return;
+    }
+    Event event = new Event(
+      Long.toString(eventSequence.incrementAndGet()),
+      type,
+      data
+    );
+    for (Subscriber subscriber : subscribers) {
+      enqueue(subscriber, event);
+    }
+  }
+
+  // 모든 구독자에게 heartbeat (전송 대기열이 차 있는 구독자는 생략)
+  @Scheduled(
+    initialDelayString = "${post.stream.heartbeat-ms:15000}",
+    fixedDelayString = "${post.stream.heartbeat-ms:15000}"
+  )
+  public void heartbeat() {
+    for (Set<Subscriber> subscribers : topics.values()) {
+      for (Subscriber subscriber : subscribers) {
+        if (subscriber.queue.isEmpty()) {
+          enqueue(subscriber, HEARTBEAT_EVENT);
+        }
+      }
+    }
+  }
+
+  private void enqueue(Subscriber subscriber, Event event) {
+    if (subscriber.closed.get()) {
+      return;
+    }
+    if (!subscriber.queue.offer(event)) {
+      evictedSubscribers.increment();
+      close(subscriber); // 느린 구독자
+      return;
+    }
+    if (subscriber.draining.compareAndSet(false, true)) {
+      try {
+        dispatcher.execute(() -> drain(subscriber));
+      } catch (RejectedExecutionException e) {
+        subscriber.draining.set(false); // 종료 중
+      }
+    }
+  }
+
+  // 전송 대기열을 비울 때까지 전송 (구독자마다 한 스레드만 실행)
+  private void drain(Subscriber subscriber) {
+    while (true) {
+      Event event = subscriber.queue.poll();
+      if (event == null) {
+        subscriber.draining.set(false);
+        // draining을 내리는 사이에 들어온 이벤트가 있으면 이어서 전송
+        if (
+          subscriber.queue.isEmpty() ||
+          !subscriber.draining.compareAndSet(false, true)
+        ) {
+          return;
+        }
+        continue;
+      }
+      if (subscriber.closed.get()) {
+        subscriber.queue.clear();
+        continue;
+      }
+      try {
+        send(subscriber.emitter, event);
+      } catch (IOException | IllegalStateException e) {
+        remove(subscriber); // 연결이 끊어짐
+        continue;
+      }
+      if (event.isLast()) {
+        close(subscriber);
+      }
+    }
+  }
+
+  private void send(SseEmitter emitter, Event event) throws IOException {
+    if (event == HEARTBEAT_EVENT) {
+      emitter.send(SseEmitter.event().comment(HEARTBEAT));
+      return;
+    }
+    emitter.send(SseEmitter.event().id(event.id).name(event.type).data(event.data));
+    sentEvents.increment();
+  }
+
+  // 구독 목록에서 제거한 뒤 연결 종료 (전송 중일 수 있으므로 종료는 전송 스레드에서 실행)
+  private void close(Subscriber subscriber) {
+    if (!remove(subscriber)) {
+      return;
+    }
+    try {
+      dispatcher.execute(subscriber.emitter::complete);
+    } catch (RejectedExecutionException e) {
+      subscriber.emitter.complete();
+    }
+  }
+
+  private boolean remove(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return false;
+    }
+    connections.decrementAndGet();
+    topics.computeIfPresent(
+      subscriber.code,
+      (code, subscribers) -> {
+        subscribers.remove(subscriber);
+        return subscribers.isEmpty() ? null : subscribers;
+      }
+    );
+    return true;
+  }
+
+  public int getConnections() {
+    return connections.get();
+  }
+
+  // 모든 연결을 종료 (클라이언트는 다른 노드로 다시 연결)
+  @PreDestroy
+  public void shutdown() {
+    for (Set<Subscriber> subscribers : topics.values()) {
+      for (Subscriber subscriber : subscribers) {
+        if (remove(subscriber)) {
+          subscriber.emitter.complete();
+        }
+      }
+    }
+    dispatcher.shutdownNow();
+  }
+}
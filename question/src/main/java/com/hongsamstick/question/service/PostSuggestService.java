@@ -0,0 +1,269 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostSuggestionDto;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.util.TitleTrie;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시판 제목 자동 완성
+ *  - 진행 중인 전체 공개 게시글의 제목을 메모리 압축 트라이(TitleTrie)에 두고, 접두사마다 조회수 상위 목록을 조회합니다.
+ *  - 현재 노드의 개설/수정/삭제는 커밋 후 바로 반영하고, rebuild-interval-ms마다 DB에서 다시 생성하여
+ *    조회수 변화, 마감, 다른 노드의 변경을 반영합니다.
+ *  - 조회는 읽기 잠금만 사용하며 마감 시각이 지난 게시글은 결과에서 제외합니다.
+ */
+@Service
+public class PostSuggestService {
+
+  // 항목 하나의 대략적인 크기 (DTO, UUID, Long, LocalDateTime, 제목 문자열 헤더), 제목은 글자당 2바이트 추가
+  private static final long ENTRY_BYTES = 200;
+
+  private static final Comparator<PostSuggestionDto> ORDER = Comparator
+    .comparing(PostSuggestionDto::getViewcount, Comparator.reverseOrder())
+    .thenComparing(PostSuggestionDto::getPostId, Comparator.reverseOrder());
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    PostSuggestService.class
+  );
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  // lock으로 보호
+  private TitleTrie<PostSuggestionDto> trie;
+  private Map<Long, PostSuggestionDto> entries = new HashMap<>();
+  // 다시 생성하는 동안 반영한 변경 (생성이 끝나면 새 트라이에 다시 적용, null이면 제거)
+  private Map<Long, PostSuggestionDto> changesDuringRebuild;
+
+  private volatile long memoryBytes;
+
+  private final PostRepository postRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int size;
+  private final Timer suggestTimer;
+  private final Timer rebuildTimer;
+
+  public PostSuggestService(
+    PostRepository postRepository,
+    PlatformTransactionManager transactionManager,
+    MeterRegistry meterRegistry,
+    @Value("${post.suggest.size:5}") int size
+  ) {
+    this.postRepository = postRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.size = size;
+    this.trie = newTrie();
+
+    this.suggestTimer =
+      Timer
+        .builder("post.suggest.query")
+        .description("제목 자동 완성 조회 시간")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.rebuildTimer =
+      Timer
+        .builder("post.suggest.rebuild")
+        .description("제목 자동 완성 트라이 생성 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("post.suggest.titles", this, PostSuggestService::titles)
+      .description("자동 완성 대상 제목 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.suggest.memory", this, s -> s.memoryBytes)
+      .description("자동 완성 트라이와 항목의 대략적인 메모리 사용량 (마지막 생성 기준)")
+      .baseUnit("bytes")
+      .register(meterRegistry);
+  }
+
+  // 마감되지 않은 항목을 여유 있게 찾을 수 있도록 노드마다 size의 2배를 보관
+  private TitleTrie<PostSuggestionDto> newTrie() {
+    return new TitleTrie<>(size * 2, ORDER);
+  }
+
+  /**
+   * 접두사로 시작하는 진행 중인 전체 공개 게시판 (조회수 순, 최대 size개)
+   */
+  public List<PostSuggestionDto> suggest(String prefix) {
+    LocalDateTime now = LocalDateTime.now();
+    return suggestTimer.record(() -> {
+      lock.readLock().lock();
+      try {
+        return trie.suggest(
+          prefix,
+          size,
+          suggestion ->
+            suggestion.getEndDate() == null || suggestion.getEndDate().isAfter(now)
+        );
+      } finally {
+        lock.readLock().unlock();
+      }
+    });
+  }
+
+  // 현재 트랜잭션이 커밋된 후 게시글 상태에 맞게 추가/교체/제거
+  public void syncAfterCommit(Post post) {
+    Long postId = post.getPostId();
+    boolean open =
+      Integer.valueOf(0).equals(post.getReadPermission()) &&
+      !Boolean.TRUE.equals(post.getClosed()) &&
+      (post.getEndDate() == null ||
+        post.getEndDate().isAfter(LocalDateTime.now()));
+    PostSuggestionDto suggestion = open
+      ? new PostSuggestionDto(
+        postId,
+        post.getCode(),
+        post.getTitle(),
+        post.getViewcount(),
+        post.getEndDate()
+      )
+      : null;
+    afterCommit(() -> apply(postId, suggestion));
+  }
+
+  // 현재 트랜잭션이 커밋된 후 제거
+  public void removeAfterCommit(Long postId) {
+    afterCommit(() -> apply(postId, null));
+  }
+
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        }
+      );
+    } else {
+      action.run();
+    }
+  }
+
+  private void apply(Long postId, PostSuggestionDto suggestion) {
+    if (postId == null) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      apply(trie, entries, postId, suggestion);
+      if (changesDuringRebuild != null) {
+        changesDuringRebuild.put(postId, suggestion);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static void apply(
+    TitleTrie<PostSuggestionDto> trie,
+    Map<Long, PostSuggestionDto> entries,
+    Long postId,
+    PostSuggestionDto suggestion
+  ) {
+    PostSuggestionDto previous = suggestion == null
+      ? entries.remove(postId)
+      : entries.put(postId, suggestion);
+    if (previous != null) {
+      trie.remove(previous.getTitle(), previous);
+    }
+    if (suggestion != null) {
+      trie.add(suggestion.getTitle(), suggestion);
+    }
+  }
+
+  // DB에서 트라이를 다시 생성 (생성 중에 반영된 변경은 새 트라이에 다시 적용)
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+    initialDelayString = "${post.suggest.rebuild-interval-ms:300000}",
+    fixedDelayString = "${post.suggest.rebuild-interval-ms:300000}"
+  )
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild = new HashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    TitleTrie<PostSuggestionDto> loaded = newTrie();
+    Map<Long, PostSuggestionDto> loadedEntries = new HashMap<>();
+    try {
+      long[] titleChars = { 0 };
+      rebuildTimer.record(() ->
+        readOnlyTransaction.executeWithoutResult(status -> {
+          try (
+            Stream<PostSuggestionDto> suggestions = postRepository.streamSuggestions(
+              0,
+              LocalDateTime.now()
+            )
+          ) {
+            // 조회수 내림차순이므로 노드의 상위 목록 뒤에 붙기만 함
+            suggestions.forEach(suggestion -> {
+              loadedEntries.put(suggestion.getPostId(), suggestion);
+              loaded.add(suggestion.getTitle(), suggestion);
+              titleChars[0] += suggestion.getTitle().length();
+            });
+          }
+        })
+      );
+      memoryBytes =
+        loaded.estimateBytes() +
+        loadedEntries.size() * ENTRY_BYTES +
+        titleChars[0] * 2;
+    } catch (DataAccessException e) {
+      logger.warn("제목 자동 완성 트라이를 생성하지 못했습니다.", e);
+      lock.writeLock().lock();
+      try {
+        changesDuringRebuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild.forEach((postId, suggestion) ->
+        apply(loaded, loadedEntries, postId, suggestion)
+      );
+      trie = loaded;
+      entries = loadedEntries;
+      changesDuringRebuild = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    logger.info("제목 자동 완성 트라이를 생성했습니다. 제목 {}개", loadedEntries.size());
+  }
+
+  private double titles() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,308 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.domain.Question;
+import com.hongsamstick.question.dto.PostDetailDto;
+import com.hongsamstick.question.dto.QuestionDto;
+import com.hongsamstick.question.exception.QuestionQueueFullException;
+import com.hongsamstick.question.repository.QuestionBatchRepository;
+import com.hongsamstick.question.util.TimeOrderedUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 질문 등록 (쓰기 지연 배치 저장)
+ *  - 등록 요청은 검증 후 크기가 제한된 메모리 큐에 넣고 바로 응답합니다. 큐가 가득 차면 거절합니다.
+ *  - 저장 스레드 하나가 큐에서 최대 batch-size개(또는 linger-ms 동안 모인 만큼)를 꺼내 배치 INSERT 하므로,
+ *    동시 등록 수와 관계없이 DB 커넥션은 하나만 사용합니다.
+ *  - 저장에 실패하면 max-attempts번까지 간격을 늘려 다시 시도합니다.
+ *  - 저장한 질문은 게시판 구독자에게 실시간 이벤트(PostStreamService)로 전달합니다.
+ *  - 큐에서 기다리는 동안 게시글이 삭제된 질문은 저장하지 않고 버립니다.
+ *  - 비정상 종료 시 잃을 수 있는 질문은 큐에 남아 있던 질문(최대 queue-capacity개)으로 제한되며,
+ *    정상 종료 시에는 남은 질문을 모두 저장합니다.
+ */
+@Service
+public class QuestionService {
+
+  private static final long RETRY_BACKOFF_MS = 100;
+  private static final int LIST_SIZE = 50;
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    QuestionService.class
+  );
+
+  // 저장 대기 중인 질문과 게시판 code (이벤트 발행용)
+  private static final class Pending {
+
+    private final Question question;
+    private final UUID code;
+
+    private Pending(Question question, UUID code) {
+      this.question = question;
+      this.code = code;
+    }
+  }
+
+  private final BlockingQueue<Pending> queue;
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  private final QuestionBatchRepository questionBatchRepository;
+  private final PostService postService;
+  private final HotRankingService hotRankingService;
+  private final PostStreamService postStreamService;
+  private final QuestionVoteService questionVoteService;
+  private final int batchSize;
+  private final long lingerMs;
+  private final int maxAttempts;
+
+  private final Counter acceptedQuestions;
+  private final Counter rejectedQuestions;
+  private final Counter savedQuestions;
+  private final Counter droppedQuestions;
+  private final Counter discardedQuestions;
+  private final DistributionSummary batchSizes;
+  private final Timer insertTimer;
+
+  public QuestionService(
+    QuestionBatchRepository questionBatchRepository,
+    PostService postService,
+    HotRankingService hotRankingService,
+    PostStreamService postStreamService,
+    QuestionVoteService questionVoteService,
+    MeterRegistry meterRegistry,
+    @Value("${question.ingest.queue-capacity:10000}") int queueCapacity,
+    @Value("${question.ingest.batch-size:200}") int batchSize,
+    @Value("${question.ingest.linger-ms:20}") long lingerMs,
+    @Value("${question.ingest.max-attempts:3}") int maxAttempts
+  ) {
+    this.questionBatchRepository = questionBatchRepository;
+    this.postService = postService;
+    this.hotRankingService = hotRankingService;
+    this.postStreamService = postStreamService;
+    this.questionVoteService = questionVoteService;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.lingerMs = lingerMs;
+    this.maxAttempts = maxAttempts;
+    this.writer = new Thread(this::run, "question-writer");
+    this.writer.setDaemon(true);
+
+    this.acceptedQuestions =
+      Counter
+        .builder("question.ingest.accepted")
+        .description("큐에 넣은 질문 수")
+        .register(meterRegistry);
+    this.rejectedQuestions =
+      Counter
+        .builder("question.ingest.rejected")
+        .description("큐가 가득 차서 거절한 질문 수")
+        .register(meterRegistry);
+    this.savedQuestions =
+      Counter
+        .builder("question.ingest.saved")
+        .description("DB에 저장한 질문 수")
+        .register(meterRegistry);
+    this.droppedQuestions =
+      Counter
+        .builder("question.ingest.dropped")
+        .description("재시도 후에도 저장하지 못한 질문 수")
+        .register(meterRegistry);
+    this.discardedQuestions =
+      Counter
+        .builder("question.ingest.discarded")
+        .description("저장 전에 게시글이 삭제되어 버린 질문 수")
+        .register(meterRegistry);
+    this.batchSizes =
+      DistributionSummary
+        .builder("question.ingest.batch.size")
+        .description("배치 INSERT 한 번에 저장한 질문 수")
+        .register(meterRegistry);
+    this.insertTimer =
+      Timer
+        .builder("question.ingest.insert")
+        .description("질문 배치 INSERT 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("question.ingest.queue", queue, BlockingQueue::size)
+      .description("저장 대기 중인 질문 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("question.ingest.queue.capacity", () -> queueCapacity)
+      .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    writer.start();
+  }
+
+  /**
+   * 질문 등록 (큐에 넣은 후 바로 반환)
+   *
+   * @return 질문 id
+   * @throws AccessDeniedException 회원만 질문할 수 있는 게시판에 로그인하지 않은 경우
+   * @throws IllegalStateException 마감된 게시판인 경우
+   * @throws QuestionQueueFullException 저장 대기열이 가득 찬 경우
+   */
+  public UUID submit(UUID code, String content, Member member) {
+    PostDetailDto post = postService.getPostByCode(code);
+    if (Integer.valueOf(0).equals(post.getWritePermission()) && member == null) {
+      throw new AccessDeniedException("회원만 질문할 수 있는 게시판입니다.");
+    }
+    LocalDateTime now = LocalDateTime.now();
+    if (
+      Boolean.TRUE.equals(post.getClosed()) ||
+      (post.getEndDate() != null && !post.getEndDate().isAfter(now))
+    ) {
+      throw new IllegalStateException("마감된 게시판입니다.");
+    }
+
+    Question question = new Question();
+    question.setQuestionId(TimeOrderedUuid.generate());
+    question.setPostId(post.getPostId());
+    question.setContent(content.strip());
+    if (member != null) {
+      question.setEmail(member.getEmail());
+      question.setAuthorName(member.getName());
+    }
+    question.setCreatedAt(now);
+    if (!running || !queue.offer(new Pending(question, code))) {
+      rejectedQuestions.increment();
+      throw new QuestionQueueFullException();
+    }
+    acceptedQuestions.increment();
+    return question.getQuestionId();
+  }
+
+  // 게시판의 질문 목록 (반영 대기 중인 추천 포함 추천 순, 아직 저장되지 않은 질문은 포함되지 않음)
+  public List<QuestionDto> getQuestions(UUID code) {
+    PostDetailDto post = postService.getPostByCode(code);
+    return questionVoteService.getTopQuestions(post.getPostId(), LIST_SIZE);
+  }
+
+  private void run() {
+    while (running || !queue.isEmpty()) {
+      try {
+        writeNextBatch(500);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (RuntimeException e) {
+        logger.error("질문 저장 스레드에서 예외가 발생했습니다.", e);
+      }
+    }
+  }
+
+  /**
+   * 큐에서 한 배치를 꺼내 저장
+   *  - 첫 질문을 최대 waitMs 동안 기다리고, 이후 batch-size개가 되거나 linger-ms가 지날 때까지 모읍니다.
+   *
+   * @return 저장을 시도한 질문 수
+   */
+  int writeNextBatch(long waitMs) throws InterruptedException {
+    Pending first = queue.poll(waitMs, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return 0;
+    }
+    List<Pending> batch = new ArrayList<>(batchSize);
+    batch.add(first);
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+    while (batch.size() < batchSize) {
+      queue.drainTo(batch, batchSize - batch.size());
+      long remaining = deadline - System.nanoTime();
+      if (batch.size() >= batchSize || remaining <= 0) {
+        break;
+      }
+      Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+    write(batch);
+    return batch.size();
+  }
+
+  private void write(List<Pending> batch) throws InterruptedException {
+    List<Question> questions = new ArrayList<>(batch.size());
+    for (Pending pending : batch) {
+      questions.add(pending.question);
+    }
+    Set<Question> saved = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (int attempt = 1; ; attempt++) {
+      try {
+        saved.addAll(
+          insertTimer.record(() ->
+            questionBatchRepository.insertQuestions(questions)
+          )
+        );
+        break;
+      } catch (DataAccessException e) {
+        if (attempt >= maxAttempts) {
+          droppedQuestions.increment(batch.size());
+          logger.error("질문 {}개를 저장하지 못했습니다.", batch.size(), e);
+          return;
+        }
+        logger.warn("질문 저장에 실패했습니다. 다시 시도합니다. ({}회)", attempt, e);
+        Thread.sleep(RETRY_BACKOFF_MS << (attempt - 1));
+      }
+    }
+    savedQuestions.increment(saved.size());
+    discardedQuestions.increment(batch.size() - saved.size());
+    batchSizes.record(saved.size());
+    for (Pending pending : batch) {
+      Question question = pending.question;
+      if (!saved.contains(question)) {
+        continue; // 게시글이 삭제됨
+      }
+      QuestionDto questionDto = new QuestionDto(
+        question.getQuestionId(),
+        question.getContent(),
+        question.getAuthorName(),
+        question.getCreatedAt(),
+        0L
+      );
+      hotRankingService.recordQuestion(question.getPostId()); // 인기순 점수 반영
+      questionVoteService.addQuestion(question.getPostId(), questionDto); // 질문 목록 순위
+      postStreamService.publish(
+        pending.code,
+        PostStreamService.QUESTION,
+        questionDto
+      );
+    }
+  }
+
+  // 새 질문을 받지 않고 큐에 남은 질문을 모두 저장한 뒤 종료
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    if (writer.isAlive()) {
+      writer.join(TimeUnit.SECONDS.toMillis(30));
+    } else {
+      while (writeNextBatch(0) > 0) {}
+    }
+  }
+}
@@ -0,0 +1,351 @@
+package com.hongsamstick.question.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.dto.PostDetailDto;
+import com.hongsamstick.question.dto.QuestionDto;
+import com.hongsamstick.question.repository.QuestionBatchRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import com.hongsamstick.question.util.StripedCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 질문 추천 (쓰기 지연 카운터)
+ *  - 추천은 질문별 StripedCounter만 증가시키므로 같은 질문에 추천이 몰려도 락이나 DB 접근이 없습니다.
+ *  - 질문이 게시판에 등록된 질문인지는 질문의 게시글 id로 확인하며, 질문의 게시글은 바뀌지 않으므로
+ *    최대 post-cache-size개를 메모리에 보관합니다.
+ *  - 방문자(회원 이메일 또는 익명 방문자 쿠키)마다 질문 하나에 한 번만 추천할 수 있습니다.
+ *    쿠키를 지우면 새 방문자가 되므로, 익명 추천은 같은 IP에서 질문 하나에 anonymous-per-ip번까지만 받습니다.
+ *    회원만 질문할 수 있는 게시판은 추천도 회원만 할 수 있습니다.
+ *    중복 확인 기록은 최대 dedupe-size개, dedupe-ttl-hours 동안만 현재 노드의 메모리에 보관합니다.
+ *  - flush-interval-ms마다 누적된 증가분을 배치 UPDATE로 반영하고, 실패하면 다음 주기에 다시 시도합니다.
+ *  - 질문 목록은 게시글별 질문 순위를 메모리에 두고 현재 노드의 추천을 바로 더해 추천 순으로 정렬하므로,
+ *    DB에 저장된 추천 수로는 상위에 들지 못한 질문도 목록에 나타납니다.
+ *    순위는 DB의 추천 수와 반영 대기 중인 증가분으로 만들고, 다른 노드의 추천을 반영하기 위해
+ *    ranking-ttl-seconds마다 다시 만듭니다. (최대 ranking-size개 게시글)
+ */
+@Service
+public class QuestionVoteService {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    QuestionVoteService.class
+  );
+
+  private static final Comparator<QuestionDto> ORDER = Comparator
+    .comparingLong(QuestionDto::getUpvotes)
+    .reversed()
+    .thenComparing(QuestionDto::getCreatedAt, Comparator.reverseOrder());
+
+  private final StripedCounter<UUID> pendingVotes = new StripedCounter<>();
+  // 반영 중인 증가분 (반영이 끝날 때까지 목록의 추천 수에 포함)
+  private volatile Map<UUID, Long> flushingVotes = Map.of();
+  private final AtomicBoolean flushing = new AtomicBoolean(false);
+  private final Cache<String, Boolean> voters;
+  // IP:질문 id -> 익명 추천 수
+  private final Cache<String, AtomicInteger> anonymousVotes;
+  // 질문 id -> 게시글 id (없는 질문은 보관하지 않음)
+  private final Cache<UUID, Long> questionPosts;
+  // 게시글 id -> 질문 id -> 질문과 현재 추천 수
+  private final Cache<Long, Map<UUID, RankedQuestion>> rankings;
+
+  // 순위에 보관하는 질문 (추천 수만 바뀜)
+  private static final class RankedQuestion {
+
+    private final QuestionDto question;
+    private final AtomicLong upvotes;
+
+    private RankedQuestion(QuestionDto question, long upvotes) {
+      this.question = question;
+      this.upvotes = new AtomicLong(upvotes);
+    }
+
+    private QuestionDto toDto() {
+      return new QuestionDto(
+        question.getQuestionId(),
+        question.getContent(),
+        question.getAuthorName(),
+        question.getCreatedAt(),
+        upvotes.get()
+      );
+    }
+  }
+
+  private final QuestionRepository questionRepository;
+  private final QuestionBatchRepository questionBatchRepository;
+  private final PostService postService;
+  private final int batchSize;
+  private final int anonymousPerIp;
+
+  private final Counter acceptedVotes;
+  private final Counter duplicateVotes;
+  private final Counter limitedVotes;
+  private final Counter flushedVotes;
+  private final Counter flushFailures;
+  private final Timer flushTimer;
+
+  public QuestionVoteService(
+    QuestionRepository questionRepository,
+    QuestionBatchRepository questionBatchRepository,
+    PostService postService,
+    MeterRegistry meterRegistry,
+    @Value("${question.vote.batch-size:500}") int batchSize,
+    @Value("${question.vote.dedupe-size:1000000}") long dedupeSize,
+    @Value("${question.vote.dedupe-ttl-hours:24}") long dedupeTtlHours,
+    @Value("${question.vote.anonymous-per-ip:30}") int anonymousPerIp,
+    @Value("${question.vote.post-cache-size:100000}") long postCacheSize,
+    @Value("${question.vote.ranking-size:1000}") long rankingSize,
+    @Value("${question.vote.ranking-ttl-seconds:30}") long rankingTtlSeconds
+  ) {
+    this.questionRepository = questionRepository;
+    this.questionBatchRepository = questionBatchRepository;
+    this.postService = postService;
+    this.batchSize = batchSize;
+    this.anonymousPerIp = anonymousPerIp;
+    this.voters =
+      Caffeine
+        .newBuilder()
+        .maximumSize(dedupeSize)
+        .expireAfterWrite(Duration.ofHours(dedupeTtlHours))
+        .build();
+    this.anonymousVotes =
+      Caffeine
+        .newBuilder()
+        .maximumSize(dedupeSize)
+        .expireAfterWrite(Duration.ofHours(dedupeTtlHours))
+        .build();
+    this.questionPosts = Caffeine.newBuilder().maximumSize(postCacheSize).build();
+    this.rankings =
+      Caffeine
+        .newBuilder()
+        .maximumSize(rankingSize)
+        .expireAfterWrite(Duration.ofSeconds(rankingTtlSeconds))
+        .build();
+
+    this.acceptedVotes =
+      Counter
+        .builder("question.vote.accepted")
+        .description("반영한 추천 수")
+        .register(meterRegistry);
+    this.duplicateVotes =
+      Counter
+        .builder("question.vote.duplicate")
+        .description("이미 추천한 방문자의 중복 추천 수")
+        .register(meterRegistry);
+    this.limitedVotes =
+      Counter
+        .builder("question.vote.ip.limited")
+        .description("같은 IP의 익명 추천 한도를 넘어 거절한 추천 수")
+        .register(meterRegistry);
+    this.flushedVotes =
+      Counter
+        .builder("question.vote.flushed")
+        .description("DB에 반영된 추천 수")
+        .register(meterRegistry);
+    this.flushFailures =
+      Counter
+        .builder("question.vote.flush.failures")
+        .description("추천 수 반영 실패 횟수")
+        .register(meterRegistry);
+    this.flushTimer =
+      Timer
+        .builder("question.vote.flush")
+        .description("추천 수 배치 반영 시간")
+        .register(meterRegistry);
+    Gauge
+      .builder("question.vote.pending", pendingVotes, StripedCounter::pendingTotal)
+      .description("아직 DB에 반영되지 않은 추천 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("question.vote.voters", voters, Cache::estimatedSize)
+      .description("중복 확인을 위해 보관 중인 추천 기록 수")
+      .register(meterRegistry);
+  }
+
+  /**
+   * 질문 추천 (질문의 게시글 id가 메모리에 있으면 DB 접근 없음)
+   *
+   * @param member 로그인한 회원 (익명이면 null)
+   * @param visitorId 익명 방문자 쿠키의 id
+   * @param clientIp 요청한 IP (익명 추천 한도용)
+   * @return 추천했으면 true, 이미 추천한 질문이거나 IP의 익명 추천 한도를 넘으면 false
+   * @throws EntityNotFoundException 게시판에 등록된 질문이 아닌 경우
+   * @throws IllegalStateException 마감된 게시판인 경우
+   * @throws AccessDeniedException 회원만 질문할 수 있는 게시판에 로그인하지 않은 경우
+   */
+  public boolean upvote(
+    UUID code,
+    UUID questionId,
+    Member member,
+    String visitorId,
+    String clientIp
+  ) {
+    PostDetailDto post = postService.getPostByCode(code);
+    Long postId = questionPosts.get(questionId, id ->
+      questionRepository.findPostIdByQuestionId(id).orElse(null)
+    );
+    if (postId == null || !postId.equals(post.getPostId())) {
+      throw new EntityNotFoundException("질문을 찾을 수 없습니다.");
+    }
+    if (
+      Boolean.TRUE.equals(post.getClosed()) ||
+      (post.getEndDate() != null &&
+        !post.getEndDate().isAfter(LocalDateTime.now()))
+    ) {
+      throw new IllegalStateException("마감된 게시판입니다.");
+    }
+    if (member == null && Integer.valueOf(0).equals(post.getWritePermission())) {
+      throw new AccessDeniedException("회원만 추천할 수 있는 게시판입니다.");
+    }
+    String voter = member != null
+      ? "member:" + member.getEmail() + ":" + questionId
+      : "visitor:" + visitorId + ":" + questionId;
+    if (voters.asMap().putIfAbsent(voter, Boolean.TRUE) != null) {
+      duplicateVotes.increment();
+      return false;
+    }
+    if (
+      member == null &&
+      anonymousVotes
+        .get(clientIp + ":" + questionId, key -> new AtomicInteger())
+        .incrementAndGet() >
+      anonymousPerIp
+    ) {
+      limitedVotes.increment();
+      return false;
+    }
+    pendingVotes.increment(questionId);
+    acceptedVotes.increment();
+    Map<UUID, RankedQuestion> ranking = rankings.getIfPresent(postId);
+    RankedQuestion ranked = ranking == null ? null : ranking.get(questionId);
+    if (ranked != null) {
+      ranked.upvotes.incrementAndGet();
+    }
+    return true;
+  }
+
+  // 아직 DB에 반영되지 않은 추천 수
+  public long getPendingVotes(UUID questionId) {
+    return (
+      pendingVotes.get(questionId) + flushingVotes.getOrDefault(questionId, 0L)
+    );
+  }
+
+  // 게시판의 질문 중 현재 추천 수 기준 상위 limit개 (순위가 없으면 DB에서 만듦)
+  public List<QuestionDto> getTopQuestions(Long postId, int limit) {
+    Map<UUID, RankedQuestion> ranking = rankings.get(postId, this::loadRanking);
+    List<QuestionDto> live = new ArrayList<>(ranking.size());
+    for (RankedQuestion ranked : ranking.values()) {
+      live.add(ranked.toDto());
+    }
+    live.sort(ORDER);
+    return live.size() > limit ? new ArrayList<>(live.subList(0, limit)) : live;
+  }
+
+  // 새로 저장된 질문을 순위에 추가 (순위가 만들어져 있는 게시글만)
+  public void addQuestion(Long postId, QuestionDto question) {
+    Map<UUID, RankedQuestion> ranking = rankings.getIfPresent(postId);
+    if (ranking != null) {
+      ranking.putIfAbsent(
+        question.getQuestionId(),
+        new RankedQuestion(question, question.getUpvotes())
+      );
+    }
+  }
+
+  // DB에 저장된 추천 수에 반영 대기 중인 증가분을 더해 순위 생성
+  private Map<UUID, RankedQuestion> loadRanking(Long postId) {
+    Map<UUID, RankedQuestion> ranking = new ConcurrentHashMap<>();
+    for (QuestionDto question : questionRepository.findAllByPostId(postId)) {
+      ranking.put(
+        question.getQuestionId(),
+        new RankedQuestion(
+          question,
+          question.getUpvotes() + getPendingVotes(question.getQuestionId())
+        )
+      );
+    }
+    return ranking;
+  }
+
+  // 누적된 추천 수를 DB에 반영
+  @Scheduled(fixedDelayString = "${question.vote.flush-interval-ms:1000}")
+  public void flush() {
+    if (!flushing.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      Map<UUID, Long> deltas = pendingVotes.drain();
+      if (!deltas.isEmpty()) {
+        flushingVotes = deltas;
+        flushTimer.record(() -> write(deltas));
+      }
+    } finally {
+      flushingVotes = Map.of();
+      flushing.set(false);
+    }
+  }
+
+  private void write(Map<UUID, Long> deltas) {
+    List<Map.Entry<UUID, Long>> entries = new ArrayList<>(deltas.entrySet());
+    for (int from = 0; from < entries.size(); from += batchSize) {
+      List<Map.Entry<UUID, Long>> batch = entries.subList(
+        from,
+        Math.min(from + batchSize, entries.size())
+      );
+      try {
+        questionBatchRepository.addUpvotes(batch);
+        flushedVotes.increment(sum(batch));
+      } catch (DataAccessException e) {
+        // 반영하지 못한 증가분은 다음 주기에 다시 시도
+        Map<UUID, Long> remaining = new HashMap<>();
+        for (Map.Entry<UUID, Long> entry : entries.subList(from, entries.size())) {
+          remaining.put(entry.getKey(), entry.getValue());
+        }
+        flushingVotes = Map.of();
+        pendingVotes.restore(remaining);
+        flushFailures.increment();
+        logger.warn("추천 수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        break;
+      }
+    }
+  }
+
+  private long sum(List<Map.Entry<UUID, Long>> batch) {
+    long sum = 0;
+    for (Map.Entry<UUID, Long> entry : batch) {
+      sum += entry.getValue();
+    }
+    return sum;
+  }
+
+  // 종료 시 남은 추천 수 반영
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+}
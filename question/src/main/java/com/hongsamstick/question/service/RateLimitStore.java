@@ -0,0 +1,16 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.util.TokenBucket;
+
+/**
+ * 요청 수 제한 버킷 저장소
+ *  - rate-limit.store=local(기본값)이면 현재 노드의 메모리, redis이면 모든 노드가 공유하는 Redis에 저장합니다.
+ */
+public interface RateLimitStore {
+  /**
+   * 키의 버킷에서 토큰 하나 사용
+   *
+   * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+   */
+  long tryAcquire(String key, TokenBucket bucket);
+}
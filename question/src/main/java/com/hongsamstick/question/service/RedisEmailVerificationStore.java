@@ -0,0 +1,128 @@
+package com.hongsamstick.question.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 이메일 인증 코드 저장소 (email-verification.store=redis, 기본값)
+ *  - 이메일마다 해시 하나(code, verified, attempts)를 두고 키 TTL로 만료시키므로 따로 정리할 필요가 없습니다.
+ *  - 코드 확인, 시도 횟수 증가, 인증 처리(또는 폐기)는 Lua 스크립트 하나로 원자적으로 수행합니다.
+ */
+@Service
+@ConditionalOnProperty(
+  name = "email-verification.store",
+  havingValue = "redis",
+  matchIfMissing = true
+)
+public class RedisEmailVerificationStore implements EmailVerificationStore {
+
+  private static final String KEY_PREFIX = "email-verification:";
+  private static final String VERIFIED = "verified";
+
+  // ARGV[1] : 코드, ARGV[2] : 유효 시간 (밀리초), ARGV[3] : 1이면 기존 코드가 있을 때만 발급
+  private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(
+    "if ARGV[3] == '1' and redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+    "redis.call('DEL', KEYS[1]) " +
+    "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'verified', '0', 'attempts', '0') " +
+    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+    "return 1",
+    Long.class
+  );
+
+  // ARGV[1] : 입력한 코드, ARGV[2] : 최대 시도 횟수, ARGV[3] : 인증 상태 유지 시간 (밀리초)
+  // 반환값 : 0 만료, 1 인증 성공, 2 불일치, 3 시도 횟수 초과
+  private static final RedisScript<Long> VERIFY_SCRIPT = RedisScript.of(
+    "local code = redis.call('HGET', KEYS[1], 'code') " +
+    "if not code then return 0 end " +
+    "if redis.call('HGET', KEYS[1], 'verified') == '1' then " +
+    "  if code == ARGV[1] then return 1 end " +
+    "  return 2 " +
+    "end " +
+    "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+    "if code == ARGV[1] then " +
+    "  redis.call('HSET', KEYS[1], 'verified', '1') " +
+    "  redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+    "  return 1 " +
+    "end " +
+    "if attempts >= tonumber(ARGV[2]) then " +
+    "  redis.call('DEL', KEYS[1]) " +
+    "  return 3 " +
+    "end " +
+    "return 2",
+    Long.class
+  );
+
+  private static final VerifyResult[] RESULTS = {
+    VerifyResult.EXPIRED,
+    VerifyResult.VERIFIED,
+    VerifyResult.MISMATCH,
+    VerifyResult.TOO_MANY_ATTEMPTS,
+  };
+
+  private final StringRedisTemplate redisTemplate;
+  private final String codeTtlMillis;
+  private final String verifiedTtlMillis;
+  private final String maxAttempts;
+
+  public RedisEmailVerificationStore(
+    StringRedisTemplate redisTemplate,
+    @Value("${email-verification.code-ttl-minutes:3}") long codeTtlMinutes,
+    @Value("${email-verification.verified-ttl-minutes:30}") long verifiedTtlMinutes,
+    @Value("${email-verification.max-attempts:5}") int maxAttempts
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.codeTtlMillis =
+      Long.toString(Duration.ofMinutes(codeTtlMinutes).toMillis());
+    this.verifiedTtlMillis =
+      Long.toString(Duration.ofMinutes(verifiedTtlMinutes).toMillis());
+    this.maxAttempts = Integer.toString(maxAttempts);
+  }
+
+  private static String key(String email) {
+    return KEY_PREFIX + email;
+  }
+
+  @Override
+  public void issue(String email, String code) {
+    redisTemplate.execute(ISSUE_SCRIPT, List.of(key(email)), code, codeTtlMillis, "0");
+  }
+
+  @Override
+  public boolean reissue(String email, String code) {
+    Long issued = redisTemplate.execute(
+      ISSUE_SCRIPT,
+      List.of(key(email)),
+      code,
+      codeTtlMillis,
+      "1"
+    );
+    return issued != null && issued == 1;
+  }
+
+  @Override
+  public VerifyResult verify(String email, String code) {
+    Long result = redisTemplate.execute(
+      VERIFY_SCRIPT,
+      List.of(key(email)),
+      code,
+      maxAttempts,
+      verifiedTtlMillis
+    );
+    return result == null ? VerifyResult.EXPIRED : RESULTS[result.intValue()];
+  }
+
+  @Override
+  public boolean isVerified(String email) {
+    return "1".equals(redisTemplate.opsForHash().get(key(email), VERIFIED));
+  }
+
+  @Override
+  public void remove(String email) {
+    redisTemplate.delete(key(email));
+  }
+}
@@ -0,0 +1,131 @@
+package com.hongsamstick.question.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hongsamstick.question.util.TokenBucket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis 요청 수 제한 저장소 (rate-limit.store=redis)
+ *  - 모든 노드가 같은 버킷을 공유하도록 TokenBucket과 같은 계산을 Lua 스크립트로 원자적으로 수행합니다.
+ *    시각은 노드 간 시계 차이가 없도록 Redis 서버의 TIME을 사용합니다.
+ *  - 거절된 키는 다시 시도할 수 있는 시각까지 현재 노드의 메모리에 기록하여, 이후 거절은 Redis 요청 없이 처리합니다.
+ *  - Redis에 접근하지 못하면 현재 노드의 메모리 버킷으로 제한합니다.
+ *    실패 후 redis-retry-seconds 동안은 Redis 요청 없이 메모리 버킷만 사용하고(차단),
+ *    이후 요청 하나만 Redis를 다시 확인합니다. 경고 로그는 차단될 때 한 번만 남깁니다.
+ */
+@Service
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "redis")
+public class RedisRateLimitStore implements RateLimitStore {
+
+  private static final String KEY_PREFIX = "rate-limit:";
+
+  // ARGV[1] : 토큰 보충 간격, ARGV[2] : 여유 (마이크로초)
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = RedisScript.of(
+    "local time = redis.call('TIME') " +
+    "local now = tonumber(time[1]) * 1000000 + tonumber(time[2]) " +
+    "local interval = tonumber(ARGV[1]) " +
+    "local tat = tonumber(redis.call('GET', KEYS[1])) or now " +
+    "if tat < now then tat = now end " +
+    "local nextTat = tat + interval " +
+    "local over = nextTat - now - tonumber(ARGV[2]) " +
+    "if over > 0 then return over end " +
+    "redis.call('SET', KEYS[1], nextTat, 'PX', math.ceil((nextTat - now) / 1000)) " +
+    "return 0",
+    Long.class
+  );
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    RedisRateLimitStore.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+  private final LocalRateLimitStore fallback;
+  // 거절된 키와 다시 시도할 수 있는 시각 (System.nanoTime 기준)
+  private final Cache<String, Long> blockedUntil;
+  private final long retryNanos;
+
+  // Redis 실패로 메모리 버킷만 사용하는 중인지, 그렇다면 Redis를 다시 확인할 시각 (System.nanoTime 기준)
+  private final AtomicBoolean redisDown = new AtomicBoolean();
+  private final AtomicLong redisRetryAt = new AtomicLong();
+
+  public RedisRateLimitStore(
+    StringRedisTemplate redisTemplate,
+    @Value("${rate-limit.max-keys:100000}") long maxKeys,
+    @Value("${rate-limit.idle-minutes:10}") long idleMinutes,
+    @Value("${rate-limit.redis-retry-seconds:5}") long redisRetrySeconds
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.retryNanos = TimeUnit.SECONDS.toNanos(redisRetrySeconds);
+    this.fallback = new LocalRateLimitStore(maxKeys, idleMinutes);
+    this.blockedUntil =
+      Caffeine
+        .newBuilder()
+        .maximumSize(maxKeys)
+        .expireAfterWrite(Duration.ofMinutes(idleMinutes))
+        .build();
+  }
+
+  @Override
+  public long tryAcquire(String key, TokenBucket bucket) {
+    long now = System.nanoTime();
+    Long until = blockedUntil.getIfPresent(key);
+    if (until != null && until - now > 0) {
+      return until - now;
+    }
+
+    // 차단 중이면 다시 확인할 시각이 지난 뒤 처음 도착한 요청만 Redis를 확인
+    if (redisDown.get()) {
+      long retryAt = redisRetryAt.get();
+      if (
+        retryAt - now > 0 ||
+        !redisRetryAt.compareAndSet(retryAt, now + retryNanos)
+      ) {
+        return fallback.tryAcquire(key, bucket);
+      }
+    }
+
+    Long overMicros;
+    try {
+      overMicros =
+        redisTemplate.execute(
+          ACQUIRE_SCRIPT,
+          List.of(KEY_PREFIX + key),
+          Long.toString(TimeUnit.NANOSECONDS.toMicros(bucket.getIntervalNanos())),
+          Long.toString(TimeUnit.NANOSECONDS.toMicros(bucket.getToleranceNanos()))
+        );
+    } catch (RuntimeException e) {
+      redisRetryAt.set(now + retryNanos);
+      if (redisDown.compareAndSet(false, true)) {
+        logger.warn(
+          "Redis 요청 수 제한을 확인하지 못했습니다. {}초마다 다시 확인하며 그동안 노드 메모리로 제한합니다.",
+          TimeUnit.NANOSECONDS.toSeconds(retryNanos),
+          e
+        );
+      } else {
+        logger.debug("Redis 요청 수 제한을 다시 확인하지 못했습니다.", e);
+      }
+      return fallback.tryAcquire(key, bucket);
+    }
+    if (redisDown.compareAndSet(true, false)) {
+      logger.info("Redis 요청 수 제한을 다시 사용합니다.");
+    }
+    if (overMicros == null || overMicros <= 0) {
+      return 0;
+    }
+    long waitNanos = TimeUnit.MICROSECONDS.toNanos(overMicros);
+    blockedUntil.put(key, now + waitNanos);
+    return waitNanos;
+  }
+}
@@ -0,0 +1,207 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.util.SpaceSaving;
+import com.hongsamstick.question.util.StripedCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최근 window-minutes 동안 조회가 많은 게시글 (실시간 인기 게시글)
+ *  - 시간 구간(bucket)마다 capacity개의 카운터만 쓰는 Space-Saving 요약을 두어 메모리 사용량이 고정됩니다.
+ *  - 조회는 락 없이 StripedCounter에만 더하고, drain-ms마다(또는 상위 목록 계산 시) 모아서 현재 구간 요약에 더합니다.
+ *    요약은 스레드 안전하지 않으므로 이 반영과 상위 목록 계산만 락을 잡습니다.
+ *  - 오래된 구간은 다음 구간이 시작될 때 비웁니다.
+ *  - 상위 목록은 구간별 추정값을 합쳐 계산하며 refresh-ms 동안 재사용합니다.
+ *  - 조회는 현재 노드에 들어온 요청만 집계합니다.
+ */
+@Service
+public class TrendingPostService {
+
+  // 카운터 하나의 대략적인 크기 (HashMap 항목 + Long 키 + 카운터 객체)
+  private static final long BYTES_PER_COUNTER = 120;
+
+  /**
+   * 상위 게시글 스냅샷 (추정 조회수가 큰 순서)
+   */
+  public static final class Snapshot {
+
+    private final List<SpaceSaving.Estimate<Long>> posts;
+    private final long createdAtMs;
+
+    private Snapshot(List<SpaceSaving.Estimate<Long>> posts, long createdAtMs) {
+      this.posts = posts;
+      this.createdAtMs = createdAtMs;
+    }
+
+    public List<SpaceSaving.Estimate<Long>> getPosts() {
+      return posts;
+    }
+  }
+
+  private final StripedCounter<Long> pendingViews = new StripedCounter<>();
+  private final SpaceSaving<Long>[] buckets;
+  private final long bucketMs;
+  private final int capacity;
+  private final int size;
+  private final long refreshMs;
+  private long currentBucket; // 현재 구간 번호 (시각 / bucketMs)
+
+  private volatile Snapshot snapshot = new Snapshot(List.of(), 0);
+
+  @SuppressWarnings("unchecked")
+  public TrendingPostService(
+    MeterRegistry meterRegistry,
+    @Value("${post.trending.window-minutes:10}") long windowMinutes,
+    @Value("${post.trending.buckets:10}") int bucketCount,
+    @Value("${post.trending.capacity:1000}") int capacity,
+    @Value("${post.trending.size:5}") int size,
+    @Value("${post.trending.refresh-ms:1000}") long refreshMs
+  ) {
+    this.bucketMs = Math.max(1, windowMinutes * 60_000 / bucketCount);
+    this.capacity = capacity;
+    this.size = size;
+    this.refreshMs = refreshMs;
+    this.buckets = (SpaceSaving<Long>[]) new SpaceSaving<?>[bucketCount];
+    for (int i = 0; i < bucketCount; i++) {
+      buckets[i] = new SpaceSaving<>(capacity);
+    }
+    this.currentBucket = System.currentTimeMillis() / bucketMs;
+
+    Gauge
+      .builder("post.trending.error.bound", this, TrendingPostService::errorBound)
+      .description("실시간 인기 게시글 추정 조회수의 최대 오차")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.trending.views", this, TrendingPostService::totalViews)
+      .description("window-minutes 동안 집계된 조회 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.trending.tracked", this, TrendingPostService::tracked)
+      .description("추적 중인 카운터 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.trending.memory", () -> (long) bucketCount * capacity * BYTES_PER_COUNTER)
+      .description("카운터가 모두 찼을 때의 대략적인 메모리 사용량")
+      .baseUnit("bytes")
+      .register(meterRegistry);
+  }
+
+  // 게시글 조회 1회 (락 없이 누적, drain()에서 요약에 반영)
+  public void record(Long postId) {
+    pendingViews.increment(postId);
+  }
+
+  // 누적된 조회를 현재 구간 요약에 반영
+  @Scheduled(fixedDelayString = "${post.trending.drain-ms:200}")
+  public void drain() {
+    drain(System.currentTimeMillis());
+  }
+
+  private synchronized void drain(long now) {
+    rotate(now);
+    SpaceSaving<Long> bucket = buckets[(int) (currentBucket % buckets.length)];
+    pendingViews.drain().forEach(bucket::offer);
+  }
+
+  // 상위 게시글 (refresh-ms 이내에 계산한 결과가 있으면 재사용)
+  public Snapshot getTopPosts() {
+    Snapshot current = snapshot;
+    long now = System.currentTimeMillis();
+    if (now - current.createdAtMs < refreshMs) {
+      return current;
+    }
+    current = new Snapshot(merge(now), now);
+    snapshot = current;
+    return current;
+  }
+
+  // 구간별 추정값 합산 (요약에 없는 구간은 그 구간의 최소 카운터만큼 오차에 더함)
+  private synchronized List<SpaceSaving.Estimate<Long>> merge(long now) {
+    drain(now);
+    Map<Long, long[]> merged = new HashMap<>();
+    long missingError = 0;
+    for (SpaceSaving<Long> bucket : buckets) {
+      missingError += bucket.minCount();
+    }
+    for (SpaceSaving<Long> bucket : buckets) {
+      for (SpaceSaving.Estimate<Long> estimate : bucket.estimates().values()) {
+        long[] value = merged.computeIfAbsent(
+          estimate.getKey(),
+          key -> new long[] { 0, 0, 0 }
+        );
+        value[0] += estimate.getCount();
+        value[1] += estimate.getError();
+        value[2] += bucket.minCount(); // 이 구간에 있으므로 누락 오차에서 제외
+      }
+    }
+
+    List<SpaceSaving.Estimate<Long>> estimates = new ArrayList<>(merged.size());
+    for (Map.Entry<Long, long[]> entry : merged.entrySet()) {
+      long[] value = entry.getValue();
+      estimates.add(
+        new SpaceSaving.Estimate<>(
+          entry.getKey(),
+          value[0],
+          value[1] + missingError - value[2]
+        )
+      );
+    }
+    estimates.sort(
+      Comparator
+        .comparingLong((SpaceSaving.Estimate<Long> estimate) -> estimate.getCount())
+        .reversed()
+    );
+    // 비공개 전환/마감된 게시글이 빠져도 size개를 채울 수 있도록 여유 있게 보관
+    return estimates.subList(0, Math.min(size * 2, estimates.size()));
+  }
+
+  // 현재 시각의 구간으로 이동하며 지나간 구간을 비움
+  private void rotate(long now) {
+    long bucket = now / bucketMs;
+    if (bucket <= currentBucket) {
+      return;
+    }
+    long steps = Math.min(bucket - currentBucket, buckets.length);
+    for (long i = 1; i <= steps; i++) {
+      buckets[(int) ((currentBucket + i) % buckets.length)] =
+        new SpaceSaving<>(capacity);
+    }
+    currentBucket = bucket;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  private synchronized double errorBound() {
+    long bound = 0;
+    for (SpaceSaving<Long> bucket : buckets) {
+      bound += bucket.errorBound();
+    }
+    return bound;
+  }
+
+  private synchronized double totalViews() {
+    long total = 0;
+    for (SpaceSaving<Long> bucket : buckets) {
+      total += bucket.total();
+    }
+    return total;
+  }
+
+  private synchronized double tracked() {
+    long tracked = 0;
+    for (SpaceSaving<Long> bucket : buckets) {
+      tracked += bucket.size();
+    }
+    return tracked;
+  }
+}
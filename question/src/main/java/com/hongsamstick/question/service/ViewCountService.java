@@ -0,0 +1,185 @@
+package com.hongsamstick.question.service;
+
+import com.hongsamstick.question.repository.PostViewCountRepository;
+import com.hongsamstick.question.util.StripedCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 카운터
+ *  - 상세 페이지 조회 시에는 메모리의 카운터만 증가시킵니다.
+ *  - 주기적으로 누적된 증가분을 post 테이블에 배치 UPDATE로 반영합니다.
+ *    조회수 반영은 게시글 변경으로 보지 않으므로 updated_at과 목록 변경 번호는 그대로 둡니다.
+ *  - 비정상 종료 시 잃을 수 있는 조회수는 (flush 주기 동안의 조회수)와
+ *    max-pending 중 작은 값으로 제한됩니다. max-pending에 도달하면 즉시 flush를 요청합니다.
+ */
+@Service
+public class ViewCountService {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    ViewCountService.class
+  );
+
+  private final StripedCounter<Long> pendingViews = new StripedCounter<>();
+  private final AtomicBoolean flushing = new AtomicBoolean(false);
+  private final AtomicBoolean earlyFlushRequested = new AtomicBoolean(false);
+
+  private final PostViewCountRepository postViewCountRepository;
+  private final OpenPostIndex openPostIndex;
+  private final HotRankingService hotRankingService;
+  private final TaskScheduler taskScheduler;
+  private final int batchSize;
+  private final long maxPendingViews;
+
+  private final Counter flushedViews;
+  private final Counter flushFailures;
+  private final Timer flushTimer;
+
+  public ViewCountService(
+    PostViewCountRepository postViewCountRepository,
+    OpenPostIndex openPostIndex,
+    HotRankingService hotRankingService,
+    TaskScheduler taskScheduler,
+    MeterRegistry meterRegistry,
+    @Value("${post.view-count.flush-interval-ms:5000}") long flushIntervalMs,
+    @Value("${post.view-count.batch-size:500}") int batchSize,
+    @Value("${post.view-count.max-pending:10000}") long maxPendingViews
+  ) {
+    this.postViewCountRepository = postViewCountRepository;
+    this.openPostIndex = openPostIndex;
+    this.hotRankingService = hotRankingService;
+    this.taskScheduler = taskScheduler;
+    this.batchSize = batchSize;
+    this.maxPendingViews = maxPendingViews;
+
+    this.flushedViews =
+      Counter
+        .builder("post.viewcount.flushed")
+        .description("DB에 반영된 조회수")
+        .register(meterRegistry);
+    this.flushFailures =
+      Counter
+        .builder("post.viewcount.flush.failures")
+        .description("조회수 반영 실패 횟수")
+        .register(meterRegistry);
+    this.flushTimer =
+      Timer
+        .builder("post.viewcount.flush")
+        .description("조회수 배치 반영 시간")
+        .register(meterRegistry);
+
+    Gauge
+      .builder("post.viewcount.pending", pendingViews, StripedCounter::pendingTotal)
+      .description("아직 DB에 반영되지 않은 조회수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.viewcount.pending.posts", pendingViews, StripedCounter::size)
+      .description("반영 대기 중인 게시글 수")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.viewcount.flush.interval", () -> flushIntervalMs)
+      .baseUnit("milliseconds")
+      .register(meterRegistry);
+    Gauge
+      .builder("post.viewcount.flush.batch.size", () -> batchSize)
+      .register(meterRegistry);
+    Gauge
+      .builder("post.viewcount.max.pending", () -> maxPendingViews)
+      .description("비정상 종료 시 유실될 수 있는 최대 조회수")
+      .register(meterRegistry);
+  }
+
+  // 조회수 1 증가 (DB 접근 없음)
+  public void increment(Long postId) {
+    if (postId == null) {
+      return;
+    }
+    pendingViews.increment(postId);
+
+    // 유실 한도에 도달하면 다음 주기를 기다리지 않고 반영
+    if (
+      pendingViews.pendingTotal() >= maxPendingViews &&
+      earlyFlushRequested.compareAndSet(false, true)
+    ) {
+      taskScheduler.schedule(this::flush, Instant.now());
+    }
+  }
+
+  // 아직 반영되지 않은 조회수
+  public long getPendingViews(Long postId) {
+    return pendingViews.get(postId);
+  }
+
+  // 누적된 조회수를 DB에 반영
+  @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+  public void flush() {
+    if (!flushing.compareAndSet(false, true)) {
+      return;
+    }
+    earlyFlushRequested.set(false);
+    try {
+      Map<Long, Long> deltas = pendingViews.drain();
+      if (!deltas.isEmpty()) {
+        flushTimer.record(() -> write(deltas));
+      }
+    } finally {
+      flushing.set(false);
+    }
+  }
+
+  private void write(Map<Long, Long> deltas) {
+    List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+    for (int from = 0; from < entries.size(); from += batchSize) {
+      List<Map.Entry<Long, Long>> batch = entries.subList(
+        from,
+        Math.min(from + batchSize, entries.size())
+      );
+      try {
+        postViewCountRepository.addViewCounts(batch);
+        openPostIndex.addViews(batch); // 조회수순 목록 인덱스 반영
+        hotRankingService.recordViews(batch); // 인기순 점수 반영
+        flushedViews.increment(sum(batch));
+      } catch (DataAccessException e) {
+        // 반영하지 못한 증가분은 다음 주기에 다시 시도
+        Map<Long, Long> remaining = new HashMap<>();
+        for (Map.Entry<Long, Long> entry : entries.subList(from, entries.size())) {
+          remaining.put(entry.getKey(), entry.getValue());
+        }
+        pendingViews.restore(remaining);
+        flushFailures.increment();
+        logger.warn("조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        break;
+      }
+    }
+  }
+
+  private long sum(List<Map.Entry<Long, Long>> batch) {
+    long sum = 0;
+    for (Map.Entry<Long, Long> entry : batch) {
+      sum += entry.getValue();
+    }
+    return sum;
+  }
+
+  // 종료 시 남은 조회수 반영
+  @PreDestroy
+  public void shutdown() {
+    flush();
+  }
+}
@@ -0,0 +1,168 @@
+package com.hongsamstick.question.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 Bloom filter
+ *  - mightContain()이 false이면 확실히 없는 값이고, true이면 있을 수도 있는 값입니다.
+ *  - 비트 배열은 AtomicLongArray로 관리하여 락 없이 동시에 추가/조회할 수 있습니다.
+ *  - 제거는 지원하지 않으므로 삭제된 값은 다시 생성(rebuild)할 때 정리됩니다.
+ */
+public class BloomFilter {
+
+  private static final long SEED1 = 0x9E3779B97F4A7C15L;
+  private static final long SEED2 = 0xC2B2AE3D27D4EB4FL;
+
+  private final AtomicLongArray words;
+  private final long bitSize;
+  private final int hashFunctions;
+  private final long expectedInsertions;
+  private final double targetFpp;
+
+  public BloomFilter(long expectedInsertions, double targetFpp) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions must be positive");
+    }
+    if (targetFpp <= 0 || targetFpp >= 1) {
+      throw new IllegalArgumentException("targetFpp must be in (0, 1)");
+    }
+    this.expectedInsertions = expectedInsertions;
+    this.targetFpp = targetFpp;
+
+    // m = -n ln p / (ln 2)^2, k = m/n ln 2
+    long bits = (long) Math.ceil(
+      -expectedInsertions * Math.log(targetFpp) / (Math.log(2) * Math.log(2))
+    );
+    int wordCount = (int) Math.min(Integer.MAX_VALUE, (bits + 63) / 64);
+    this.words = new AtomicLongArray(wordCount);
+    this.bitSize = (long) wordCount * 64;
+    this.hashFunctions =
+      Math.max(
+        1,
+        (int) Math.round((double) bitSize / expectedInsertions * Math.log(2))
+      );
+  }
+
+  public void put(UUID value) {
+    put(toBytes(value));
+  }
+
+  public void put(String value) {
+    put(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public void put(byte[] value) {
+    long h1 = hash(value, SEED1);
+    long h2 = hash(value, SEED2);
+    for (int i = 0; i < hashFunctions; i++) {
+      setBit(index(h1 + i * h2));
+    }
+  }
+
+  public boolean mightContain(UUID value) {
+    return mightContain(toBytes(value));
+  }
+
+  public boolean mightContain(String value) {
+    return mightContain(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public boolean mightContain(byte[] value) {
+    long h1 = hash(value, SEED1);
+    long h2 = hash(value, SEED2);
+    for (int i = 0; i < hashFunctions; i++) {
+      if (!getBit(index(h1 + i * h2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 설정된 비트 수 (전체 배열을 훑으므로 지표 수집 주기에만 사용)
+  public long bitCount() {
+    long count = 0;
+    for (int i = 0; i < words.length(); i++) {
+      count += Long.bitCount(words.get(i));
+    }
+    return count;
+  }
+
+  // 현재 채워진 비율로 추정한 오탐률
+  public double estimatedFpp() {
+    return Math.pow((double) bitCount() / bitSize, hashFunctions);
+  }
+
+  // 설정된 비트 수로 추정한 저장된 값의 개수
+  public long approximateElementCount() {
+    double fraction = (double) bitCount() / bitSize;
+    return Math.round(-Math.log1p(-fraction) * bitSize / hashFunctions);
+  }
+
+  public long getBitSize() {
+    return bitSize;
+  }
+
+  public long getMemoryBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  public int getHashFunctions() {
+    return hashFunctions;
+  }
+
+  public long getExpectedInsertions() {
+    return expectedInsertions;
+  }
+
+  public double getTargetFpp() {
+    return targetFpp;
+  }
+
+  private long index(long combinedHash) {
+    return (combinedHash & Long.MAX_VALUE) % bitSize;
+  }
+
+  private void setBit(long index) {
+    int word = (int) (index >>> 6);
+    long mask = 1L << index;
+    long current;
+    do {
+      current = words.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!words.compareAndSet(word, current, current | mask));
+  }
+
+  private boolean getBit(long index) {
+    return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+  }
+
+  private static byte[] toBytes(UUID value) {
+    byte[] bytes = new byte[16];
+    long msb = value.getMostSignificantBits();
+    long lsb = value.getLeastSignificantBits();
+    for (int i = 0; i < 8; i++) {
+      bytes[i] = (byte) (msb >>> (56 - 8 * i));
+      bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+    }
+    return bytes;
+  }
+
+  // FNV-1a 후 murmur3 finalizer로 비트를 섞은 64비트 해시
+  private static long hash(byte[] data, long seed) {
+    long h = seed ^ (data.length * 0x100000001B3L);
+    for (byte b : data) {
+      h ^= (b & 0xFF);
+      h *= 0x100000001B3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xFF51AFD7ED558CCDL;
+    h ^= h >>> 33;
+    h *= 0xC4CEB9FE1A85EC53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
@@ -0,0 +1,202 @@
+package com.hongsamstick.question.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠
+ *  - 마감 시각을 tick 단위로 나누어 레벨별 버킷(이중 연결 리스트)에 넣습니다.
+ *  - 등록/취소는 O(1)이며, tick마다 현재 버킷만 처리하고 상위 레벨 버킷은
+ *    해당 구간에 도달했을 때 하위 레벨로 내려보냅니다(cascade).
+ *  - 레벨 L의 버킷은 마감 tick과 현재 tick이 처음으로 달라지는 비트 위치로 정해지므로
+ *    64비트 tick 범위 전체를 고정된 레벨 수로 다룹니다.
+ *  - 모든 메서드는 스레드 안전하며, 만료된 항목은 advanceTo()의 반환값으로 전달됩니다.
+ *
+ * @param <T> 마감 시 전달할 값
+ */
+public class HierarchicalTimingWheel<T> {
+
+  private static final int BITS = 6; // 레벨당 64개 버킷
+  private static final int WHEEL_SIZE = 1 << BITS;
+  private static final int MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = (Long.SIZE + BITS - 1) / BITS;
+
+  /**
+   * 등록된 마감 (cancel()로 취소)
+   */
+  public static final class Timeout<T> {
+
+    private final HierarchicalTimingWheel<T> wheel;
+    private final T value;
+    private final long deadlineMs;
+    private final long deadlineTick;
+
+    private Bucket<T> bucket;
+    private Timeout<T> prev;
+    private Timeout<T> next;
+
+    private Timeout(
+      HierarchicalTimingWheel<T> wheel,
+      T value,
+      long deadlineMs,
+      long deadlineTick
+    ) {
+      this.wheel = wheel;
+      this.value = value;
+      this.deadlineMs = deadlineMs;
+      this.deadlineTick = deadlineTick;
+    }
+
+    public T getValue() {
+      return value;
+    }
+
+    public long getDeadlineMs() {
+      return deadlineMs;
+    }
+
+    // 아직 만료되지 않았으면 제거하고 true 반환
+    public boolean cancel() {
+      return wheel.remove(this);
+    }
+  }
+
+  private static final class Bucket<T> {
+
+    private Timeout<T> head;
+
+    private void add(Timeout<T> timeout) {
+      timeout.bucket = this;
+      timeout.prev = null;
+      timeout.next = head;
+      if (head != null) {
+        head.prev = timeout;
+      }
+      head = timeout;
+    }
+
+    private void remove(Timeout<T> timeout) {
+      if (timeout.prev != null) {
+        timeout.prev.next = timeout.next;
+      } else {
+        head = timeout.next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      timeout.bucket = null;
+      timeout.prev = null;
+      timeout.next = null;
+    }
+
+    // 버킷을 비우고 들어 있던 항목 반환
+    private Timeout<T> drain() {
+      Timeout<T> first = head;
+      head = null;
+      return first;
+    }
+  }
+
+  private final long tickMs;
+  private final Bucket<T>[][] levels;
+  // 이미 마감이 지났거나 현재 tick에 마감되는 항목
+  private final Bucket<T> due = new Bucket<>();
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMs, long startMs) {
+    if (tickMs <= 0) {
+      throw new IllegalArgumentException("tickMs must be positive");
+    }
+    this.tickMs = tickMs;
+    this.currentTick = startMs / tickMs;
+    this.levels = (Bucket<T>[][]) new Bucket<?>[LEVELS][WHEEL_SIZE];
+    for (int level = 0; level < LEVELS; level++) {
+      for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+        levels[level][slot] = new Bucket<>();
+      }
+    }
+  }
+
+  // 마감 등록 (마감이 이미 지났으면 다음 advanceTo()에서 만료)
+  public synchronized Timeout<T> schedule(T value, long deadlineMs) {
+    // 일찍 만료되지 않도록 올림
+    long deadlineTick = Math.floorDiv(deadlineMs + tickMs - 1, tickMs);
+    Timeout<T> timeout = new Timeout<>(this, value, deadlineMs, deadlineTick);
+    place(timeout);
+    size++;
+    return timeout;
+  }
+
+  // 현재 시각까지 tick을 진행하고 만료된 항목 반환
+  public synchronized List<Timeout<T>> advanceTo(long nowMs) {
+    List<Timeout<T>> expired = new ArrayList<>();
+    collect(due.drain(), expired);
+
+    long targetTick = nowMs / tickMs;
+    while (currentTick < targetTick) {
+      currentTick++;
+      // 상위 레벨부터 현재 구간에 도달한 버킷을 하위 레벨로 내려보냄
+      for (int level = LEVELS - 1; level > 0; level--) {
+        long lowerBits = currentTick & ((1L << (BITS * level)) - 1);
+        if (lowerBits == 0) {
+          int slot = (int) ((currentTick >>> (BITS * level)) & MASK);
+          cascade(levels[level][slot].drain());
+        }
+      }
+      collect(levels[0][(int) (currentTick & MASK)].drain(), expired);
+      collect(due.drain(), expired);
+    }
+    size -= expired.size();
+    return expired;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  private synchronized boolean remove(Timeout<T> timeout) {
+    if (timeout.bucket == null) {
+      return false;
+    }
+    timeout.bucket.remove(timeout);
+    size--;
+    return true;
+  }
+
+  private void place(Timeout<T> timeout) {
+    if (timeout.deadlineTick <= currentTick) {
+      due.add(timeout);
+      return;
+    }
+    // 현재 tick과 처음으로 달라지는 비트가 속한 레벨
+    int highestDifferentBit =
+      63 - Long.numberOfLeadingZeros(timeout.deadlineTick ^ currentTick);
+    int level = highestDifferentBit / BITS;
+    int slot = (int) ((timeout.deadlineTick >>> (BITS * level)) & MASK);
+    levels[level][slot].add(timeout);
+  }
+
+  private void cascade(Timeout<T> first) {
+    Timeout<T> timeout = first;
+    while (timeout != null) {
+      Timeout<T> next = timeout.next;
+      timeout.bucket = null;
+      place(timeout);
+      timeout = next;
+    }
+  }
+
+  private void collect(Timeout<T> first, List<Timeout<T>> expired) {
+    Timeout<T> timeout = first;
+    while (timeout != null) {
+      Timeout<T> next = timeout.next;
+      timeout.bucket = null;
+      timeout.prev = null;
+      timeout.next = null;
+      expired.add(timeout);
+      timeout = next;
+    }
+  }
+}
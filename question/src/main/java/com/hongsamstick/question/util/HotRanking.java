@@ -0,0 +1,107 @@
+package com.hongsamstick.question.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 로그 공간 점수로 정렬된 게시글 순위 (skip list)
+ *  - 점수는 ln(Σ 가중치 × 2^((이벤트 시각 - 기준 시각) / 반감기)) 형태로 저장합니다.
+ *    모든 게시글이 같은 기준 시각을 쓰므로 시간이 지나도 점수를 다시 계산하지 않고 비교할 수 있습니다.
+ *  - 이벤트 반영(add)은 기존 항목 제거와 새 항목 추가로 O(log n)입니다.
+ *  - 같은 게시글에 대한 갱신은 ConcurrentHashMap.compute()로 직렬화하고,
+ *    조회(top)는 잠금 없이 skip list를 순회합니다.
+ */
+public class HotRanking {
+
+  private static final Comparator<Entry> ORDER = Comparator
+    .comparingDouble((Entry entry) -> entry.score)
+    .reversed()
+    .thenComparing(entry -> entry.postId, Comparator.reverseOrder());
+
+  private static final class Entry {
+
+    private final double score;
+    private final long postId;
+
+    private Entry(double score, long postId) {
+      this.score = score;
+      this.postId = postId;
+    }
+  }
+
+  private final ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>();
+  private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(
+    ORDER
+  );
+
+  // 이벤트 점수를 기존 점수에 더함 (로그 공간 덧셈)
+  public void add(long postId, double score) {
+    scores.compute(
+      postId,
+      (key, previous) -> {
+        double next = previous == null ? score : logAddExp(previous, score);
+        move(key, previous, next);
+        return next;
+      }
+    );
+  }
+
+  // 점수를 지정한 값으로 변경
+  public void put(long postId, double score) {
+    scores.compute(
+      postId,
+      (key, previous) -> {
+        move(key, previous, score);
+        return score;
+      }
+    );
+  }
+
+  public void remove(long postId) {
+    scores.computeIfPresent(
+      postId,
+      (key, previous) -> {
+        ranking.remove(new Entry(previous, key));
+        return null;
+      }
+    );
+  }
+
+  private void move(long postId, Double previous, double next) {
+    if (previous != null) {
+      ranking.remove(new Entry(previous, postId));
+    }
+    ranking.add(new Entry(next, postId));
+  }
+
+  // 점수가 높은 순서로 offset부터 limit개의 postId
+  public List<Long> top(long offset, int limit) {
+    List<Long> postIds = new ArrayList<>(limit);
+    Iterator<Entry> iterator = ranking.iterator();
+    for (long i = 0; i < offset && iterator.hasNext(); i++) {
+      iterator.next();
+    }
+    while (postIds.size() < limit && iterator.hasNext()) {
+      postIds.add(iterator.next().postId);
+    }
+    return postIds;
+  }
+
+  public Double scoreOf(long postId) {
+    return scores.get(postId);
+  }
+
+  public int size() {
+    return scores.size();
+  }
+
+  // ln(e^a + e^b)를 overflow 없이 계산
+  public static double logAddExp(double a, double b) {
+    double max = Math.max(a, b);
+    return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+  }
+}
@@ -0,0 +1,56 @@
+package com.hongsamstick.question.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나로 합치는 single-flight
+ *  - 먼저 도착한 요청만 loader를 실행하고, 진행 중에 도착한 요청은 그 결과를 함께 받습니다.
+ *  - loader가 실패하면 대기 중인 모든 요청에 같은 예외가 전달됩니다.
+ *  - 결과를 저장하지 않으므로 완료 후 도착한 요청은 다시 loader를 실행합니다.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  public V execute(K key, Supplier<V> loader) {
+    CompletableFuture<V> call = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+    if (existing != null) {
+      return await(existing);
+    }
+
+    try {
+      V value = loader.get();
+      call.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  // 진행 중인 조회 수
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private V await(CompletableFuture<V> call) {
+    try {
+      return call.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+}
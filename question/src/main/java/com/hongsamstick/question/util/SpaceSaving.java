@@ -0,0 +1,188 @@
+package com.hongsamstick.question.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 빈도 상위 항목(heavy hitter) 추정
+ *  - 최대 capacity개의 카운터만 유지하며, 추적하지 않는 항목이 들어오면 가장 작은 카운터를 넘겨받습니다.
+ *  - 추정값은 실제 횟수보다 작지 않고, 초과분은 항목별 error 이하이며 error는 전체 횟수 / capacity 이하입니다.
+ *  - 카운터는 최소 힙으로 관리하므로 offer()는 O(log capacity)입니다.
+ *  - 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ *
+ * @param <K> 항목 키
+ */
+public class SpaceSaving<K> {
+
+  /**
+   * 추정 결과 (count - error가 실제 횟수의 하한)
+   */
+  public static final class Estimate<K> {
+
+    private final K key;
+    private final long count;
+    private final long error;
+
+    public Estimate(K key, long count, long error) {
+      this.key = key;
+      this.count = count;
+      this.error = error;
+    }
+
+    public K getKey() {
+      return key;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getError() {
+      return error;
+    }
+  }
+
+  private static final class Counter<K> {
+
+    private K key;
+    private long count;
+    private long error;
+    private int index; // 힙에서의 위치
+  }
+
+  private final int capacity;
+  private final Map<K, Counter<K>> counters;
+  private final Counter<K>[] heap;
+  private int size;
+  private long total;
+
+  @SuppressWarnings("unchecked")
+  public SpaceSaving(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+    this.heap = (Counter<K>[]) new Counter<?>[capacity];
+  }
+
+  public void offer(K key) {
+    offer(key, 1);
+  }
+
+  public void offer(K key, long increment) {
+    total += increment;
+    Counter<K> counter = counters.get(key);
+    if (counter == null && size < capacity) {
+      counter = new Counter<>();
+      counter.key = key;
+      counter.count = increment;
+      counter.index = size;
+      heap[size++] = counter;
+      counters.put(key, counter);
+      siftUp(counter.index);
+      return;
+    }
+    if (counter == null) {
+      // 가장 작은 카운터를 넘겨받고, 기존 값만큼을 오차로 기록
+      counter = heap[0];
+      counters.remove(counter.key);
+      counter.error = counter.count;
+      counter.key = key;
+      counters.put(key, counter);
+    }
+    counter.count += increment;
+    siftDown(counter.index);
+  }
+
+  // 추정 횟수가 큰 순서로 최대 n개
+  public List<Estimate<K>> top(int n) {
+    Counter<K>[] sorted = Arrays.copyOf(heap, size);
+    Arrays.sort(
+      sorted,
+      Comparator.comparingLong((Counter<K> counter) -> counter.count).reversed()
+    );
+    List<Estimate<K>> estimates = new ArrayList<>(Math.min(n, size));
+    for (int i = 0; i < sorted.length && i < n; i++) {
+      estimates.add(
+        new Estimate<>(sorted[i].key, sorted[i].count, sorted[i].error)
+      );
+    }
+    return estimates;
+  }
+
+  // 추적 중인 모든 항목의 추정값
+  public Map<K, Estimate<K>> estimates() {
+    Map<K, Estimate<K>> estimates = new HashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      Counter<K> counter = heap[i];
+      estimates.put(
+        counter.key,
+        new Estimate<>(counter.key, counter.count, counter.error)
+      );
+    }
+    return estimates;
+  }
+
+  // 추적하지 않는 항목의 횟수 상한 (카운터가 가득 차지 않았으면 0)
+  public long minCount() {
+    return size < capacity ? 0 : heap[0].count;
+  }
+
+  // 모든 추정값에 공통으로 적용되는 최대 오차 (전체 횟수 / capacity)
+  public long errorBound() {
+    return total / capacity;
+  }
+
+  public long total() {
+    return total;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  private void siftUp(int index) {
+    Counter<K> counter = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) / 2;
+      if (heap[parent].count <= counter.count) {
+        break;
+      }
+      heap[index] = heap[parent];
+      heap[index].index = index;
+      index = parent;
+    }
+    heap[index] = counter;
+    counter.index = index;
+  }
+
+  private void siftDown(int index) {
+    Counter<K> counter = heap[index];
+    while (true) {
+      int child = index * 2 + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+        child++;
+      }
+      if (heap[child].count >= counter.count) {
+        break;
+      }
+      heap[index] = heap[child];
+      heap[index].index = index;
+      index = child;
+    }
+    heap[index] = counter;
+    counter.index = index;
+  }
+}
@@ -0,0 +1,101 @@
+package com.hongsamstick.question.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별로 LongAdder를 두어 경합 없이 증가시키고, 주기적으로 누적값을 꺼내가는(drain) 카운터
+ *  - add()는 DB나 락 없이 셀 단위 CAS만 수행합니다.
+ *  - drain()은 sumThenReset()으로 누적값을 꺼내므로 동시에 들어온 증가분은 다음 drain에 포함됩니다.
+ *  - 누적값이 0인 키는 제거하되, 제거 직전에 참조를 얻은 스레드의 증가분을 잃지 않도록
+ *    다음 drain에서 한 번 더 회수한 뒤 버립니다.
+ *    그 이후에 더한 스레드는 카운터가 제거된 것을 보고 직접 회수해 현재 카운터로 옮깁니다.
+ */
+public class StripedCounter<K> {
+
+  private final ConcurrentHashMap<K, LongAdder> counters = new ConcurrentHashMap<>();
+  private final LongAdder pendingTotal = new LongAdder();
+
+  // 직전 drain에서 제거된 카운터 (drain()에서만 접근)
+  private Map<K, LongAdder> retired = new HashMap<>();
+
+  public void add(K key, long delta) {
+    pendingTotal.add(delta);
+    addToCounter(key, delta);
+  }
+
+  private void addToCounter(K key, long delta) {
+    LongAdder adder = counters.get(key);
+    if (adder == null) {
+      adder = counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+    adder.add(delta);
+    // 그 사이 drain이 카운터를 제거했으면 남은 값을 회수해 현재 카운터로 옮김
+    // (sumThenReset은 셀마다 getAndSet이므로 drain과 동시에 회수해도 중복되거나 사라지지 않음)
+    if (counters.get(key) != adder) {
+      long reclaimed = adder.sumThenReset();
+      if (reclaimed != 0) {
+        addToCounter(key, reclaimed);
+      }
+    }
+  }
+
+  public void increment(K key) {
+    add(key, 1L);
+  }
+
+  // 아직 drain되지 않은 키의 누적값
+  public long get(K key) {
+    LongAdder adder = counters.get(key);
+    return adder == null ? 0L : adder.sum();
+  }
+
+  // 아직 drain되지 않은 전체 누적값
+  public long pendingTotal() {
+    return pendingTotal.sum();
+  }
+
+  // 추적 중인 키 개수
+  public int size() {
+    return counters.size();
+  }
+
+  // 누적값을 꺼내고 0으로 초기화
+  public synchronized Map<K, Long> drain() {
+    Map<K, Long> deltas = new HashMap<>();
+
+    // 지난번에 제거된 카운터에 늦게 반영된 증가분 회수
+    for (Map.Entry<K, LongAdder> entry : retired.entrySet()) {
+      long delta = entry.getValue().sumThenReset();
+      if (delta != 0) {
+        deltas.merge(entry.getKey(), delta, Long::sum);
+      }
+    }
+
+    Map<K, LongAdder> nextRetired = new HashMap<>();
+    for (Map.Entry<K, LongAdder> entry : counters.entrySet()) {
+      LongAdder adder = entry.getValue();
+      long delta = adder.sumThenReset();
+      if (delta != 0) {
+        deltas.merge(entry.getKey(), delta, Long::sum);
+      } else if (counters.remove(entry.getKey(), adder)) {
+        nextRetired.put(entry.getKey(), adder);
+      }
+    }
+    retired = nextRetired;
+
+    long drained = 0;
+    for (long delta : deltas.values()) {
+      drained += delta;
+    }
+    pendingTotal.add(-drained);
+    return deltas;
+  }
+
+  // 반영에 실패한 누적값을 되돌려 놓기
+  public void restore(Map<K, Long> deltas) {
+    deltas.forEach(this::add);
+  }
+}
@@ -0,0 +1,38 @@
+package com.hongsamstick.question.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간 순서로 정렬되는 UUID (UUIDv7, RFC 9562) 생성기
+ *  - 상위 48비트가 밀리초 타임스탬프이므로 새 코드가 B-tree 인덱스의 끝에 모여 삽입됩니다.
+ *  - 나머지 74비트는 스레드별 SecureRandom으로 채워 추측하기 어렵게 하고,
+ *    동시에 게시판을 개설해도 하나의 SecureRandom을 두고 경합하지 않습니다.
+ */
+public final class TimeOrderedUuid {
+
+  private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(
+    SecureRandom::new
+  );
+
+  private TimeOrderedUuid() {}
+
+  public static UUID generate() {
+    return generate(System.currentTimeMillis());
+  }
+
+  static UUID generate(long epochMillis) {
+    SecureRandom random = RANDOM.get();
+    long randA = random.nextInt(1 << 12); // 12비트
+    long randB = random.nextLong() & 0x3FFFFFFFFFFFFFFFL; // 62비트
+
+    long msb = ((epochMillis & 0xFFFFFFFFFFFFL) << 16) | (0x7L << 12) | randA;
+    long lsb = (0x2L << 62) | randB; // variant 10
+    return new UUID(msb, lsb);
+  }
+
+  // UUIDv7에 기록된 생성 시각 (밀리초)
+  public static long timestampOf(UUID uuid) {
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+}
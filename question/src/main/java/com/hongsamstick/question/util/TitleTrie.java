@@ -0,0 +1,286 @@
+package com.hongsamstick.question.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+/**
+ * 제목 접두사 자동 완성용 압축 트라이 (radix trie)
+ *  - 자식이 하나뿐인 경로는 한 간선(label)으로 합쳐 노드 수를 줄입니다.
+ *  - 노드마다 그 아래 제목 중 order 기준 상위 topSize개를 보관하므로, 조회는 접두사 길이만큼만 내려갑니다.
+ *  - 키는 NFKD로 분해하고 소문자로 바꾸어 저장합니다.
+ *    한글은 자모로 분해되므로 입력 중인 "스ㅍ"도 "스프"로 시작하는 제목과 일치합니다.
+ *  - 제거 시 경로의 상위 목록에서 빼기만 하므로 목록이 topSize보다 짧아질 수 있습니다. (다시 생성할 때 복구)
+ *  - 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ *
+ * @param <T> 제목에 연결된 값
+ */
+public class TitleTrie<T> {
+
+  // 64비트 JVM(compressed oops) 기준 대략적인 크기
+  private static final long NODE_BYTES = 32;
+  private static final long ARRAY_BYTES = 16;
+  private static final long REFERENCE_BYTES = 4;
+
+  private static final char[] NO_KEYS = new char[0];
+  private static final Object[] NO_VALUES = new Object[0];
+
+  private static final class Node {
+
+    private char[] label; // 부모에서 이 노드로 오는 간선
+    private char[] keys = NO_KEYS; // 자식 간선의 첫 글자 (정렬)
+    private Node[] children;
+    private Object[] top = NO_VALUES; // order 순서
+
+    private Node(char[] label) {
+      this.label = label;
+    }
+
+    private Node child(char key) {
+      int index = Arrays.binarySearch(keys, key);
+      return index < 0 ? null : children[index];
+    }
+
+    private void putChild(Node child) {
+      char key = child.label[0];
+      int index = Arrays.binarySearch(keys, key);
+      if (index >= 0) {
+        children[index] = child;
+        return;
+      }
+      int insertAt = -index - 1;
+      char[] nextKeys = new char[keys.length + 1];
+      Node[] nextChildren = new Node[keys.length + 1];
+      System.arraycopy(keys, 0, nextKeys, 0, insertAt);
+      nextKeys[insertAt] = key;
+      System.arraycopy(keys, insertAt, nextKeys, insertAt + 1, keys.length - insertAt);
+      if (children != null) {
+        System.arraycopy(children, 0, nextChildren, 0, insertAt);
+        System.arraycopy(
+          children,
+          insertAt,
+          nextChildren,
+          insertAt + 1,
+          children.length - insertAt
+        );
+      }
+      nextChildren[insertAt] = child;
+      keys = nextKeys;
+      children = nextChildren;
+    }
+  }
+
+  private final int topSize;
+  private final Comparator<? super T> order;
+  private final Node root = new Node(NO_KEYS);
+  private int size;
+
+  public TitleTrie(int topSize, Comparator<? super T> order) {
+    if (topSize <= 0) {
+      throw new IllegalArgumentException("topSize must be positive");
+    }
+    this.topSize = topSize;
+    this.order = order;
+  }
+
+  // 검색/저장에 사용하는 키 (NFKD 분해, 소문자, 연속 공백 하나로)
+  public static String normalize(String text) {
+    String decomposed = Normalizer
+      .normalize(text, Normalizer.Form.NFKD)
+      .toLowerCase(Locale.ROOT);
+    StringBuilder key = new StringBuilder(decomposed.length());
+    boolean space = false;
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.isWhitespace(c)) {
+        space = key.length() > 0;
+      } else {
+        if (space) {
+          key.append(' ');
+          space = false;
+        }
+        key.append(c);
+      }
+    }
+    return key.toString();
+  }
+
+  /**
+   * 제목 추가
+   *  - 값을 order 순서로 넣으면 노드의 상위 목록이 뒤에 붙기만 하므로 생성이 빠릅니다.
+   */
+  public void add(String title, T value) {
+    String key = normalize(title);
+    Node node = root;
+    offer(node, value);
+    int position = 0;
+    while (position < key.length()) {
+      Node child = node.child(key.charAt(position));
+      if (child == null) {
+        Node leaf = new Node(key.substring(position).toCharArray());
+        offer(leaf, value);
+        node.putChild(leaf);
+        break;
+      }
+      int common = commonPrefix(child.label, key, position);
+      if (common < child.label.length) {
+        // 간선 중간에서 갈라지면 공통 부분을 새 노드로 분리
+        Node split = new Node(Arrays.copyOf(child.label, common));
+        split.top = child.top.clone();
+        child.label = Arrays.copyOfRange(child.label, common, child.label.length);
+        split.putChild(child);
+        node.putChild(split);
+        child = split;
+      }
+      offer(child, value);
+      node = child;
+      position += common;
+    }
+    size++;
+  }
+
+  // 제목 제거 (경로의 상위 목록에서만 제외)
+  public void remove(String title, T value) {
+    String key = normalize(title);
+    Node node = root;
+    discard(node, value);
+    int position = 0;
+    while (position < key.length()) {
+      Node child = node.child(key.charAt(position));
+      if (child == null) {
+        return;
+      }
+      int common = commonPrefix(child.label, key, position);
+      discard(child, value);
+      if (common < child.label.length) {
+        return;
+      }
+      node = child;
+      position += common;
+    }
+    size = Math.max(0, size - 1);
+  }
+
+  /**
+   * 접두사로 시작하는 제목의 값 (order 순서, 최대 limit개)
+   *
+   * @param filter 결과에 포함할 값 (예: 마감되지 않은 게시글)
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> suggest(String prefix, int limit, Predicate<? super T> filter) {
+    String key = normalize(prefix);
+    Node node = root;
+    int position = 0;
+    while (position < key.length()) {
+      Node child = node.child(key.charAt(position));
+      if (child == null) {
+        return List.of();
+      }
+      int common = commonPrefix(child.label, key, position);
+      if (position + common < key.length() && common < child.label.length) {
+        return List.of(); // 간선 중간에서 어긋남
+      }
+      node = child;
+      position += common;
+    }
+
+    List<T> values = new ArrayList<>(Math.min(limit, node.top.length));
+    for (Object value : node.top) {
+      if (values.size() >= limit) {
+        break;
+      }
+      if (filter.test((T) value)) {
+        values.add((T) value);
+      }
+    }
+    return values;
+  }
+
+  // 상위 목록에 추가 (topSize개를 넘으면 마지막 항목 제외)
+  @SuppressWarnings("unchecked")
+  private void offer(Node node, T value) {
+    int index = 0;
+    while (index < node.top.length && order.compare((T) node.top[index], value) <= 0) {
+      index++;
+    }
+    if (index >= topSize) {
+      return;
+    }
+    int length = Math.min(node.top.length + 1, topSize);
+    Object[] next = new Object[length];
+    System.arraycopy(node.top, 0, next, 0, index);
+    next[index] = value;
+    System.arraycopy(node.top, index, next, index + 1, length - index - 1);
+    node.top = next;
+  }
+
+  private void discard(Node node, T value) {
+    for (int i = 0; i < node.top.length; i++) {
+      if (node.top[i].equals(value)) {
+        Object[] next = new Object[node.top.length - 1];
+        System.arraycopy(node.top, 0, next, 0, i);
+        System.arraycopy(node.top, i + 1, next, i, node.top.length - i - 1);
+        node.top = next;
+        return;
+      }
+    }
+  }
+
+  private static int commonPrefix(char[] label, String key, int offset) {
+    int length = Math.min(label.length, key.length() - offset);
+    int i = 0;
+    while (i < length && label[i] == key.charAt(offset + i)) {
+      i++;
+    }
+    return i;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // 노드 수
+  public long nodeCount() {
+    long count = 0;
+    List<Node> stack = new ArrayList<>();
+    stack.add(root);
+    while (!stack.isEmpty()) {
+      Node node = stack.remove(stack.size() - 1);
+      count++;
+      if (node.children != null) {
+        stack.addAll(Arrays.asList(node.children));
+      }
+    }
+    return count;
+  }
+
+  /**
+   * 트라이 구조의 대략적인 메모리 사용량 (바이트)
+   *  - 노드, 간선 문자열, 자식/상위 목록 배열을 더하며 값 자체의 크기는 포함하지 않습니다.
+   */
+  public long estimateBytes() {
+    long bytes = 0;
+    List<Node> stack = new ArrayList<>();
+    stack.add(root);
+    while (!stack.isEmpty()) {
+      Node node = stack.remove(stack.size() - 1);
+      bytes += NODE_BYTES;
+      bytes += ARRAY_BYTES + align(2L * node.label.length);
+      bytes += ARRAY_BYTES + align(REFERENCE_BYTES * node.top.length);
+      if (node.children != null) {
+        bytes += ARRAY_BYTES + align(2L * node.keys.length);
+        bytes += ARRAY_BYTES + align(REFERENCE_BYTES * node.children.length);
+        stack.addAll(Arrays.asList(node.children));
+      }
+    }
+    return bytes;
+  }
+
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
@@ -0,0 +1,79 @@
+package com.hongsamstick.question.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 버킷 (GCRA 방식)
+ *  - 남은 토큰 수 대신 "버킷이 다시 가득 차는 이론상 시각(TAT)" 하나만 저장합니다.
+ *  - 요청마다 TAT를 토큰 하나의 보충 간격만큼 미루고, 현재 시각보다 capacity개 간격 넘게 앞서면 거절합니다.
+ *  - 상태가 long 하나이므로 AtomicLong CAS만으로 락 없이 갱신합니다.
+ */
+public class TokenBucket {
+
+  private final int capacity;
+  private final long intervalNanos; // 토큰 하나가 보충되는 간격
+  private final long toleranceNanos; // capacity개를 연속으로 허용하는 여유
+
+  private TokenBucket(int capacity, long intervalNanos) {
+    this.capacity = capacity;
+    this.intervalNanos = intervalNanos;
+    this.toleranceNanos = intervalNanos * capacity;
+  }
+
+  /**
+   * @param capacity 한 번에 허용하는 최대 요청 수
+   * @param refillTokens refillPeriod 동안 보충되는 토큰 수
+   */
+  public static TokenBucket of(
+    int capacity,
+    int refillTokens,
+    Duration refillPeriod
+  ) {
+    if (capacity <= 0 || refillTokens <= 0) {
+      throw new IllegalArgumentException(
+        "capacity and refillTokens must be positive"
+      );
+    }
+    return new TokenBucket(
+      capacity,
+      Math.max(1, refillPeriod.toNanos() / refillTokens)
+    );
+  }
+
+  // 새 키의 상태 (가득 찬 버킷)
+  public AtomicLong newState(long nowNanos) {
+    return new AtomicLong(nowNanos);
+  }
+
+  /**
+   * 토큰 하나 사용
+   *
+   * @return 허용이면 0, 거절이면 토큰이 보충될 때까지 남은 시간 (나노초)
+   */
+  public long tryAcquire(AtomicLong state, long nowNanos) {
+    while (true) {
+      long tat = state.get();
+      long next = Math.max(tat, nowNanos) + intervalNanos;
+      long over = next - nowNanos - toleranceNanos;
+      if (over > 0) {
+        return over;
+      }
+      if (state.compareAndSet(tat, next)) {
+        return 0;
+      }
+    }
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getIntervalNanos() {
+    return intervalNanos;
+  }
+
+  public long getToleranceNanos() {
+    return toleranceNanos;
+  }
+}
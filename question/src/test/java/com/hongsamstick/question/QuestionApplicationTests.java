@@ -2,10 +2,16 @@ package com.hongsamstick.question;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
-@SpringBootTest
+// 메일 서버와 Redis 없이 빈 구성만 확인 (메일은 연결하지 않고, 구독 컨테이너는 목 객체로 대체)
+@SpringBootTest(properties = "spring.mail.host=localhost")
 class QuestionApplicationTests {
 
+	@MockBean
+	private RedisMessageListenerContainer redisMessageListenerContainer;
+
 	@Test
 	void contextLoads() {
 	}
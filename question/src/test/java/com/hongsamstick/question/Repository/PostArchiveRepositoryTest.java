@@ -0,0 +1,95 @@
+package com.hongsamstick.question.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hongsamstick.question.domain.ArchivedPost;
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.repository.ArchivedPostRepository;
+import com.hongsamstick.question.repository.PostArchiveRepository;
+import com.hongsamstick.question.repository.PostRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@DataJpaTest
+@Import(PostArchiveRepository.class)
+public class PostArchiveRepositoryTest {
+
+  @Autowired
+  private PostArchiveRepository postArchiveRepository;
+
+  @Autowired
+  private ArchivedPostRepository archivedPostRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("마감 기준 이전에 마감된 게시글만 보관 테이블로 옮긴다")
+  void move_WhenEndedBeforeCutoff_ThenOnlyEndedPostsArchived() {
+    // 준비
+    LocalDateTime now = LocalDateTime.now();
+    Member member = new Member();
+    member.setEmail("alice@test.com");
+    member.setPassword("password");
+    member.setName("alice");
+    entityManager.persist(member);
+    Post ended = savePost(member, "ended", now.minusDays(2));
+    Post open = savePost(member, "open", now.plusDays(1));
+    savePost(member, "unlimited", null);
+    entityManager.flush();
+    entityManager.clear();
+
+    // 실행
+    List<Long> postIds = postArchiveRepository.lockArchivable(
+      now.minusDays(1),
+      10
+    );
+    int moved = postArchiveRepository.move(postIds, now);
+    entityManager.clear();
+
+    // 검증
+    assertEquals(List.of(ended.getPostId()), postIds);
+    assertEquals(1, moved);
+    assertTrue(postRepository.findByCode(ended.getCode()).isEmpty());
+    assertTrue(postRepository.findByCode(open.getCode()).isPresent());
+
+    ArchivedPost archived = archivedPostRepository
+      .findByCode(ended.getCode())
+      .orElseThrow();
+    assertEquals("ended", archived.getTitle());
+    assertEquals("alice@test.com", archived.getEmail());
+    assertEquals(
+      1,
+      archivedPostRepository
+        .findMyArchivedSummaries(
+          "alice@test.com",
+          PageRequest.of(0, 10, Sort.by("startDate").descending())
+        )
+        .getTotalElements()
+    );
+  }
+
+  private Post savePost(Member member, String title, LocalDateTime endDate) {
+    Post post = new Post();
+    post.setMember(member);
+    post.setTitle(title);
+    post.setContent(title);
+    post.setReadPermission(0);
+    post.setWritePermission(1);
+    post.setEndDate(endDate);
+    return entityManager.persist(post);
+  }
+}
@@ -0,0 +1,133 @@
+package com.hongsamstick.question.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.repository.PostRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 엔드포인트별로 실행되는 SQL 문 개수 검증
+ *  - N+1이나 불필요한 즉시 로딩이 다시 생기면 테스트가 실패합니다.
+ */
+@DataJpaTest
+@TestPropertySource(
+  properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+public class PostQueryCountTest {
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  private UUID code;
+
+  @BeforeEach
+  void setUp() {
+    Member alice = saveMember("alice@test.com", "alice");
+    Member bob = saveMember("bob@test.com", "bob");
+    code = savePost(alice, "title1").getCode();
+    savePost(alice, "title2");
+    savePost(bob, "title3");
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics =
+      entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("GET /post/{code} - 게시글과 개설자를 한 번의 쿼리로 조회")
+  void postDetail_ThenOneStatement() {
+    Post post = postRepository.findWithMemberByCode(code).orElseThrow();
+    post.getMember().getName();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("PUT, DELETE /post/{code} - 권한 확인 시 개설자를 조회하지 않음")
+  void ownershipCheck_ThenOneStatement() {
+    Post post = postRepository.findByCode(code).orElseThrow();
+    post.getMember().getEmail();
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("GET / - 개설자 수와 관계없이 한 번의 쿼리로 목록 조회")
+  void listPosts_ThenOneStatement() {
+    postRepository.findOpenPosts(
+      0,
+      LocalDateTime.now(),
+      PageRequest.of(0, 7, Sort.by(Sort.Direction.DESC, "startDate", "postId"))
+    );
+
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("GET /?page= - 목록과 개수 쿼리만 실행")
+  void listPostsWithOffset_ThenAtMostTwoStatements() {
+    postRepository.findOpenPostSummaries(
+      0,
+      LocalDateTime.now(),
+      PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "startDate"))
+    );
+
+    assertTrue(statistics.getPrepareStatementCount() <= 2);
+  }
+
+  @Test
+  @DisplayName("GET /post/my - 목록과 개수 쿼리만 실행")
+  void myPosts_ThenAtMostTwoStatements() {
+    postRepository.findMyPostSummaries(
+      "alice@test.com",
+      false,
+      PageRequest.of(0, 1, Sort.by("startDate").descending())
+    );
+
+    assertTrue(statistics.getPrepareStatementCount() <= 2);
+  }
+
+  private Member saveMember(String email, String name) {
+    Member member = new Member();
+    member.setEmail(email);
+    member.setPassword("password");
+    member.setName(name);
+    return entityManager.persist(member);
+  }
+
+  private Post savePost(Member member, String title) {
+    Post post = new Post();
+    post.setMember(member);
+    post.setTitle(title);
+    post.setContent(title);
+    post.setReadPermission(0);
+    post.setWritePermission(1);
+    return entityManager.persist(post);
+  }
+}
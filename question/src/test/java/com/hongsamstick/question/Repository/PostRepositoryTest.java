@@ -3,8 +3,10 @@ package com.hongsamstick.question.Repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostSummaryDto;
 import com.hongsamstick.question.repository.PostRepository;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +14,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @DataJpaTest
 public class PostRepositoryTest {
@@ -64,4 +67,57 @@ public class PostRepositoryTest {
     assertEquals(2, foundPosts.getTotalElements());
     assertEquals(post1, foundPosts.getContent().get(0));
   }
+
+  @Test
+  @DisplayName("조회수 커서 이후의 진행 중인 공개 게시글 찾기")
+  void findOpenPostsBelowViewcount_WhenCursorGiven_ThenReturnNextPosts() {
+    // 준비
+    LocalDateTime currentDate = LocalDateTime.now();
+    Post high = savePost("high", 0, 30L, null);
+    Post middle = savePost("middle", 0, 20L, currentDate.plusDays(1));
+    Post low = savePost("low", 0, 10L, null);
+    savePost("private", 1, 15L, null);
+    savePost("ended", 0, 5L, currentDate.minusDays(1));
+
+    // 실행
+    List<PostSummaryDto> firstPage = postRepository.findOpenPosts(
+      0,
+      currentDate,
+      PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "viewcount", "postId"))
+    );
+    List<PostSummaryDto> nextPage = postRepository.findOpenPostsBelowViewcount(
+      0,
+      currentDate,
+      high.getViewcount(),
+      high.getPostId(),
+      PageRequest.of(0, 10)
+    );
+
+    // 단언
+    assertEquals(List.of(high.getPostId()), postIds(firstPage));
+    assertEquals(
+      List.of(middle.getPostId(), low.getPostId()),
+      postIds(nextPage)
+    );
+  }
+
+  private List<Long> postIds(List<PostSummaryDto> posts) {
+    return posts.stream().map(PostSummaryDto::getPostId).toList();
+  }
+
+  private Post savePost(
+    String title,
+    Integer readPermission,
+    Long viewcount,
+    LocalDateTime endDate
+  ) {
+    Post post = new Post();
+    post.setTitle(title);
+    post.setContent(title);
+    post.setReadPermission(readPermission);
+    post.setWritePermission(1);
+    post.setViewcount(viewcount);
+    post.setEndDate(endDate);
+    return postRepository.save(post);
+  }
 }
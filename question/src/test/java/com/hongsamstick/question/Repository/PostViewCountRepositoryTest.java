@@ -0,0 +1,84 @@
+package com.hongsamstick.question.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.repository.PostViewCountRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(PostViewCountRepository.class)
+public class PostViewCountRepositoryTest {
+
+  @Autowired
+  private PostViewCountRepository postViewCountRepository;
+
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("조회수 반영은 수정 시각(ETag, 검색 색인 동기화 기준)을 바꾸지 않는다")
+  void addViewCounts_ThenUpdatedAtKept() {
+    // 준비
+    Long postId = savePost().getPostId();
+    entityManager.flush();
+    entityManager.clear();
+    LocalDateTime updatedAt = postRepository
+      .findById(postId)
+      .orElseThrow()
+      .getUpdatedAt();
+    entityManager.clear();
+
+    // 실행
+    postViewCountRepository.addViewCounts(List.of(Map.entry(postId, 5L)));
+
+    // 검증
+    Post saved = postRepository.findById(postId).orElseThrow();
+    assertEquals(15L, saved.getViewcount());
+    assertEquals(updatedAt, saved.getUpdatedAt());
+  }
+
+  @Test
+  @DisplayName("게시글을 읽은 뒤 조회수가 반영되어도 수정 저장이 조회수를 덮어쓰지 않는다")
+  void save_WhenViewCountsFlushedAfterRead_ThenViewcountKept() {
+    // 준비
+    Long postId = savePost().getPostId();
+    entityManager.flush();
+    entityManager.clear();
+
+    // 실행 : 수정할 게시글을 읽은 뒤, 저장 전에 조회수 반영
+    Post editing = postRepository.findById(postId).orElseThrow();
+    postViewCountRepository.addViewCounts(List.of(Map.entry(postId, 5L)));
+    editing.setTitle("edited");
+    postRepository.save(editing);
+    entityManager.flush();
+    entityManager.clear();
+
+    // 검증
+    Post saved = postRepository.findById(postId).orElseThrow();
+    assertEquals("edited", saved.getTitle());
+    assertEquals(15L, saved.getViewcount());
+  }
+
+  private Post savePost() {
+    Post post = new Post();
+    post.setTitle("title");
+    post.setContent("content");
+    post.setReadPermission(0);
+    post.setWritePermission(1);
+    post.setViewcount(10L);
+    return postRepository.save(post);
+  }
+}
@@ -0,0 +1,72 @@
+package com.hongsamstick.question.Repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.domain.Question;
+import com.hongsamstick.question.repository.QuestionBatchRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import com.hongsamstick.question.util.TimeOrderedUuid;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(QuestionBatchRepository.class)
+public class QuestionBatchRepositoryTest {
+
+  @Autowired
+  private QuestionBatchRepository questionBatchRepository;
+
+  @Autowired
+  private QuestionRepository questionRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Test
+  @DisplayName("삭제된 게시글의 질문은 저장하지 않는다")
+  void insertQuestions_WhenPostDeleted_ThenSkipped() {
+    // 준비
+    Member member = new Member();
+    member.setEmail("alice@test.com");
+    member.setPassword("password");
+    member.setName("alice");
+    entityManager.persist(member);
+    Post post = new Post();
+    post.setMember(member);
+    post.setTitle("title");
+    post.setContent("content");
+    post.setReadPermission(0);
+    post.setWritePermission(1);
+    entityManager.persist(post);
+    entityManager.flush();
+    long deletedPostId = post.getPostId() + 1;
+
+    // 실행
+    List<Question> inserted = questionBatchRepository.insertQuestions(
+      List.of(question(post.getPostId()), question(deletedPostId))
+    );
+
+    // 검증
+    assertEquals(1, inserted.size());
+    assertEquals(post.getPostId(), inserted.get(0).getPostId());
+    assertEquals(1, questionRepository.findAllByPostId(post.getPostId()).size());
+    assertEquals(0, questionRepository.findAllByPostId(deletedPostId).size());
+  }
+
+  private static Question question(Long postId) {
+    Question question = new Question();
+    question.setQuestionId(TimeOrderedUuid.generate());
+    question.setPostId(postId);
+    question.setContent("질문");
+    question.setCreatedAt(LocalDateTime.now());
+    return question;
+  }
+}
@@ -0,0 +1,160 @@
+package com.hongsamstick.question.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hongsamstick.question.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인 폭주 중 메인 페이지 지연 시간 측정 (./gradlew benchmark)
+ *  - 요청 스레드 풀(Tomcat 대신)에서 BCrypt 로그인과 가벼운 메인 페이지 요청을 함께 처리합니다.
+ *  - 로그인 없이, 요청 스레드에서 BCrypt를 직접 실행할 때, 전용 해시 스레드로 제한할 때의
+ *    메인 페이지 p50/p99를 비교합니다.
+ */
+@Tag("benchmark")
+public class BoundedPasswordEncoderBenchmarkTest {
+
+  private static final int CORES = Runtime.getRuntime().availableProcessors();
+  private static final int REQUEST_THREADS = CORES * 4;
+  private static final int LOGIN_CLIENTS = CORES * 2;
+  private static final int INDEX_REQUESTS = 2_000;
+  private static final int WARMUP = 500;
+
+  private static final String PASSWORD = "Password123!";
+  private static final BCryptPasswordEncoder BCRYPT = new BCryptPasswordEncoder();
+  private static final String ENCODED = BCRYPT.encode(PASSWORD);
+
+  @Test
+  @DisplayName("로그인이 해시 스레드를 포화시키는 동안 메인 페이지 p99")
+  void indexLatency_DuringLoginStorm() throws Exception {
+    // 워밍업
+    for (int i = 0; i < WARMUP; i++) {
+      renderIndex(i);
+    }
+
+    Result idle = run(null);
+    Result direct = run(BCRYPT);
+    BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(
+      BCRYPT,
+      0,
+      64,
+      3_000,
+      new SimpleMeterRegistry()
+    );
+    Result limited = run(bounded);
+    bounded.shutdown();
+
+    System.out.printf(
+      "메인 페이지 지연 (코어 %d, 요청 스레드 %d, 로그인 동시 %d)%n",
+      CORES,
+      REQUEST_THREADS,
+      LOGIN_CLIENTS
+    );
+    print("로그인 없음", idle);
+    print("요청 스레드에서 BCrypt", direct);
+    print("전용 해시 스레드", limited);
+    assertTrue(limited.logins > 0);
+  }
+
+  private record Result(
+    long p50Micros,
+    long p99Micros,
+    long logins,
+    long rejected
+  ) {}
+
+  private static void print(String name, Result result) {
+    System.out.printf(
+      "  %-16s p50: %6d us, p99: %6d us, 로그인 성공: %5d, 거절: %5d%n",
+      name,
+      result.p50Micros,
+      result.p99Micros,
+      result.logins,
+      result.rejected
+    );
+  }
+
+  /**
+   * 로그인을 계속 보내면서 메인 페이지를 1ms 간격으로 요청
+   *
+   * @param encoder null이면 로그인 없이 메인 페이지만 요청
+   */
+  private static Result run(PasswordEncoder encoder) throws Exception {
+    ExecutorService requestPool = Executors.newFixedThreadPool(REQUEST_THREADS);
+    ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+    AtomicBoolean storming = new AtomicBoolean(true);
+    AtomicLong logins = new AtomicLong();
+    AtomicLong rejected = new AtomicLong();
+
+    if (encoder != null) {
+      for (int i = 0; i < LOGIN_CLIENTS; i++) {
+        loginClients.submit(() -> {
+          while (storming.get()) {
+            requestPool
+              .submit(() -> {
+                try {
+                  encoder.matches(PASSWORD, ENCODED);
+                  logins.incrementAndGet();
+                } catch (PasswordHashingBusyException e) {
+                  rejected.incrementAndGet();
+                }
+              })
+              .get();
+          }
+          return null;
+        });
+      }
+      Thread.sleep(500); // 해시 스레드가 포화될 때까지 대기
+    }
+
+    long[] latencies = new long[INDEX_REQUESTS];
+    for (int i = 0; i < INDEX_REQUESTS; i++) {
+      int page = i;
+      long start = System.nanoTime();
+      requestPool.submit(() -> renderIndex(page)).get();
+      latencies[i] = System.nanoTime() - start;
+      TimeUnit.MILLISECONDS.sleep(1);
+    }
+
+    storming.set(false);
+    loginClients.shutdown();
+    loginClients.awaitTermination(1, TimeUnit.MINUTES);
+    requestPool.shutdown();
+    requestPool.awaitTermination(1, TimeUnit.MINUTES);
+
+    Arrays.sort(latencies);
+    return new Result(
+      TimeUnit.NANOSECONDS.toMicros(latencies[INDEX_REQUESTS / 2]),
+      TimeUnit.NANOSECONDS.toMicros(latencies[INDEX_REQUESTS * 99 / 100]),
+      logins.get(),
+      rejected.get()
+    );
+  }
+
+  // 메인 페이지 렌더링 대신 수십 마이크로초 분량의 CPU 작업
+  private static int renderIndex(int page) {
+    StringBuilder html = new StringBuilder(32 * 1024);
+    for (int i = 0; i < 500; i++) {
+      html
+        .append("<li class=\"post\"><a href=\"/post/")
+        .append(page)
+        .append('-')
+        .append(i)
+        .append("\">게시글 ")
+        .append(i)
+        .append("</a></li>");
+    }
+    return html.toString().hashCode();
+  }
+}
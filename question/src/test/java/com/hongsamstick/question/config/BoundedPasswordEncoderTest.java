@@ -0,0 +1,156 @@
+package com.hongsamstick.question.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hongsamstick.question.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class BoundedPasswordEncoderTest {
+
+  // release가 열릴 때까지 비교를 끝내지 않는 encoder
+  private static class BlockingEncoder implements PasswordEncoder {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString().equals(encodedPassword);
+    }
+  }
+
+  private SimpleMeterRegistry meterRegistry;
+  private ExecutorService callers;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    callers = Executors.newCachedThreadPool();
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("해시와 비교는 전용 스레드에서 실행되고 실행 시간이 기록된다")
+  void encodeAndMatches_RunOnHasherThreads() {
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+      new BCryptPasswordEncoder(4),
+      2,
+      8,
+      5_000,
+      meterRegistry
+    );
+
+    String encoded = encoder.encode("Password123!");
+
+    assertTrue(encoder.matches("Password123!", encoded));
+    assertFalse(encoder.matches("wrong", encoded));
+    assertEquals(
+      1,
+      meterRegistry.timer("password.hash", "operation", "encode").count()
+    );
+    assertEquals(
+      2,
+      meterRegistry.timer("password.hash", "operation", "matches").count()
+    );
+    encoder.shutdown();
+  }
+
+  @Test
+  @DisplayName("해시 스레드와 대기열이 모두 차면 기다리지 않고 바로 거절한다")
+  void matches_WhenSaturated_ThenRejectedImmediately() throws Exception {
+    BlockingEncoder blocking = new BlockingEncoder();
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+      blocking,
+      1,
+      1,
+      10_000,
+      meterRegistry
+    );
+    // 스레드 하나는 실행 중, 하나는 대기열에서 대기
+    Future<Boolean> running = callers.submit(() -> encoder.matches("a", "a"));
+    assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+    Future<Boolean> queued = callers.submit(() -> encoder.matches("b", "b"));
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (
+      meterRegistry.get("password.hash.queue").gauge().value() < 1 &&
+      System.currentTimeMillis() < deadline
+    ) {
+      Thread.sleep(5);
+    }
+
+    long start = System.nanoTime();
+    assertThrows(
+      PasswordHashingBusyException.class,
+      () -> encoder.matches("c", "c")
+    );
+    long rejectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+    blocking.release.countDown();
+    assertTrue(running.get(5, TimeUnit.SECONDS));
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+    assertTrue(rejectMillis < 1_000);
+    assertEquals(
+      1.0,
+      meterRegistry
+        .counter("password.hash.rejected", "operation", "matches")
+        .count()
+    );
+    encoder.shutdown();
+  }
+
+  @Test
+  @DisplayName("timeout-ms 안에 끝나지 않으면 거절한다")
+  void matches_WhenTimedOut_ThenRejected() throws Exception {
+    BlockingEncoder blocking = new BlockingEncoder();
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+      blocking,
+      1,
+      4,
+      50,
+      meterRegistry
+    );
+
+    assertThrows(
+      PasswordHashingBusyException.class,
+      () -> encoder.matches("a", "a")
+    );
+
+    blocking.release.countDown();
+    assertEquals(
+      1.0,
+      meterRegistry
+        .counter("password.hash.rejected", "operation", "matches")
+        .count()
+    );
+    encoder.shutdown();
+  }
+}
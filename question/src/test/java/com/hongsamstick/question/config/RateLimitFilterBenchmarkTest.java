@@ -0,0 +1,127 @@
+package com.hongsamstick.question.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hongsamstick.question.service.LocalRateLimitStore;
+import com.hongsamstick.question.util.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 요청 수 제한 지연 시간 측정 (./gradlew benchmark)
+ *  - 저장소의 토큰 사용(허용/거절)과 필터 전체의 거절 경로를 요청 하나당 시간으로 측정합니다.
+ *  - 같은 키에 스레드 THREADS개가 몰리는 경우(한 IP의 폭주)도 측정합니다.
+ */
+@Tag("benchmark")
+public class RateLimitFilterBenchmarkTest {
+
+  private static final int WARMUP = 200_000;
+  private static final int REQUESTS = 1_000_000;
+  private static final int FILTER_REQUESTS = 200_000;
+  private static final int THREADS = 8;
+  private static final int KEYS = 10_000;
+
+  @Test
+  @DisplayName("토큰 사용과 429 거절 경로의 요청당 시간")
+  void rateLimit_Latency() throws Exception {
+    LocalRateLimitStore store = new LocalRateLimitStore(100_000, 10);
+    TokenBucket open = TokenBucket.of(Integer.MAX_VALUE, 1, Duration.ofSeconds(1));
+    TokenBucket closed = TokenBucket.of(1, 1, Duration.ofHours(1));
+    String[] keys = new String[KEYS];
+    String[] closedKeys = new String[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = "question:ip:10.0." + (i / 256) + "." + (i % 256);
+      closedKeys[i] = "closed:" + keys[i];
+    }
+
+    for (int i = 0; i < WARMUP; i++) {
+      store.tryAcquire(keys[i % KEYS], open);
+      store.tryAcquire(closedKeys[i % KEYS], closed);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      store.tryAcquire(keys[i % KEYS], open);
+    }
+    double allowedNanos = (double) (System.nanoTime() - start) / REQUESTS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < REQUESTS; i++) {
+      store.tryAcquire(closedKeys[i % KEYS], closed);
+    }
+    double rejectedNanos = (double) (System.nanoTime() - start) / REQUESTS;
+
+    // 같은 키에 동시에 요청 (CAS 경합)
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch ready = new CountDownLatch(THREADS);
+    CountDownLatch go = new CountDownLatch(1);
+    for (int t = 0; t < THREADS; t++) {
+      executor.submit(() -> {
+        ready.countDown();
+        go.await();
+        for (int i = 0; i < REQUESTS / THREADS; i++) {
+          store.tryAcquire(keys[0], open);
+        }
+        return null;
+      });
+    }
+    ready.await();
+    start = System.nanoTime();
+    go.countDown();
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.MINUTES);
+    double contendedNanos = (double) (System.nanoTime() - start) / REQUESTS;
+
+    // 필터 전체의 거절 경로 (경로 확인, 키 생성, 429 응답 작성)
+    RateLimitFilter filter = new RateLimitFilter(
+      List.of(
+        new RateLimitPolicy(
+          "question",
+          "POST",
+          "/post/{code}/questions",
+          RateLimitPolicy.Key.VISITOR,
+          closed
+        )
+      ),
+      store,
+      new SimpleMeterRegistry()
+    );
+    MockHttpServletRequest request = new MockHttpServletRequest(
+      "POST",
+      "/post/0190a0b0-0000-7000-8000-000000000000/questions"
+    );
+    request.setRemoteAddr("10.0.0.1");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    for (int i = 0; i < WARMUP; i++) {
+      response.reset();
+      filter.doFilter(request, response, new MockFilterChain());
+    }
+    start = System.nanoTime();
+    for (int i = 0; i < FILTER_REQUESTS; i++) {
+      response.reset();
+      filter.doFilter(request, response, new MockFilterChain());
+    }
+    double filterNanos = (double) (System.nanoTime() - start) / FILTER_REQUESTS;
+
+    System.out.printf(
+      "요청 수 제한 - 허용: %.0f ns, 거절: %.0f ns, 같은 키 %d스레드: %.0f ns, 필터 거절(429): %.2f us%n",
+      allowedNanos,
+      rejectedNanos,
+      THREADS,
+      contendedNanos,
+      filterNanos / 1e3
+    );
+    assertEquals(429, response.getStatus());
+  }
+}
@@ -0,0 +1,150 @@
+package com.hongsamstick.question.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.service.LocalRateLimitStore;
+import com.hongsamstick.question.util.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class RateLimitFilterTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private RateLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    filter =
+      new RateLimitFilter(
+        List.of(
+          new RateLimitPolicy(
+            "question",
+            "POST",
+            "/post/{code}/questions",
+            RateLimitPolicy.Key.VISITOR,
+            TokenBucket.of(2, 1, Duration.ofMinutes(1))
+          ),
+          new RateLimitPolicy(
+            "signup-mail",
+            "POST",
+            "/signup/{action:send-email-verification-code|resend-verification-code}",
+            RateLimitPolicy.Key.CLIENT_IP,
+            TokenBucket.of(1, 1, Duration.ofMinutes(1))
+          )
+        ),
+        new LocalRateLimitStore(1_000, 10),
+        meterRegistry
+      );
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  private MockHttpServletResponse post(String uri, String ip) throws Exception {
+    return post(uri, ip, null);
+  }
+
+  private MockHttpServletResponse post(
+    String uri,
+    String ip,
+    MockHttpSession session
+  ) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+    request.setRemoteAddr(ip);
+    request.setSession(session);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, response, chain);
+    if (response.getStatus() == 200) {
+      assertNotNull(chain.getRequest()); // 컨트롤러까지 전달됨
+    } else {
+      assertNull(chain.getRequest());
+    }
+    return response;
+  }
+
+  @Test
+  @DisplayName("capacity를 넘은 요청은 컨트롤러를 호출하지 않고 429로 거절한다")
+  void doFilter_WhenOverCapacity_ThenTooManyRequests() throws Exception {
+    String uri = "/post/" + UUID.randomUUID() + "/questions";
+
+    assertEquals(200, post(uri, "10.0.0.1").getStatus());
+    assertEquals(200, post(uri, "10.0.0.1").getStatus());
+    MockHttpServletResponse rejected = post(uri, "10.0.0.1");
+
+    assertEquals(429, rejected.getStatus());
+    assertEquals("60", rejected.getHeader("Retry-After"));
+    assertEquals(
+      1.0,
+      meterRegistry.counter("rate-limit.rejected", "policy", "question").count()
+    );
+    assertEquals(200, post(uri, "10.0.0.2").getStatus()); // 다른 IP는 별도 버킷
+  }
+
+  @Test
+  @DisplayName("인증 메일 발송과 재발송은 같은 버킷을 사용하고, 정책이 없는 경로는 제한하지 않는다")
+  void doFilter_WhenSharedPolicy_ThenSameBucket() throws Exception {
+    String ip = "10.0.0.1";
+
+    assertEquals(200, post("/signup/send-email-verification-code", ip).getStatus());
+    assertEquals(429, post("/signup/resend-verification-code", ip).getStatus());
+    for (int i = 0; i < 10; i++) {
+      assertEquals(200, post("/signup/other", ip).getStatus());
+    }
+  }
+
+  @Test
+  @DisplayName("익명 방문자는 세션을 바꿔도 같은 IP의 버킷을 사용한다")
+  void doFilter_WhenAnonymousRotatesSession_ThenSameBucket() throws Exception {
+    String uri = "/post/" + UUID.randomUUID() + "/questions";
+    String ip = "10.0.0.1";
+
+    assertEquals(200, post(uri, ip, new MockHttpSession()).getStatus());
+    assertEquals(200, post(uri, ip, new MockHttpSession()).getStatus());
+    assertEquals(429, post(uri, ip, new MockHttpSession()).getStatus());
+    assertEquals(429, post(uri, ip).getStatus());
+  }
+
+  @Test
+  @DisplayName("회원은 IP와 관계없이 이메일별 버킷을 사용한다")
+  void doFilter_WhenMember_ThenBucketPerEmail() throws Exception {
+    String uri = "/post/" + UUID.randomUUID() + "/questions";
+    Member member = new Member();
+    member.setEmail("alice@test.com");
+    PrincipalDetails principal = new PrincipalDetails(member);
+    SecurityContextHolder
+      .getContext()
+      .setAuthentication(
+        new UsernamePasswordAuthenticationToken(
+          principal,
+          null,
+          principal.getAuthorities()
+        )
+      );
+
+    assertEquals(200, post(uri, "10.0.0.1").getStatus());
+    assertEquals(200, post(uri, "10.0.0.2").getStatus());
+    assertEquals(429, post(uri, "10.0.0.3").getStatus());
+
+    SecurityContextHolder.clearContext();
+    assertEquals(200, post(uri, "10.0.0.1").getStatus()); // 익명 요청은 IP별 버킷
+  }
+}
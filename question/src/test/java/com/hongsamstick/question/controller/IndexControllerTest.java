@@ -0,0 +1,125 @@
+package com.hongsamstick.question.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.hongsamstick.question.config.PrincipalDetails;
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.dto.PostCursorPage;
+import com.hongsamstick.question.service.PostCardsCache;
+import com.hongsamstick.question.service.PostChangeNotifier;
+import com.hongsamstick.question.service.PostChangeSequence;
+import com.hongsamstick.question.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Description;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(IndexController.class)
+@Import({ PostCardsCache.class, IndexControllerTest.MetricsConfig.class })
+public class IndexControllerTest {
+
+  @TestConfiguration
+  static class MetricsConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @MockBean
+  private PostService postService;
+
+  @MockBean
+  private PostChangeSequence postChangeSequence;
+
+  @MockBean
+  private PostChangeNotifier postChangeNotifier;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PostCardsCache postCardsCache;
+
+  @BeforeEach
+  void setUp() {
+    when(postService.getPostsByCursor(anyInt(), anyString(), any(), anyInt()))
+      .thenReturn(new PostCursorPage<>(List.of(), null, null));
+    when(postChangeSequence.current()).thenReturn("1");
+  }
+
+  @Test
+  @Description("게시판 목록 - 로그인한 사용자는 세션이 바뀌면 이전 CSRF 토큰이 담긴 화면을 재사용하지 않음")
+  @WithMockUser
+  public void listPosts_etagPerMemberSession() throws Exception {
+    // given
+    MockHttpSession expired = new MockHttpSession();
+    MockHttpSession rotated = new MockHttpSession();
+    String expiredEtag = mockMvc
+      .perform(get("/").session(expired))
+      .andExpect(status().isOk())
+      .andReturn()
+      .getResponse()
+      .getHeader(HttpHeaders.ETAG);
+
+    // when & then
+    mockMvc
+      .perform(
+        get("/").session(expired).header(HttpHeaders.IF_NONE_MATCH, expiredEtag)
+      )
+      .andExpect(status().isNotModified());
+    String rotatedEtag = mockMvc
+      .perform(
+        get("/").session(rotated).header(HttpHeaders.IF_NONE_MATCH, expiredEtag)
+      )
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+      .andReturn()
+      .getResponse()
+      .getHeader(HttpHeaders.ETAG);
+    assertNotEquals(expiredEtag, rotatedEtag);
+  }
+
+  @Test
+  @Description("게시판 목록 - 카드 목록 캐시는 로그인 여부와 무관하게 회원과 익명 사용자가 공유")
+  @WithMockUser // PrincipalDetails가 아니므로 컨트롤러에서는 익명 방문자로 처리
+  public void listPosts_cardsCacheSharedByMembersAndAnonymous() throws Exception {
+    // given
+    Member member = new Member();
+    member.setEmail("member@test.com");
+    postCardsCache.invalidateAll();
+
+    // when
+    mockMvc.perform(get("/")).andExpect(status().isOk());
+    mockMvc
+      .perform(get("/").with(user(new PrincipalDetails(member))))
+      .andExpect(status().isOk());
+
+    // then
+    verify(postService, times(1))
+      .getPostsByCursor(anyInt(), anyString(), any(), anyInt());
+  }
+}
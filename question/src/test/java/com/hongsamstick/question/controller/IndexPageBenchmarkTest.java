@@ -0,0 +1,196 @@
+package com.hongsamstick.question.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.hongsamstick.question.dto.PostCursorPage;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import com.hongsamstick.question.service.PostCardsCache;
+import com.hongsamstick.question.service.PostChangeNotifier;
+import com.hongsamstick.question.service.PostChangeSequence;
+import com.hongsamstick.question.service.PostService;
+import com.hongsamstick.question.util.TimeOrderedUuid;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+/**
+ * index 페이지 카드 목록 캐시 효과 측정 (./gradlew benchmark)
+ *  - 목록 조회는 지연 없이 바로 반환하는 것으로 두고, 실제 fragments/post-cards 렌더링만 비교합니다.
+ *  - 카드 목록 1회 렌더링과 캐시 적중의 평균 시간, index 페이지 전체의 초당 요청 수를 출력합니다.
+ */
+@Tag("benchmark")
+@WebMvcTest(IndexController.class)
+@Import({ PostCardsCache.class, IndexPageBenchmarkTest.MetricsConfig.class })
+public class IndexPageBenchmarkTest {
+
+  private static final int WARMUP_ITERATIONS = 2_000;
+  private static final int MEASURED_ITERATIONS = 20_000;
+  private static final int WARMUP_REQUESTS = 300;
+  private static final int MEASURED_REQUESTS = 2_000;
+
+  @TestConfiguration
+  static class MetricsConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @MockBean
+  private PostService postService;
+
+  @MockBean
+  private PostChangeSequence postChangeSequence;
+
+  @MockBean
+  private PostChangeNotifier postChangeNotifier;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private PostCardsCache postCardsCache;
+
+  @Autowired
+  private ITemplateEngine templateEngine;
+
+  private PostCursorPage<PostSummaryDto> cursorPage;
+
+  @BeforeEach
+  void setUp() {
+    List<PostSummaryDto> posts = new ArrayList<>();
+    for (long i = 1; i <= 6; i++) {
+      posts.add(
+        new PostSummaryDto(
+          i,
+          TimeOrderedUuid.generate(),
+          "게시판 제목 " + i,
+          i * 10,
+          LocalDateTime.now().minusDays(i),
+          LocalDateTime.now().plusDays(i),
+          "member" + i,
+          null
+        )
+      );
+    }
+    cursorPage = new PostCursorPage<>(posts, null, "next");
+    when(postService.getPostsByCursor(anyInt(), anyString(), any(), anyInt()))
+      .thenReturn(cursorPage);
+    when(postChangeSequence.current()).thenReturn("1");
+  }
+
+  @Test
+  @DisplayName("카드 목록 캐시 적중은 fragments/post-cards 렌더링보다 빠르다")
+  @WithMockUser
+  void postCards_RenderVersusCacheHit() throws Exception {
+    // IndexController와 같은 변수로 카드 목록만 렌더링
+    MockHttpServletRequest request = new MockHttpServletRequest(
+      new MockServletContext()
+    );
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    Map<String, Object> variables = new HashMap<>();
+    variables.put("posts", cursorPage.getContent());
+    variables.put("cursorPage", cursorPage);
+    variables.put("sort", "latest");
+    WebContext context = new WebContext(
+      JakartaServletWebApplication
+        .buildApplication(request.getServletContext())
+        .buildExchange(request, response),
+      Locale.KOREAN,
+      variables
+    );
+    Runnable render = () ->
+      templateEngine.process("fragments/post-cards", Set.of("cards"), context);
+
+    String html = templateEngine.process(
+      "fragments/post-cards",
+      Set.of("cards"),
+      context
+    );
+    postCardsCache.invalidateAll();
+    Runnable cacheHit = () ->
+      postCardsCache.get(
+        "latest",
+        null,
+        () -> new PostCardsCache.Fragment(html, null)
+      );
+    cacheHit.run();
+    assertEquals(html, postCardsCache.get("latest", null, () -> null));
+
+    double renderMicros = averageMicros(render);
+    double cacheHitMicros = averageMicros(cacheHit);
+    double uncached = requestsPerSecond(postCardsCache::invalidateAll);
+    double cached = requestsPerSecond(() -> {});
+
+    System.out.printf(
+      "카드 목록 (게시글 %d개) - 렌더링: %.2f us, 캐시 적중: %.2f us%n",
+      cursorPage.getContent().size(),
+      renderMicros,
+      cacheHitMicros
+    );
+    System.out.printf(
+      "index 페이지 처리량 - 캐시 없음: %.0f req/s, 캐시 사용: %.0f req/s (%.2f배)%n",
+      uncached,
+      cached,
+      cached / uncached
+    );
+    assertTrue(cacheHitMicros < renderMicros);
+  }
+
+  private double averageMicros(Runnable operation) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      operation.run();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      operation.run();
+    }
+    return (System.nanoTime() - start) / 1e3 / MEASURED_ITERATIONS;
+  }
+
+  private double requestsPerSecond(Runnable beforeEachRequest)
+    throws Exception {
+    for (int i = 0; i < WARMUP_REQUESTS; i++) {
+      beforeEachRequest.run();
+      mockMvc.perform(get("/")).andExpect(status().isOk());
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_REQUESTS; i++) {
+      beforeEachRequest.run();
+      mockMvc.perform(get("/")).andExpect(status().isOk());
+    }
+    return MEASURED_REQUESTS / ((System.nanoTime() - start) / 1e9);
+  }
+}
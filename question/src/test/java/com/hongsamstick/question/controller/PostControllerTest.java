@@ -1,6 +1,8 @@
 package com.hongsamstick.question.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -13,14 +15,17 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.hongsamstick.question.config.PrincipalDetails;
 import com.hongsamstick.question.domain.Member;
 import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostDetailDto;
 import com.hongsamstick.question.dto.PostDto;
 import com.hongsamstick.question.service.PostService;
+import com.hongsamstick.question.service.ViewCountService;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
@@ -35,9 +40,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Description;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @WebMvcTest(PostController.class)
 public class PostControllerTest {
@@ -45,6 +54,9 @@ public class PostControllerTest {
   @MockBean // MockBean을 사용하여 PostService를 목 객체로 만듭니다.
   private PostService postService;
 
+  @MockBean
+  private ViewCountService viewCountService;
+
   @Autowired // MockMvc를 주입합니다.
   private MockMvc mockMvc;
 
@@ -239,4 +251,94 @@ public class PostControllerTest {
       .andExpect(status().is3xxRedirection())
       .andExpect(redirectedUrl("/"));
   }
+
+  @Test
+  @Description("게시판 상세 페이지 - 변경이 없으면 렌더링 없이 304")
+  @WithMockUser // PrincipalDetails가 아니므로 컨트롤러에서는 익명 방문자로 처리
+  public void postDetail_notModified() throws Exception {
+    // given
+    UUID code = UUID.randomUUID();
+    PostDetailDto post = detailPost(code);
+    when(postService.getPostByCode(code)).thenReturn(post);
+
+    MockHttpSession session = new MockHttpSession();
+    String etag = detailEtag(post, session);
+
+    // when & then
+    mockMvc
+      .perform(
+        get("/post/" + code)
+          .session(session)
+          .header(HttpHeaders.IF_NONE_MATCH, etag)
+      )
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, etag))
+      .andExpect(
+        header().string(HttpHeaders.CACHE_CONTROL, containsString("private"))
+      );
+  }
+
+  @Test
+  @Description("게시판 상세 페이지 - 세션이 바뀐 익명 사용자에게는 이전 CSRF 토큰이 담긴 화면을 재사용하지 않음")
+  @WithMockUser // PrincipalDetails가 아니므로 컨트롤러에서는 익명 방문자로 처리
+  public void postDetail_etagPerAnonymousSession() throws Exception {
+    // given
+    UUID code = UUID.randomUUID();
+    PostDetailDto post = detailPost(code);
+    when(postService.getPostByCode(code)).thenReturn(post);
+
+    MockHttpSession expired = new MockHttpSession();
+    MockHttpSession rotated = new MockHttpSession();
+    String expiredEtag = detailEtag(post, expired);
+    String rotatedEtag = detailEtag(post, rotated);
+
+    // when & then
+    assertNotEquals(expiredEtag, rotatedEtag);
+    mockMvc
+      .perform(
+        get("/post/" + code)
+          .session(rotated)
+          .header(HttpHeaders.IF_NONE_MATCH, rotatedEtag)
+      )
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, rotatedEtag));
+    // 만료된 세션의 ETag로는 304를 받지 않고 새 토큰이 담긴 화면을 받음
+    mockMvc
+      .perform(
+        get("/post/" + code)
+          .session(rotated)
+          .header(HttpHeaders.IF_NONE_MATCH, expiredEtag)
+      )
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, rotatedEtag));
+  }
+
+  private static PostDetailDto detailPost(UUID code) {
+    return new PostDetailDto(
+      1L,
+      code,
+      "owner@test.com",
+      "제목",
+      "내용",
+      3L,
+      0,
+      1,
+      LocalDateTime.of(2024, 1, 1, 0, 0),
+      null,
+      LocalDateTime.of(2024, 1, 1, 0, 0),
+      false
+    );
+  }
+
+  // 익명 사용자가 session으로 요청했을 때의 상세 페이지 ETag
+  private static String detailEtag(PostDetailDto post, MockHttpSession session) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.setSession(session);
+    return ConditionalGet.etag(
+      "post",
+      post.getPostId(),
+      post.getUpdatedAt(),
+      ConditionalGet.viewer(null, new ServletWebRequest(request), true)
+    );
+  }
 }
@@ -0,0 +1,322 @@
+package com.hongsamstick.question.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.hongsamstick.question.config.PrincipalDetails;
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.exception.QuestionQueueFullException;
+import com.hongsamstick.question.service.QuestionService;
+import com.hongsamstick.question.service.QuestionVoteService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.Cookie;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Description;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(QuestionRestController.class)
+@Import(VisitorCookie.class)
+public class QuestionRestControllerTest {
+
+  private static final String QUESTION = "{\"content\":\"질문 내용\"}";
+
+  @MockBean
+  private QuestionService questionService;
+
+  @MockBean
+  private QuestionVoteService questionVoteService;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  private final UUID code = UUID.randomUUID();
+  private final UUID questionId = UUID.randomUUID();
+
+  private static Member member() {
+    Member member = new Member();
+    member.setEmail("member@test.com");
+    member.setName("member");
+    return member;
+  }
+
+  @Test
+  @Description("질문 등록 - 회원이면 회원 정보와 함께 대기열에 넣고 202")
+  @WithMockUser
+  public void submitQuestion_accepted() throws Exception {
+    // given
+    Member member = member();
+    when(questionService.submit(eq(code), eq("질문 내용"), same(member)))
+      .thenReturn(questionId);
+
+    // when & then
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .with(user(new PrincipalDetails(member)))
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(QUESTION)
+      )
+      .andExpect(status().isAccepted())
+      .andExpect(jsonPath("$.questionId").value(questionId.toString()));
+  }
+
+  @Test
+  @Description("질문 등록 - 내용이 비어 있으면 400")
+  @WithMockUser
+  public void submitQuestion_badRequest() throws Exception {
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content("{\"content\":\" \"}")
+      )
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.error").value("질문 내용은 필수입니다."));
+
+    verify(questionService, never()).submit(any(), anyString(), any());
+  }
+
+  @Test
+  @Description("질문 등록 - 회원만 질문할 수 있는 게시판에 익명으로 등록하면 403")
+  @WithMockUser // PrincipalDetails가 아니므로 컨트롤러에서는 익명 방문자로 처리
+  public void submitQuestion_forbiddenForAnonymous() throws Exception {
+    // given
+    when(questionService.submit(eq(code), anyString(), isNull()))
+      .thenThrow(new AccessDeniedException("회원만 질문할 수 있는 게시판입니다."));
+
+    // when & then
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(QUESTION)
+      )
+      .andExpect(status().isForbidden())
+      .andExpect(jsonPath("$.error").value("회원만 질문할 수 있는 게시판입니다."));
+  }
+
+  @Test
+  @Description("질문 등록 - 없는 게시판이면 404")
+  @WithMockUser
+  public void submitQuestion_notFound() throws Exception {
+    when(questionService.submit(eq(code), anyString(), any()))
+      .thenThrow(new EntityNotFoundException("게시판을 찾을 수 없습니다."));
+
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(QUESTION)
+      )
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @Description("질문 등록 - 마감된 게시판이면 409")
+  @WithMockUser
+  public void submitQuestion_conflictWhenClosed() throws Exception {
+    when(questionService.submit(eq(code), anyString(), any()))
+      .thenThrow(new IllegalStateException("마감된 게시판입니다."));
+
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(QUESTION)
+      )
+      .andExpect(status().isConflict())
+      .andExpect(jsonPath("$.error").value("마감된 게시판입니다."));
+  }
+
+  @Test
+  @Description("질문 등록 - 대기열이 가득 차면 Retry-After와 함께 503")
+  @WithMockUser
+  public void submitQuestion_serviceUnavailableWhenQueueFull() throws Exception {
+    when(questionService.submit(eq(code), anyString(), any()))
+      .thenThrow(new QuestionQueueFullException());
+
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions")
+          .with(csrf())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(QUESTION)
+      )
+      .andExpect(status().isServiceUnavailable())
+      .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+  }
+
+  @Test
+  @Description("질문 추천 - 회원은 이메일로 구분하며 방문자 쿠키를 발급하지 않음")
+  @WithMockUser
+  public void upvoteQuestion_member() throws Exception {
+    // given
+    Member member = member();
+    when(
+      questionVoteService.upvote(
+        eq(code),
+        eq(questionId),
+        same(member),
+        isNull(),
+        anyString()
+      )
+    )
+      .thenReturn(true);
+
+    // when & then
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+          .with(user(new PrincipalDetails(member)))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.upvoted").value(true))
+      .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+  }
+
+  @Test
+  @Description("질문 추천 - 익명 방문자는 세션이 아닌 서명된 방문자 쿠키로 구분")
+  @WithMockUser // PrincipalDetails가 아니므로 컨트롤러에서는 익명 방문자로 처리
+  public void upvoteQuestion_anonymousVisitorCookie() throws Exception {
+    // given
+    when(
+      questionVoteService.upvote(
+        eq(code),
+        eq(questionId),
+        isNull(),
+        anyString(),
+        eq("127.0.0.1")
+      )
+    )
+      .thenReturn(true)
+      .thenReturn(false);
+
+    // when
+    String setCookie = mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.upvoted").value(true))
+      .andExpect(
+        header().string(HttpHeaders.SET_COOKIE, containsString("HttpOnly"))
+      )
+      .andReturn()
+      .getResponse()
+      .getHeader(HttpHeaders.SET_COOKIE);
+    assertNotNull(setCookie);
+    String cookieValue = setCookie.substring(
+      setCookie.indexOf('=') + 1,
+      setCookie.indexOf(';')
+    );
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+          .cookie(new Cookie(VisitorCookie.NAME, cookieValue))
+      )
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.upvoted").value(false))
+      .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+
+    // then (두 요청 모두 같은 방문자 id로 추천)
+    ArgumentCaptor<String> visitorIds = ArgumentCaptor.forClass(String.class);
+    verify(questionVoteService, times(2))
+      .upvote(eq(code), eq(questionId), isNull(), visitorIds.capture(), any());
+    assertEquals(visitorIds.getAllValues().get(0), visitorIds.getAllValues().get(1));
+  }
+
+  @Test
+  @Description("질문 추천 - 서명이 맞지 않는 쿠키는 무시하고 새 방문자 id를 발급")
+  @WithMockUser
+  public void upvoteQuestion_forgedCookieReissued() throws Exception {
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+          .cookie(new Cookie(VisitorCookie.NAME, "forged.signature"))
+      )
+      .andExpect(status().isOk())
+      .andExpect(header().exists(HttpHeaders.SET_COOKIE));
+
+    verify(questionVoteService, never())
+      .upvote(any(), any(), any(), eq("forged"), any());
+  }
+
+  @Test
+  @Description("질문 추천 - 회원만 질문할 수 있는 게시판에 익명으로 추천하면 403")
+  @WithMockUser
+  public void upvoteQuestion_forbiddenForAnonymous() throws Exception {
+    when(
+      questionVoteService.upvote(eq(code), eq(questionId), isNull(), anyString(), any())
+    )
+      .thenThrow(new AccessDeniedException("회원만 추천할 수 있는 게시판입니다."));
+
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+      )
+      .andExpect(status().isForbidden())
+      .andExpect(jsonPath("$.error").value("회원만 추천할 수 있는 게시판입니다."));
+  }
+
+  @Test
+  @Description("질문 추천 - 다른 게시판의 질문이면 404, 마감된 게시판이면 409")
+  @WithMockUser
+  public void upvoteQuestion_notFoundAndConflict() throws Exception {
+    UUID closedQuestionId = UUID.randomUUID();
+    when(questionVoteService.upvote(eq(code), eq(questionId), any(), any(), any()))
+      .thenThrow(new EntityNotFoundException("질문을 찾을 수 없습니다."));
+    when(
+      questionVoteService.upvote(eq(code), eq(closedQuestionId), any(), any(), any())
+    )
+      .thenThrow(new IllegalStateException("마감된 게시판입니다."));
+
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + questionId + "/upvote")
+          .with(csrf())
+      )
+      .andExpect(status().isNotFound());
+    mockMvc
+      .perform(
+        post("/post/" + code + "/questions/" + closedQuestionId + "/upvote")
+          .with(csrf())
+      )
+      .andExpect(status().isConflict());
+  }
+}
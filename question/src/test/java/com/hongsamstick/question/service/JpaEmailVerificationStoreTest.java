@@ -0,0 +1,98 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.domain.EmailVerification;
+import com.hongsamstick.question.repository.EmailVerificationRepository;
+import com.hongsamstick.question.service.EmailVerificationStore.VerifyResult;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class JpaEmailVerificationStoreTest {
+
+  private static final String EMAIL = "test@example.com";
+
+  @Mock
+  private EmailVerificationRepository emailVerificationRepository;
+
+  private JpaEmailVerificationStore emailVerificationStore;
+
+  @BeforeEach
+  void setUp() {
+    emailVerificationStore =
+      new JpaEmailVerificationStore(emailVerificationRepository, 3, 30, 3);
+  }
+
+  private EmailVerification verification(LocalDateTime expiredAt) {
+    EmailVerification emailVerification = new EmailVerification();
+    emailVerification.setEmail(EMAIL);
+    emailVerification.setCode("123456");
+    emailVerification.setExpiredAt(expiredAt);
+    when(emailVerificationRepository.findForUpdate(EMAIL))
+      .thenReturn(Optional.of(emailVerification));
+    return emailVerification;
+  }
+
+  @Test
+  @DisplayName("max-attempts번 틀리면 코드를 폐기한다")
+  void verify_WhenTooManyMismatches_ThenDeleted() {
+    EmailVerification emailVerification = verification(
+      LocalDateTime.now().plusMinutes(3)
+    );
+
+    assertEquals(VerifyResult.MISMATCH, emailVerificationStore.verify(EMAIL, "0"));
+    assertEquals(VerifyResult.MISMATCH, emailVerificationStore.verify(EMAIL, "1"));
+    assertEquals(
+      VerifyResult.TOO_MANY_ATTEMPTS,
+      emailVerificationStore.verify(EMAIL, "2")
+    );
+    assertEquals(3, emailVerification.getAttempts());
+    verify(emailVerificationRepository).delete(emailVerification);
+  }
+
+  @Test
+  @DisplayName("인증에 성공하면 verified-ttl-minutes 동안 인증 상태를 유지한다")
+  void verify_WhenMatches_ThenVerifiedAndExtended() {
+    EmailVerification emailVerification = verification(
+      LocalDateTime.now().plusMinutes(1)
+    );
+
+    assertEquals(
+      VerifyResult.VERIFIED,
+      emailVerificationStore.verify(EMAIL, "123456")
+    );
+    assertTrue(emailVerification.isVerified());
+    assertTrue(
+      emailVerification.getExpiredAt().isAfter(LocalDateTime.now().plusMinutes(29))
+    );
+  }
+
+  @Test
+  @DisplayName("만료된 코드는 확인하지 않고, 재발급할 수 없다")
+  void verify_WhenExpired_ThenRejected() {
+    EmailVerification emailVerification = verification(
+      LocalDateTime.now().minusSeconds(1)
+    );
+
+    assertEquals(
+      VerifyResult.EXPIRED,
+      emailVerificationStore.verify(EMAIL, "123456")
+    );
+    assertFalse(emailVerificationStore.reissue(EMAIL, "654321"));
+    assertEquals(0, emailVerification.getAttempts());
+    verify(emailVerificationRepository, never()).save(any());
+  }
+}
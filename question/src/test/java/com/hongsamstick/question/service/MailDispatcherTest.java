@@ -0,0 +1,263 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hongsamstick.question.exception.MailQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+public class MailDispatcherTest {
+
+  private static final int QUEUE_CAPACITY = 500;
+  private static final int BATCH_SIZE = 20;
+  private static final int MAX_ATTEMPTS = 3;
+
+  /**
+   * 테스트용 SMTP 서버
+   *  - 받은 메일의 수신자와 연결 수를 기록합니다.
+   *  - 처음 refuse개의 연결을 421로 거절하거나, 지정한 수신자를 550으로 거절할 수 있습니다.
+   */
+  private static class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<String> recipients = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger refuse = new AtomicInteger();
+
+    private FakeSmtpServer() throws IOException {
+      this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+      executor.execute(this::accept);
+    }
+
+    private int getPort() {
+      return serverSocket.getLocalPort();
+    }
+
+    private void accept() {
+      while (!serverSocket.isClosed()) {
+        try {
+          Socket socket = serverSocket.accept();
+          executor.execute(() -> serve(socket));
+        } catch (IOException e) {
+          return;
+        }
+      }
+    }
+
+    private void serve(Socket socket) {
+      connections.incrementAndGet();
+      try (
+        socket;
+        BufferedReader in = new BufferedReader(
+          new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+        );
+        PrintWriter out = new PrintWriter(socket.getOutputStream(), true)
+      ) {
+        if (refuse.getAndDecrement() > 0) {
+          reply(out, "421 Service not available");
+          return;
+        }
+        reply(out, "220 localhost ESMTP");
+        List<String> current = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+          String command = line.toUpperCase(Locale.ROOT);
+          if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+            reply(out, "250 localhost");
+          } else if (command.startsWith("MAIL FROM") || command.startsWith("RSET")) {
+            current.clear();
+            reply(out, "250 OK");
+          } else if (command.startsWith("RCPT TO")) {
+            String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+            if (rejectedRecipients.contains(address)) {
+              reply(out, "550 No such user");
+            } else {
+              current.add(address);
+              reply(out, "250 OK");
+            }
+          } else if (command.startsWith("DATA")) {
+            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+            while (!".".equals(in.readLine())) {}
+            recipients.addAll(current);
+            current.clear();
+            reply(out, "250 OK");
+          } else if (command.startsWith("QUIT")) {
+            reply(out, "221 Bye");
+            return;
+          } else {
+            reply(out, "250 OK");
+          }
+        }
+      } catch (IOException e) {
+        // 클라이언트가 연결을 끊은 경우
+      }
+    }
+
+    private static void reply(PrintWriter out, String line) {
+      out.print(line + "\r\n");
+      out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      serverSocket.close();
+      executor.shutdownNow();
+    }
+  }
+
+  private FakeSmtpServer server;
+  private SimpleMeterRegistry meterRegistry;
+  private MailDispatcher mailDispatcher;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = new FakeSmtpServer();
+    JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    mailSender.setHost("localhost");
+    mailSender.setPort(server.getPort());
+    Properties properties = new Properties();
+    properties.put("mail.smtp.connectiontimeout", "5000");
+    properties.put("mail.smtp.timeout", "5000");
+    mailSender.setJavaMailProperties(properties);
+
+    meterRegistry = new SimpleMeterRegistry();
+    mailDispatcher =
+      new MailDispatcher(
+        mailSender,
+        meterRegistry,
+        QUEUE_CAPACITY,
+        2,
+        BATCH_SIZE,
+        20,
+        MAX_ATTEMPTS,
+        10
+      );
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mailDispatcher.shutdown();
+    server.close();
+  }
+
+  private static SimpleMailMessage message(String to) {
+    SimpleMailMessage message = new SimpleMailMessage();
+    message.setFrom("hongsamstick1@gmail.com");
+    message.setTo(to);
+    message.setSubject("회원가입 인증 코드");
+    message.setText("회원가입 인증 코드: 123456");
+    return message;
+  }
+
+  @Test
+  @DisplayName("대기 중인 메일은 배치마다 SMTP 연결 하나로 모두 발송된다")
+  void enqueue_WhenManyMails_ThenSentInBatchesOverSharedConnections()
+    throws Exception {
+    // 준비
+    int mails = 200;
+    for (int i = 0; i < mails; i++) {
+      mailDispatcher.enqueue(message("user" + i + "@test.com"));
+    }
+    assertEquals(mails, mailDispatcher.getQueueSize());
+
+    // 실행
+    mailDispatcher.start();
+    mailDispatcher.shutdown();
+
+    // 검증
+    assertEquals(mails, server.recipients.size());
+    assertEquals(mails, Set.copyOf(server.recipients).size());
+    assertEquals(mails / BATCH_SIZE, server.connections.get());
+    assertEquals(
+      (double) mails,
+      meterRegistry.counter("mail.dispatch.sent").count()
+    );
+    assertEquals(mails, meterRegistry.timer("mail.dispatch.delivery").count());
+    assertEquals(0, mailDispatcher.getQueueSize());
+  }
+
+  @Test
+  @DisplayName("SMTP 서버가 연결을 거절하면 간격을 두고 다시 발송한다")
+  void send_WhenConnectionRefused_ThenRetried() throws Exception {
+    // 준비
+    server.refuse.set(2);
+    for (int i = 0; i < 5; i++) {
+      mailDispatcher.enqueue(message("user" + i + "@test.com"));
+    }
+
+    // 실행 (발송 스레드 없이 호출한 스레드에서 순서대로 발송)
+    mailDispatcher.shutdown();
+
+    // 검증
+    assertEquals(5, server.recipients.size());
+    assertEquals(10.0, meterRegistry.counter("mail.dispatch.retried").count());
+    assertEquals(0.0, meterRegistry.counter("mail.dispatch.dropped").count());
+    assertEquals(3, meterRegistry.timer("mail.dispatch.send").count());
+  }
+
+  @Test
+  @DisplayName("계속 실패하는 메일만 max-attempts번 시도 후 버리고 나머지는 발송한다")
+  void send_WhenRecipientRejected_ThenOnlyThatMailDropped() throws Exception {
+    // 준비
+    server.rejectedRecipients.add("bounce@test.com");
+    mailDispatcher.enqueue(message("user1@test.com"));
+    mailDispatcher.enqueue(message("bounce@test.com"));
+    mailDispatcher.enqueue(message("user2@test.com"));
+
+    // 실행
+    mailDispatcher.shutdown();
+
+    // 검증
+    assertEquals(List.of("user1@test.com", "user2@test.com"), server.recipients);
+    assertEquals(2.0, meterRegistry.counter("mail.dispatch.sent").count());
+    assertEquals(
+      (double) (MAX_ATTEMPTS - 1),
+      meterRegistry.counter("mail.dispatch.retried").count()
+    );
+    assertEquals(1.0, meterRegistry.counter("mail.dispatch.dropped").count());
+  }
+
+  @Test
+  @DisplayName("발송 대기열이 가득 차면 거절한다")
+  void enqueue_WhenQueueFull_ThenRejected() {
+    for (int i = 0; i < QUEUE_CAPACITY; i++) {
+      mailDispatcher.enqueue(message("user" + i + "@test.com"));
+    }
+
+    assertThrows(
+      MailQueueFullException.class,
+      () -> mailDispatcher.enqueue(message("late@test.com"))
+    );
+    assertEquals(1.0, meterRegistry.counter("mail.dispatch.rejected").count());
+    assertFalse(server.recipients.contains("late@test.com"));
+    assertTrue(server.recipients.isEmpty());
+  }
+}
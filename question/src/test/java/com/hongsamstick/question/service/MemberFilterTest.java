@@ -0,0 +1,154 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.dto.MemberKey;
+import com.hongsamstick.question.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberFilterTest {
+
+  @Mock
+  private MemberRepository memberRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private SimpleMeterRegistry meterRegistry;
+  private MemberFilter memberFilter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    memberFilter =
+      new MemberFilter(
+        memberRepository,
+        transactionManager,
+        redisTemplate,
+        listenerContainer,
+        meterRegistry,
+        1_000,
+        0.001
+      );
+  }
+
+  private void rebuild(MemberKey... members) {
+    when(memberRepository.count()).thenReturn((long) members.length);
+    when(memberRepository.streamAllKeys()).thenReturn(Stream.of(members));
+    memberFilter.rebuild();
+  }
+
+  @Test
+  @DisplayName("필터 생성 전에는 모든 값을 DB에서 확인한다")
+  void isDefinitelyAbsent_WhenNotBuilt_ThenFalse() {
+    assertFalse(memberFilter.isEmailDefinitelyAbsent("new@test.com"));
+    assertFalse(memberFilter.isNameDefinitelyAbsent("새회원"));
+  }
+
+  @Test
+  @DisplayName("가입된 값은 DB 비교 규칙(대소문자, 악센트, 전각)과 관계없이 DB에서 확인한다")
+  void isDefinitelyAbsent_WhenMemberExists_ThenFalse() {
+    rebuild(
+      new MemberKey("Alice@Test.com", "Café"),
+      new MemberKey("hong@test.com", "홍길동")
+    );
+
+    assertFalse(memberFilter.isEmailDefinitelyAbsent("alice@test.com"));
+    assertFalse(memberFilter.isNameDefinitelyAbsent("cafe"));
+    assertFalse(memberFilter.isNameDefinitelyAbsent("CAFÉ "));
+    assertFalse(memberFilter.isNameDefinitelyAbsent("홍길동"));
+    assertFalse(memberFilter.isEmailDefinitelyAbsent("ＨＯＮＧ@test.com"));
+  }
+
+  @Test
+  @DisplayName("가입되지 않은 값은 대부분 DB 조회 없이 사용 가능으로 응답한다")
+  void isDefinitelyAbsent_WhenNewValues_ThenMostlySkipped() {
+    rebuild(new MemberKey("hong@test.com", "홍길동"));
+
+    int absent = 0;
+    for (int i = 0; i < 1_000; i++) {
+      if (memberFilter.isNameDefinitelyAbsent("회원" + i)) {
+        absent++;
+      }
+    }
+
+    assertTrue(absent >= 990);
+    assertEquals(
+      (double) absent,
+      meterRegistry
+        .counter("member.filter.checks", "filter", "name", "result", "absent")
+        .count()
+    );
+  }
+
+  @Test
+  @DisplayName("가입한 회원은 Redis 채널로 전달되어 필터에 추가된다")
+  void addAfterCommit_ThenAddedFromChannel() {
+    ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(
+      MessageListener.class
+    );
+    verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+    rebuild();
+    assertTrue(memberFilter.isNameDefinitelyAbsent("홍 길동"));
+
+    memberFilter.addAfterCommit("hong@test.com", "홍 길동");
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(redisTemplate).convertAndSend(eq(MemberFilter.CHANNEL), body.capture());
+    listener
+      .getValue()
+      .onMessage(
+        new DefaultMessage(
+          MemberFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+          body.getValue().getBytes(StandardCharsets.UTF_8)
+        ),
+        null
+      );
+    assertFalse(memberFilter.isNameDefinitelyAbsent("홍 길동"));
+    assertFalse(memberFilter.isEmailDefinitelyAbsent("hong@test.com"));
+  }
+
+  @Test
+  @DisplayName("Redis에 발행하지 못하면 현재 노드의 필터에 직접 추가한다")
+  void addAfterCommit_WhenRedisFails_ThenAddedLocally() {
+    rebuild();
+    doThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+      .when(redisTemplate)
+      .convertAndSend(eq(MemberFilter.CHANNEL), anyString());
+
+    memberFilter.addAfterCommit("hong@test.com", "홍길동");
+
+    assertFalse(memberFilter.isNameDefinitelyAbsent("홍길동"));
+  }
+}
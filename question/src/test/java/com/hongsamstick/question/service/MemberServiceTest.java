@@ -8,23 +8,30 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.hongsamstick.question.domain.EmailVerification;
 import com.hongsamstick.question.domain.Member;
-import com.hongsamstick.question.repository.EmailVerificationRepository;
+import com.hongsamstick.question.repository.ArchivedPostRepository;
 import com.hongsamstick.question.repository.MemberRepository;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.mail.SimpleMailMessage;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -36,11 +43,26 @@ public class MemberServiceTest {
   private MemberRepository memberRepository;
 
   @Mock
-  private EmailVerificationRepository emailVerificationRepository;
+  private EmailVerificationStore emailVerificationStore;
 
   @Mock
   private PasswordEncoder passwordEncoder;
 
+  @Mock
+  private ArchivedPostRepository archivedPostRepository;
+
+  @Mock
+  private MailDispatcher mailDispatcher;
+
+  @Mock
+  private MemberFilter memberFilter;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private QuestionRepository questionRepository;
+
   @InjectMocks
   private MemberService memberService;
 
@@ -51,14 +73,10 @@ public class MemberServiceTest {
     String email = "test@example.com";
     String password = "Password123!";
     String name = "TestUser";
-    EmailVerification emailVerification = new EmailVerification();
-    emailVerification.setVerified(true);
-
     when(memberRepository.existsByEmail(anyString())).thenReturn(false); // 이메일 중복 검사
     when(memberRepository.existsByName(anyString())).thenReturn(false); // 이름 중복 검사
     when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword"); // 비밀번호 암호화
-    when(emailVerificationRepository.findById(anyString()))
-      .thenReturn(Optional.of(emailVerification)); // 이메일 인증 정보 조회
+    when(emailVerificationStore.isVerified(email)).thenReturn(true); // 이메일 인증 여부 조회
     when(memberRepository.save(any(Member.class))) // 회원 저장
       .thenAnswer(i -> i.getArgument(0)); // 저장된 회원 반환
 
@@ -70,6 +88,8 @@ public class MemberServiceTest {
     assertEquals(email, result.getEmail()); // 회원의 이메일이 정상적으로 저장되었는지 검증
     assertEquals("encodedPassword", result.getPassword()); // 회원의 비밀번호가 정상적으로 저장되었는지 검증
     assertEquals(name, result.getName()); // 회원의 이름이 정상적으로 저장되었는지 검증
+    verify(emailVerificationStore).remove(email); // 가입 후 인증 정보 삭제
+    verify(memberFilter).addAfterCommit(email, name); // 중복 확인 필터에 추가
   }
 
   @ParameterizedTest
@@ -114,6 +134,14 @@ public class MemberServiceTest {
     assertFalse(memberService.emailExists("test@example.com"));
   }
 
+  @Test
+  @DisplayName("이름 중복 검사 테스트 - 필터에 확실히 없으면 DB를 조회하지 않음")
+  void nameExists_WhenDefinitelyAbsent_ThenSkipsDb() {
+    when(memberFilter.isNameDefinitelyAbsent("TestUser")).thenReturn(true);
+    assertFalse(memberService.nameExists("TestUser"));
+    verify(memberRepository, never()).existsByName(anyString());
+  }
+
   @Test
   @DisplayName("이름 중복 검사 테스트 - 중복되는 이름이 없을 때")
   void nameExists_WhenExists_ThenReturnTrue() {
@@ -128,6 +156,63 @@ public class MemberServiceTest {
     assertFalse(memberService.nameExists("TestUser"));
   }
 
+  @Test
+  @DisplayName("인증 코드 전송 테스트 - 메일은 발송 큐에 넣고 바로 반환")
+  void sendVerificationCode_ThenEnqueuesMail() {
+    // 준비
+    String email = "test@example.com";
+    when(memberRepository.existsByEmail(email)).thenReturn(false);
+    ArgumentCaptor<String> code = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<SimpleMailMessage> message = ArgumentCaptor.forClass(
+      SimpleMailMessage.class
+    );
+
+    // 실행
+    memberService.sendVerificationCode(email);
+
+    // 검증
+    verify(emailVerificationStore).issue(eq(email), code.capture());
+    verify(mailDispatcher).enqueue(message.capture());
+    assertEquals(email, message.getValue().getTo()[0]);
+    assertTrue(message.getValue().getText().endsWith(code.getValue()));
+  }
+
+  @Test
+  @DisplayName("인증 코드 확인 테스트 - 저장소의 확인 결과에 따라 응답")
+  void verifyCode_MapsStoreResult() {
+    String email = "test@example.com";
+    when(emailVerificationStore.verify(email, "123456"))
+      .thenReturn(EmailVerificationStore.VerifyResult.VERIFIED);
+    when(emailVerificationStore.verify(email, "000000"))
+      .thenReturn(EmailVerificationStore.VerifyResult.MISMATCH)
+      .thenReturn(EmailVerificationStore.VerifyResult.TOO_MANY_ATTEMPTS)
+      .thenReturn(EmailVerificationStore.VerifyResult.EXPIRED);
+
+    assertTrue(memberService.verifyCode(email, "123456"));
+    assertFalse(memberService.verifyCode(email, "000000"));
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> memberService.verifyCode(email, "000000")
+    );
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> memberService.verifyCode(email, "000000")
+    );
+  }
+
+  @Test
+  @DisplayName("인증 코드 재전송 테스트 - 전송된 코드가 없으면 메일을 보내지 않음")
+  void resendVerificationCode_WhenNoCode_ThenThrows() {
+    String email = "test@example.com";
+    when(emailVerificationStore.reissue(eq(email), anyString())).thenReturn(false);
+
+    assertThrows(
+      IllegalArgumentException.class,
+      () -> memberService.resendVerificationCode(email)
+    );
+    verify(mailDispatcher, never()).enqueue(any());
+  }
+
   @Test
   @DisplayName("회원 탈퇴 테스트 - 비밀번호가 맞는 경우")
   void testUnregisterWithCorrectPassword() {
@@ -148,6 +233,29 @@ public class MemberServiceTest {
     });
 
     verify(memberRepository, times(1)).delete(mockMember);
+    verify(archivedPostRepository, times(1)).deleteByEmail(mockMember.getEmail());
+  }
+
+  @Test
+  @DisplayName("회원 탈퇴 테스트 - 게시글과 보관된 게시글의 질문도 삭제")
+  void testUnregister_ThenQuestionsDeleted() {
+    String email = "test@example.com";
+    Member mockMember = new Member();
+    mockMember.setEmail(email);
+    mockMember.setPassword("encodedPassword");
+
+    when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
+    when(postRepository.findPostIdsByEmail(email)).thenReturn(List.of(1L));
+    when(archivedPostRepository.findPostIdsByEmail(email))
+      .thenReturn(List.of(2L));
+
+    memberService.unregister(mockMember, "password");
+
+    // 게시글을 먼저 삭제한 뒤 질문 삭제 (저장 대기 중이던 질문이 남지 않도록)
+    InOrder order = inOrder(memberRepository, questionRepository);
+    order.verify(memberRepository).delete(mockMember);
+    order.verify(memberRepository).flush();
+    order.verify(questionRepository).deleteAllByPostIdIn(List.of(1L, 2L));
   }
 
   @Test
@@ -0,0 +1,113 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.repository.ArchivedPostRepository;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.util.TimeOrderedUuid;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PostCodeFilterTest {
+
+  private static final long CLOCK_SKEW_MS = 60_000;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private ArchivedPostRepository archivedPostRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private PostChangeNotifier postChangeNotifier;
+
+  private SimpleMeterRegistry meterRegistry;
+  private PostCodeFilter postCodeFilter;
+  private final UUID existing = TimeOrderedUuid.generate();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    postCodeFilter =
+      new PostCodeFilter(
+        postRepository,
+        archivedPostRepository,
+        transactionManager,
+        postChangeNotifier,
+        meterRegistry,
+        1_000,
+        0.001,
+        CLOCK_SKEW_MS
+      );
+    when(postRepository.count()).thenReturn(1L);
+    when(archivedPostRepository.count()).thenReturn(0L);
+    when(postRepository.streamAllCodes()).thenReturn(Stream.of(existing));
+    when(archivedPostRepository.streamAllCodes()).thenReturn(Stream.empty());
+    postCodeFilter.rebuild();
+  }
+
+  // 지정한 시각의 UUIDv7
+  private static UUID v7At(long epochMillis) {
+    long msb = (epochMillis << 16) | (0x7L << 12);
+    long lsb = (0x2L << 62) | (ThreadLocalRandom.current().nextLong() >>> 2);
+    return new UUID(msb, lsb);
+  }
+
+  @Test
+  @DisplayName("임의의 UUIDv4와 필터 생성 전의 UUIDv7은 DB 조회 없이 404로 처리한다")
+  void isDefinitelyAbsent_WhenRandomOrPastCode_ThenRejectedWithoutDb() {
+    long now = System.currentTimeMillis();
+    int rejected = 0;
+    for (int i = 0; i < 1_000; i++) {
+      if (postCodeFilter.isDefinitelyAbsent(UUID.randomUUID())) {
+        rejected++;
+      }
+    }
+    UUID past = v7At(now - Duration.ofDays(1).toMillis());
+
+    assertTrue(rejected >= 990);
+    assertTrue(postCodeFilter.isDefinitelyAbsent(past));
+    assertFalse(postCodeFilter.isDefinitelyAbsent(existing));
+    assertEquals(
+      (double) rejected + 1,
+      meterRegistry.counter("post.code.filter.rejections").count()
+    );
+    // 필터 생성 외에는 DB를 조회하지 않음
+    verify(postRepository).count();
+    verify(postRepository).streamAllCodes();
+    verifyNoMoreInteractions(postRepository);
+  }
+
+  @Test
+  @DisplayName("필터 생성 이후에 개설되었을 수 있는 UUIDv7만 DB에서 확인한다")
+  void isDefinitelyAbsent_WhenCreatedAfterRebuild_ThenCheckedInDb() {
+    long now = System.currentTimeMillis();
+
+    assertFalse(postCodeFilter.isDefinitelyAbsent(v7At(now)));
+    assertFalse(
+      postCodeFilter.isDefinitelyAbsent(v7At(now + CLOCK_SKEW_MS / 2))
+    );
+    // 발급될 수 없는 미래 시각의 code
+    UUID future = v7At(now + Duration.ofDays(365).toMillis());
+    assertTrue(postCodeFilter.isDefinitelyAbsent(future));
+  }
+}
@@ -0,0 +1,248 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.dto.PostSearchDocument;
+import com.hongsamstick.question.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchServiceTest {
+
+  private static final Pageable PAGE = PageRequest.of(0, 10);
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private PostChangeNotifier postChangeNotifier;
+
+  @TempDir
+  private Path indexDir;
+
+  private final List<PostSearchService> services = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws IOException {
+    for (PostSearchService service : services) {
+      service.shutdown();
+    }
+  }
+
+  // 색인 디렉터리를 열고 변경 알림 구독자를 반환
+  private Consumer<UUID> open() throws IOException {
+    services.add(
+      new PostSearchService(
+        postRepository,
+        transactionManager,
+        postChangeNotifier,
+        new SimpleMeterRegistry(),
+        indexDir.toString(),
+        1000
+      )
+    );
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Consumer<UUID>> subscriber = ArgumentCaptor.forClass(
+      Consumer.class
+    );
+    verify(postChangeNotifier).subscribe(subscriber.capture());
+    return subscriber.getValue();
+  }
+
+  private PostSearchService service() {
+    return services.get(services.size() - 1);
+  }
+
+  private static PostSearchDocument document(
+    long postId,
+    UUID code,
+    String title,
+    String content
+  ) {
+    return document(postId, code, title, content, false);
+  }
+
+  private static PostSearchDocument document(
+    long postId,
+    UUID code,
+    String title,
+    String content,
+    boolean closed
+  ) {
+    return new PostSearchDocument(
+      postId,
+      code,
+      title,
+      content,
+      0,
+      LocalDateTime.now().minusDays(1),
+      null,
+      closed
+    );
+  }
+
+  // 변경 알림을 받은 게시글을 색인에 반영
+  private void refresh(
+    Consumer<UUID> subscriber,
+    List<UUID> codes,
+    List<PostSearchDocument> documents
+  ) {
+    codes.forEach(subscriber);
+    when(postRepository.findSearchDocumentsByCodeIn(any()))
+      .thenReturn(documents);
+    service().refresh();
+  }
+
+  private List<Long> search(String keyword) {
+    return service().search(keyword, PAGE).getContent();
+  }
+
+  @Test
+  @DisplayName("한글은 2글자 단위로 색인되어 띄어쓰기 없이 붙은 단어의 일부로도 찾고, 제목 일치가 본문 일치보다 앞선다")
+  void search_WhenKoreanKeyword_ThenMatchesBigramsAndRanksTitleFirst()
+    throws IOException {
+    // 준비
+    Consumer<UUID> subscriber = open();
+    UUID inContent = UUID.randomUUID();
+    UUID inTitle = UUID.randomUUID();
+    refresh(
+      subscriber,
+      List.of(inContent, inTitle),
+      List.of(
+        document(1L, inContent, "자유 질문", "오늘 스프링부트강의 어땠나요"),
+        document(2L, inTitle, "스프링부트 강의 질문방", "자유롭게 질문하세요")
+      )
+    );
+
+    // 실행 & 검증
+    assertEquals(List.of(2L, 1L), search("부트"));
+    assertEquals(List.of(2L, 1L), search("스프링"));
+    assertEquals(List.of(1L), search("오늘 스프링"));
+    assertEquals(List.of(), search("파이썬"));
+    assertEquals(List.of(), search(" "));
+  }
+
+  @Test
+  @DisplayName("수정 알림을 받은 게시글은 다음 refresh 후 새 제목으로만 검색된다")
+  void refresh_WhenPostUpdated_ThenSearchReflectsNewTitle() throws IOException {
+    // 준비
+    Consumer<UUID> subscriber = open();
+    UUID code = UUID.randomUUID();
+    refresh(
+      subscriber,
+      List.of(code),
+      List.of(document(1L, code, "자바 스터디", "내용"))
+    );
+    assertEquals(List.of(1L), search("자바"));
+
+    // 실행
+    subscriber.accept(code);
+    assertEquals(List.of(1L), search("자바")); // refresh 전까지는 이전 색인
+    refresh(
+      subscriber,
+      List.of(code),
+      List.of(document(1L, code, "코틀린 스터디", "내용"))
+    );
+
+    // 검증
+    assertEquals(List.of(), search("자바"));
+    assertEquals(List.of(1L), search("코틀린"));
+  }
+
+  @Test
+  @DisplayName("마감되거나 삭제된 게시글은 refresh 후 검색되지 않는다")
+  void refresh_WhenPostClosedOrDeleted_ThenRemovedFromIndex()
+    throws IOException {
+    // 준비
+    Consumer<UUID> subscriber = open();
+    UUID closed = UUID.randomUUID();
+    UUID deleted = UUID.randomUUID();
+    refresh(
+      subscriber,
+      List.of(closed, deleted),
+      List.of(
+        document(1L, closed, "마감 예정 게시판", "내용"),
+        document(2L, deleted, "삭제 예정 게시판", "내용")
+      )
+    );
+    assertEquals(2, service().search("게시판", PAGE).getTotalElements());
+
+    // 실행 (삭제된 게시글은 DB 조회 결과에 없음)
+    refresh(
+      subscriber,
+      List.of(closed, deleted),
+      List.of(document(1L, closed, "마감 예정 게시판", "내용", true))
+    );
+
+    // 검증
+    assertEquals(List.of(), search("게시판"));
+  }
+
+  @Test
+  @DisplayName("재시작하면 마지막 커밋 시각 이후 수정된 게시글만 다시 색인한다")
+  void load_WhenIndexCommitted_ThenCatchesUpSinceCommittedAt()
+    throws IOException {
+    // 준비 (빈 색인이면 전체 생성 후 커밋)
+    open();
+    UUID code = UUID.randomUUID();
+    when(postRepository.streamSearchDocuments(any()))
+      .thenReturn(Stream.of(document(1L, code, "알고리즘 스터디", "내용")));
+    LocalDateTime beforeCommit = LocalDateTime.now();
+    service().load();
+    service().shutdown();
+    services.clear();
+
+    // 실행 (같은 색인 디렉터리로 재시작)
+    UUID updated = UUID.randomUUID();
+    when(postRepository.streamSearchDocumentsUpdatedAfter(any()))
+      .thenReturn(Stream.of(document(2L, updated, "알고리즘 문제 풀이", "내용")));
+    clearInvocations(postChangeNotifier, postRepository);
+    open();
+    service().load();
+
+    // 검증 (커밋된 문서는 유지되고, 커밋 시각에서 여유 시간을 뺀 시점부터 따라잡음)
+    assertEquals(List.of(1L, 2L), sorted(search("알고리즘")));
+    verify(postRepository, never()).streamSearchDocuments(any());
+    ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(
+      LocalDateTime.class
+    );
+    verify(postRepository).streamSearchDocumentsUpdatedAfter(since.capture());
+    assertTrue(since.getValue().isBefore(beforeCommit));
+    assertFalse(since.getValue().isBefore(beforeCommit.minusMinutes(6)));
+  }
+
+  private static List<Long> sorted(List<Long> postIds) {
+    List<Long> copy = new ArrayList<>(postIds);
+    copy.sort(null);
+    return copy;
+  }
+}
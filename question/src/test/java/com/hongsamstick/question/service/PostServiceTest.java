@@ -2,24 +2,47 @@ package com.hongsamstick.question.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hongsamstick.question.domain.Member;
 import com.hongsamstick.question.domain.Post;
+import com.hongsamstick.question.dto.PostDetailDto;
+import com.hongsamstick.question.dto.PostSummaryDto;
+import com.hongsamstick.question.exception.PostNotFoundException;
+import com.hongsamstick.question.repository.ArchivedPostRepository;
 import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +51,42 @@ public class PostServiceTest {
   @Mock
   private PostRepository postRepository;
 
+  @Mock
+  private ArchivedPostRepository archivedPostRepository;
+
+  @Mock
+  private PostCache postCache;
+
+  @Mock
+  private PostChangeNotifier postChangeNotifier;
+
+  @Mock
+  private PostCodeFilter postCodeFilter;
+
+  @Mock
+  private PostChangeSequence postChangeSequence;
+
+  @Mock
+  private OpenPostIndex openPostIndex;
+
+  @Mock
+  private HotRankingService hotRankingService;
+
+  @Mock
+  private TrendingPostService trendingPostService;
+
+  @Mock
+  private PostSearchService postSearchService;
+
+  @Mock
+  private PostSuggestService postSuggestService;
+
+  @Mock
+  private QuestionRepository questionRepository;
+
+  @Mock
+  private PostStreamService postStreamService;
+
   @InjectMocks
   private PostService postService;
 
@@ -75,6 +134,7 @@ public class PostServiceTest {
     // then
     assertNotNull(returnedCode); // 반환값 확인
     verify(postRepository).save(any(Post.class)); // 호출 확인
+    verify(postCodeFilter).addAfterCommit(returnedCode); // code 필터에 추가
   }
 
   @Test
@@ -127,6 +187,7 @@ public class PostServiceTest {
     post.setCode(code);
 
     when(postRepository.findByCode(code)).thenReturn(Optional.of(post));
+    when(postRepository.save(post)).thenReturn(post);
 
     String newTitle = "New Title";
     String newContent = "New Content";
@@ -151,6 +212,9 @@ public class PostServiceTest {
     assertEquals(newReadPermission, post.getReadPermission());
     assertEquals(newWritePermission, post.getWritePermission());
     assertEquals(newEndDate, post.getEndDate());
+    verify(postChangeNotifier).publishAfterCommit(code); // 캐시 무효화 알림
+    verify(postStreamService)
+      .publishAfterCommit(eq(code), eq(PostStreamService.UPDATED), any()); // 구독자에게 수정 알림
   }
 
   @Test
@@ -305,6 +369,7 @@ public class PostServiceTest {
     post.setReadPermission(1);
     post.setWritePermission(1);
     post.setEndDate(LocalDateTime.now().plusDays(7));
+    post.setPostId(1L);
     post.setCode(code);
 
     when(postRepository.findByCode(code)).thenReturn(Optional.of(post));
@@ -313,7 +378,12 @@ public class PostServiceTest {
     postService.deletePost(code, member);
 
     // then
-    verify(postRepository).delete(post);
+    // 게시글을 먼저 삭제한 뒤 질문 삭제 (저장 대기 중이던 질문이 남지 않도록)
+    InOrder order = inOrder(postRepository, questionRepository);
+    order.verify(postRepository).delete(post);
+    order.verify(postRepository).flush();
+    order.verify(questionRepository).deleteAllByPostId(1L); // 게시판의 질문도 삭제
+    verify(postChangeNotifier).publishAfterCommit(code); // 캐시 무효화 알림
   }
 
   @Test
@@ -405,4 +475,212 @@ public class PostServiceTest {
       exception.getMessage()
     );
   }
+
+  @Test
+  @DisplayName("같은 게시판 동시 조회 - DB 조회는 한 번만 실행")
+  @SuppressWarnings("unchecked")
+  public void getPostByCodeTest_ConcurrentBurst() throws Exception {
+    // given
+    UUID code = UUID.randomUUID();
+    Post post = new Post();
+    post.setCode(code);
+    post.setTitle("제목");
+    Member member = new Member();
+    member.setEmail("owner@test.com");
+    post.setMember(member);
+
+    // 캐시 계층은 그대로 통과시킴
+    when(postCache.get(eq(code), any(Function.class)))
+      .thenAnswer(invocation ->
+        ((Function<UUID, PostDetailDto>) invocation.getArgument(1)).apply(code)
+      );
+    when(postRepository.findWithMemberByCode(code))
+      .thenAnswer(invocation -> {
+        Thread.sleep(200); // 조회가 진행되는 동안 나머지 요청이 도착
+        return Optional.of(post);
+      });
+
+    // when
+    int clients = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(clients);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<PostDetailDto>> results = new ArrayList<>();
+    for (int i = 0; i < clients; i++) {
+      results.add(
+        executor.submit(() -> {
+          start.await();
+          return postService.getPostByCode(code);
+        })
+      );
+    }
+    start.countDown();
+    executor.shutdown();
+
+    // then
+    PostDetailDto loaded = results.get(0).get();
+    for (Future<PostDetailDto> result : results) {
+      assertSame(loaded, result.get());
+    }
+    assertEquals(code, loaded.getCode());
+    assertEquals("owner@test.com", loaded.getEmail());
+
+    // 캐시된 값은 조회한 엔티티와 분리되어 이후 엔티티 변경에 영향을 받지 않음
+    post.setTitle("변경된 제목");
+    assertEquals("제목", loaded.getTitle());
+    verify(postRepository, times(1)).findWithMemberByCode(code);
+  }
+
+  @Test
+  @DisplayName("code로 게시판 찾기 - 필터에 없는 code는 DB를 조회하지 않음")
+  public void getPostJoinWithCodeTest_DefinitelyAbsent() {
+    // given
+    UUID code = UUID.randomUUID();
+    when(postCodeFilter.isDefinitelyAbsent(code)).thenReturn(true);
+
+    // when
+    assertThrows(
+      PostNotFoundException.class,
+      () -> {
+        postService.getPostJoinWithCode(code);
+      }
+    );
+
+    // then
+    verify(postRepository, never()).findByCodeAndEndDateAfter(eq(code), any());
+  }
+
+  @Test
+  @DisplayName("내가 개설한 게시판 목록 - 보관된 게시글과 합쳐서 정렬")
+  public void getMyPostsTest_IncludesArchived() {
+    // given
+    String email = "test@test.com";
+    LocalDateTime now = LocalDateTime.now();
+    PostSummaryDto live = summary(2L, now.minusDays(1));
+    PostSummaryDto archived = summary(1L, now.minusDays(10));
+    PostSummaryDto newest = summary(3L, now);
+    Pageable pageable = PageRequest.of(0, 2, Sort.by("startDate").descending());
+
+    when(postRepository.findMyPostSummaries(eq(email), eq(false), any()))
+      .thenReturn(new PageImpl<>(List.of(newest, live), pageable, 2));
+    when(archivedPostRepository.findMyArchivedSummaries(eq(email), any()))
+      .thenReturn(new PageImpl<>(List.of(archived), pageable, 1));
+
+    // when
+    Page<PostSummaryDto> result = postService.getMyPosts(
+      email,
+      false,
+      pageable
+    );
+
+    // then
+    assertEquals(List.of(newest, live), result.getContent());
+    assertEquals(3, result.getTotalElements());
+  }
+
+  @Test
+  @DisplayName("게시판 목록 - 인덱스 순서대로 채우고 그 사이 마감된 게시글은 제외")
+  public void getPostsTest_FromIndex() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    PostSummaryDto first = summary(3L, now);
+    PostSummaryDto second = summary(1L, now.minusDays(1));
+    Pageable pageable = PageRequest.of(0, 3, Sort.by("startDate").descending());
+
+    when(openPostIndex.findPostIds(pageable))
+      .thenReturn(Optional.of(new PageImpl<>(List.of(3L, 2L, 1L), pageable, 3)));
+    when(
+      postRepository.findOpenPostSummariesByPostIdIn(
+        eq(0),
+        any(),
+        eq(List.of(3L, 2L, 1L))
+      )
+    )
+      .thenReturn(List.of(second, first));
+
+    // when
+    Page<PostSummaryDto> result = postService.getPosts(0, pageable);
+
+    // then
+    assertEquals(List.of(first, second), result.getContent());
+    assertEquals(3, result.getTotalElements());
+    verify(postRepository, never()).findOpenPostSummaries(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("게시판 목록 - 인덱스를 사용할 수 없으면 SQL로 조회")
+  public void getPostsTest_IndexUnavailable() {
+    // given
+    Pageable pageable = PageRequest.of(0, 6, Sort.by("viewcount").descending());
+    Page<PostSummaryDto> page = new PageImpl<>(List.of(), pageable, 0);
+    when(postRepository.findOpenPostSummaries(eq(0), any(), eq(pageable)))
+      .thenReturn(page);
+
+    // when
+    Page<PostSummaryDto> result = postService.getPosts(0, pageable);
+
+    // then
+    assertEquals(page, result);
+  }
+
+  @Test
+  @DisplayName("상세 페이지 조회 - 전체 공개 게시글만 실시간 인기 게시글에 집계")
+  public void recordViewTest_OnlyPublicPosts() {
+    // given
+    Post publicPost = new Post();
+    publicPost.setPostId(1L);
+    publicPost.setReadPermission(0);
+    Post codeOnlyPost = new Post();
+    codeOnlyPost.setPostId(2L);
+    codeOnlyPost.setReadPermission(1);
+
+    // when
+    postService.recordView(postService.convertPostToPostDetailDto(publicPost));
+    postService.recordView(postService.convertPostToPostDetailDto(codeOnlyPost));
+
+    // then
+    verify(trendingPostService).record(1L);
+    verify(trendingPostService, never()).record(2L);
+  }
+
+  @Test
+  @DisplayName("게시판 검색 - 검색 순서대로 채우고 진행 중이 아닌 게시글은 색인에서 제거")
+  public void searchPostsTest() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    PostSummaryDto first = summary(5L, now.minusDays(2));
+    PostSummaryDto second = summary(7L, now);
+    Pageable pageable = PageRequest.of(0, 6);
+
+    when(postSearchService.search("질문", pageable))
+      .thenReturn(new PageImpl<>(List.of(5L, 6L, 7L), pageable, 3));
+    when(
+      postRepository.findOpenPostSummariesByPostIdIn(
+        eq(0),
+        any(),
+        eq(List.of(5L, 6L, 7L))
+      )
+    )
+      .thenReturn(List.of(second, first));
+
+    // when
+    Page<PostSummaryDto> result = postService.searchPosts("질문", pageable);
+
+    // then
+    assertEquals(List.of(first, second), result.getContent());
+    verify(postSearchService).remove(6L);
+    verify(postSearchService, never()).remove(5L);
+  }
+
+  private PostSummaryDto summary(Long postId, LocalDateTime startDate) {
+    return new PostSummaryDto(
+      postId,
+      UUID.randomUUID(),
+      "title" + postId,
+      0L,
+      startDate,
+      null,
+      "test",
+      null
+    );
+  }
 }
@@ -0,0 +1,235 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+public class PostStreamServiceTest {
+
+  private static final int QUEUE_CAPACITY = 4;
+  private static final int MAX_CONNECTIONS = 3;
+
+  // 전송한 이벤트를 기록하고, 열려 있는 동안 전송을 막을 수 있는 emitter
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sendable;
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    private RecordingEmitter(CountDownLatch sendable) {
+      this.sendable = sendable;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      try {
+        sendable.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      StringBuilder text = new StringBuilder();
+      builder.build().forEach(data -> text.append(data.getData()));
+      events.add(text.toString());
+    }
+
+    @Override
+    public void complete() {
+      completed.countDown();
+    }
+
+    private long count(String type) {
+      return events.stream().filter(e -> e.contains("event:" + type)).count();
+    }
+  }
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  @Mock
+  private RedisMessageListenerContainer listenerContainer;
+
+  private MessageListener relay;
+  private SimpleMeterRegistry meterRegistry;
+  private PostStreamService postStreamService;
+  private CountDownLatch sendable;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sendable = new CountDownLatch(0);
+    postStreamService =
+      new PostStreamService(
+        redisTemplate,
+        listenerContainer,
+        new ObjectMapper(),
+        meterRegistry,
+        QUEUE_CAPACITY,
+        MAX_CONNECTIONS,
+        60_000,
+        2
+      ) {
+        @Override
+        SseEmitter createEmitter() {
+          return new RecordingEmitter(sendable);
+        }
+      };
+    ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(
+      MessageListener.class
+    );
+    verify(listenerContainer).addMessageListener(captor.capture(), any(Topic.class));
+    relay = captor.getValue();
+
+    // Redis 발행은 바로 구독 중인 리스너로 전달
+    lenient()
+      .doAnswer(invocation -> {
+        String body = invocation.getArgument(1);
+        relay.onMessage(
+          new DefaultMessage(
+            PostStreamService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8)
+          ),
+          null
+        );
+        return null;
+      })
+      .when(redisTemplate)
+      .convertAndSend(eq(PostStreamService.CHANNEL), anyString());
+  }
+
+  @AfterEach
+  void tearDown() {
+    postStreamService.shutdown();
+  }
+
+  private static void await(RecordingEmitter emitter, String type, long count)
+    throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (
+      emitter.count(type) < count && System.currentTimeMillis() < deadline
+    ) {
+      Thread.sleep(5);
+    }
+  }
+
+  @Test
+  @DisplayName("이벤트는 같은 게시판의 구독자에게만 전달된다")
+  void publish_DeliversOnlyToSamePost() throws Exception {
+    UUID code = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    RecordingEmitter first = (RecordingEmitter) postStreamService.subscribe(code);
+    RecordingEmitter second = (RecordingEmitter) postStreamService.subscribe(code);
+    RecordingEmitter otherPost = (RecordingEmitter) postStreamService.subscribe(
+      other
+    );
+
+    postStreamService.publish(
+      code,
+      PostStreamService.QUESTION,
+      Map.of("content", "질문")
+    );
+
+    await(first, PostStreamService.QUESTION, 1);
+    await(second, PostStreamService.QUESTION, 1);
+    assertEquals(1, first.count(PostStreamService.QUESTION));
+    assertEquals(1, second.count(PostStreamService.QUESTION));
+    assertTrue(first.events.stream().anyMatch(e -> e.contains("\"content\":\"질문\"")));
+    assertEquals(0, otherPost.count(PostStreamService.QUESTION));
+    assertEquals(3, postStreamService.getConnections());
+  }
+
+  @Test
+  @DisplayName("전송 대기열이 넘친 느린 구독자는 연결을 끊고 다른 구독자는 계속 받는다")
+  void publish_WhenSubscriberIsSlow_ThenEvicted() throws Exception {
+    UUID code = UUID.randomUUID();
+    sendable = new CountDownLatch(1); // 다음 구독자의 전송을 막음
+    RecordingEmitter slow = (RecordingEmitter) postStreamService.subscribe(code);
+    sendable = new CountDownLatch(0);
+    RecordingEmitter fast = (RecordingEmitter) postStreamService.subscribe(code);
+
+    int events = QUEUE_CAPACITY + 2;
+    for (int i = 0; i < events; i++) {
+      postStreamService.publish(code, PostStreamService.QUESTION, Map.of("n", i));
+      await(fast, PostStreamService.QUESTION, i + 1); // 빠른 구독자는 바로 전송
+    }
+
+    assertEquals(events, fast.count(PostStreamService.QUESTION));
+    assertEquals(1.0, meterRegistry.counter("post.stream.evicted").count());
+    assertEquals(1, postStreamService.getConnections());
+    slow.sendable.countDown();
+    assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("삭제 이벤트를 전송한 뒤 연결을 종료한다")
+  void publish_WhenDeleted_ThenCompleted() throws Exception {
+    UUID code = UUID.randomUUID();
+    RecordingEmitter emitter = (RecordingEmitter) postStreamService.subscribe(code);
+
+    postStreamService.publish(code, PostStreamService.DELETED, Map.of("code", code));
+
+    assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+    assertEquals(1, emitter.count(PostStreamService.DELETED));
+    assertEquals(0, postStreamService.getConnections());
+  }
+
+  @Test
+  @DisplayName("연결 수가 max-connections에 도달하면 구독을 거절한다")
+  void subscribe_WhenMaxConnections_ThenRejected() {
+    for (int i = 0; i < MAX_CONNECTIONS; i++) {
+      assertNotNull(postStreamService.subscribe(UUID.randomUUID()));
+    }
+
+    assertNull(postStreamService.subscribe(UUID.randomUUID()));
+    assertEquals(1.0, meterRegistry.counter("post.stream.rejected").count());
+  }
+
+  @Test
+  @DisplayName("Redis에 발행하지 못하면 현재 노드의 구독자에게 직접 전달한다")
+  void publish_WhenRedisFails_ThenDeliveredLocally() throws Exception {
+    doThrow(new RedisConnectionFailureException("Redis 연결 실패"))
+      .when(redisTemplate)
+      .convertAndSend(eq(PostStreamService.CHANNEL), anyString());
+    UUID code = UUID.randomUUID();
+    RecordingEmitter emitter = (RecordingEmitter) postStreamService.subscribe(code);
+
+    postStreamService.publish(code, PostStreamService.UPDATED, Map.of("title", "제목"));
+
+    await(emitter, PostStreamService.UPDATED, 1);
+    assertEquals(1, emitter.count(PostStreamService.UPDATED));
+    assertEquals(1, emitter.completed.getCount()); // 연결은 유지
+  }
+}
@@ -0,0 +1,220 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.domain.Question;
+import com.hongsamstick.question.dto.PostDetailDto;
+import com.hongsamstick.question.exception.QuestionQueueFullException;
+import com.hongsamstick.question.repository.QuestionBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.access.AccessDeniedException;
+
+@ExtendWith(MockitoExtension.class)
+public class QuestionServiceTest {
+
+  private static final int QUEUE_CAPACITY = 600;
+  private static final int BATCH_SIZE = 200;
+
+  @Mock
+  private QuestionBatchRepository questionBatchRepository;
+
+  @Mock
+  private PostService postService;
+
+  @Mock
+  private HotRankingService hotRankingService;
+
+  @Mock
+  private PostStreamService postStreamService;
+
+  @Mock
+  private QuestionVoteService questionVoteService;
+
+  private QuestionService questionService;
+
+  private final UUID code = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    questionService =
+      new QuestionService(
+        questionBatchRepository,
+        postService,
+        hotRankingService,
+        postStreamService,
+        questionVoteService,
+        new SimpleMeterRegistry(),
+        QUEUE_CAPACITY,
+        BATCH_SIZE,
+        0,
+        2
+      );
+  }
+
+  private PostDetailDto post(int writePermission, LocalDateTime endDate) {
+    return new PostDetailDto(
+      1L,
+      code,
+      null,
+      "제목",
+      "내용",
+      0L,
+      0,
+      writePermission,
+      LocalDateTime.now().minusDays(1),
+      endDate,
+      null,
+      false
+    );
+  }
+
+  @Test
+  @DisplayName("동시에 등록한 질문 500개가 배치 INSERT 세 번으로 모두 저장된다")
+  @SuppressWarnings("unchecked")
+  void submit_WhenLectureSubmitsAtOnce_ThenSavedInBatches() throws Exception {
+    // 준비
+    when(postService.getPostByCode(code))
+      .thenReturn(post(1, LocalDateTime.now().plusHours(1)));
+    when(questionBatchRepository.insertQuestions(anyList()))
+      .thenAnswer(invocation -> invocation.getArgument(0));
+    int students = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger accepted = new AtomicInteger();
+    for (int i = 0; i < students; i++) {
+      int student = i;
+      executor.submit(() -> {
+        start.await();
+        questionService.submit(code, "질문 " + student, null);
+        accepted.incrementAndGet();
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // 실행
+    int saved = 0;
+    int batches = 0;
+    int written;
+    while ((written = questionService.writeNextBatch(0)) > 0) {
+      saved += written;
+      batches++;
+    }
+
+    // 검증
+    ArgumentCaptor<List<Question>> captor = ArgumentCaptor.forClass(List.class);
+    verify(questionBatchRepository, times(3)).insertQuestions(captor.capture());
+    List<Question> inserted = new ArrayList<>();
+    captor.getAllValues().forEach(inserted::addAll);
+    assertEquals(students, accepted.get());
+    assertEquals(students, saved);
+    assertEquals(3, batches);
+    assertEquals(students, inserted.stream().map(Question::getQuestionId).distinct().count());
+    verify(hotRankingService, times(students)).recordQuestion(1L);
+    verify(postStreamService, times(students))
+      .publish(eq(code), eq(PostStreamService.QUESTION), any()); // 구독자에게 새 질문 전달
+  }
+
+  @Test
+  @DisplayName("큐가 가득 차면 등록을 거절한다")
+  void submit_WhenQueueFull_ThenRejected() {
+    when(postService.getPostByCode(code)).thenReturn(post(1, null));
+    for (int i = 0; i < QUEUE_CAPACITY; i++) {
+      questionService.submit(code, "질문", null);
+    }
+
+    assertThrows(
+      QuestionQueueFullException.class,
+      () -> questionService.submit(code, "질문", null)
+    );
+  }
+
+  @Test
+  @DisplayName("회원만 질문할 수 있는 게시판에 익명으로 등록하면 거절한다")
+  void submit_WhenAnonymousOnMemberOnlyPost_ThenAccessDenied() {
+    when(postService.getPostByCode(code)).thenReturn(post(0, null));
+
+    assertThrows(
+      AccessDeniedException.class,
+      () -> questionService.submit(code, "질문", null)
+    );
+
+    Member member = new Member();
+    member.setEmail("test@test.com");
+    member.setName("test");
+    questionService.submit(code, "질문", member);
+  }
+
+  @Test
+  @DisplayName("마감된 게시판에는 등록할 수 없다")
+  void submit_WhenPostEnded_ThenRejected() {
+    when(postService.getPostByCode(code))
+      .thenReturn(post(1, LocalDateTime.now().minusMinutes(1)));
+
+    assertThrows(
+      IllegalStateException.class,
+      () -> questionService.submit(code, "질문", null)
+    );
+  }
+
+  @Test
+  @DisplayName("저장에 실패하면 다시 시도하고, 횟수를 넘기면 인기 점수에 반영하지 않는다")
+  void writeNextBatch_WhenInsertFails_ThenRetried() throws Exception {
+    when(postService.getPostByCode(code)).thenReturn(post(1, null));
+    questionService.submit(code, "질문", null);
+    doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+      .when(questionBatchRepository)
+      .insertQuestions(anyList());
+
+    questionService.writeNextBatch(0);
+
+    verify(questionBatchRepository, times(2)).insertQuestions(anyList());
+    verify(hotRankingService, never()).recordQuestion(anyLong());
+    verify(postStreamService, never()).publish(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("저장 전에 게시글이 삭제된 질문은 구독자에게 전달하지 않는다")
+  void writeNextBatch_WhenPostDeleted_ThenDiscarded() throws Exception {
+    when(postService.getPostByCode(code)).thenReturn(post(1, null));
+    questionService.submit(code, "질문", null);
+    when(questionBatchRepository.insertQuestions(anyList()))
+      .thenReturn(List.of()); // 게시글이 없어 저장하지 않음
+
+    questionService.writeNextBatch(0);
+
+    verify(questionBatchRepository).insertQuestions(anyList());
+    verify(hotRankingService, never()).recordQuestion(anyLong());
+    verify(postStreamService, never()).publish(any(), any(), any());
+  }
+}
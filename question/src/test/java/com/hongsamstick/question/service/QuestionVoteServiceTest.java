@@ -0,0 +1,341 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.domain.Member;
+import com.hongsamstick.question.dto.PostDetailDto;
+import com.hongsamstick.question.dto.QuestionDto;
+import com.hongsamstick.question.repository.QuestionBatchRepository;
+import com.hongsamstick.question.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.access.AccessDeniedException;
+
+@ExtendWith(MockitoExtension.class)
+public class QuestionVoteServiceTest {
+
+  @Mock
+  private QuestionRepository questionRepository;
+
+  @Mock
+  private QuestionBatchRepository questionBatchRepository;
+
+  @Mock
+  private PostService postService;
+
+  private static final int ANONYMOUS_PER_IP = 3;
+
+  private SimpleMeterRegistry meterRegistry;
+  private QuestionVoteService questionVoteService;
+
+  private final UUID code = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    questionVoteService =
+      new QuestionVoteService(
+        questionRepository,
+        questionBatchRepository,
+        postService,
+        meterRegistry,
+        2,
+        100_000,
+        24,
+        ANONYMOUS_PER_IP,
+        1_000,
+        1_000,
+        30
+      );
+  }
+
+  private PostDetailDto post(LocalDateTime endDate) {
+    return post(null, endDate);
+  }
+
+  private PostDetailDto post(Integer writePermission, LocalDateTime endDate) {
+    return new PostDetailDto(
+      1L,
+      code,
+      null,
+      "제목",
+      "내용",
+      0L,
+      0,
+      writePermission,
+      LocalDateTime.now().minusDays(1),
+      endDate,
+      null,
+      false
+    );
+  }
+
+  // 익명 방문자의 추천 (방문자마다 다른 IP)
+  private boolean vote(UUID questionId, String visitorId) {
+    return questionVoteService.upvote(
+      code,
+      questionId,
+      null,
+      visitorId,
+      "ip-" + visitorId
+    );
+  }
+
+  // 모든 질문이 게시글 1에 등록되어 있음
+  private void questionsBelongToPost() {
+    when(questionRepository.findPostIdByQuestionId(any()))
+      .thenReturn(Optional.of(1L));
+  }
+
+  @Test
+  @DisplayName("같은 질문에 동시에 몰린 추천이 중복 없이, 유실 없이 반영된다")
+  void upvote_WhenConcurrentBursts_ThenWritesExactCounts() throws Exception {
+    // 준비
+    when(postService.getPostByCode(code)).thenReturn(post(null));
+    questionsBelongToPost();
+    List<UUID> questions = List.of(
+      UUID.randomUUID(),
+      UUID.randomUUID(),
+      UUID.randomUUID()
+    );
+    Map<UUID, Long> written = new ConcurrentHashMap<>();
+    AtomicInteger writes = new AtomicInteger();
+    doAnswer(invocation -> {
+        // 다섯 번에 한 번은 실패시켜 되돌린 증가분이 다음 주기에 반영되는지 확인
+        if (writes.incrementAndGet() % 5 == 0) {
+          throw new DataAccessResourceFailureException("DB 연결 실패");
+        }
+        List<Map.Entry<UUID, Long>> batch = invocation.getArgument(0);
+        batch.forEach(entry ->
+          written.merge(entry.getKey(), entry.getValue(), Long::sum)
+        );
+        return null;
+      })
+      .when(questionBatchRepository)
+      .addUpvotes(anyList());
+
+    int threads = 16;
+    int visitors = 2_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean voting = new AtomicBoolean(true);
+    AtomicInteger accepted = new AtomicInteger();
+
+    // 추천하는 동안 계속 반영
+    Future<?> flusher = executor.submit(() -> {
+      start.await();
+      while (voting.get()) {
+        questionVoteService.flush();
+      }
+      return null;
+    });
+    // 방문자마다 모든 질문을 두 번씩 추천 (두 번째는 다른 스레드에서)
+    List<Future<?>> voters = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      voters.add(
+        executor.submit(() -> {
+          start.await();
+          for (int visitor = 0; visitor < visitors; visitor++) {
+            if (visitor % (threads / 2) != thread % (threads / 2)) {
+              continue;
+            }
+            for (UUID questionId : questions) {
+              if (vote(questionId, "visitor" + visitor)) {
+                accepted.incrementAndGet();
+              }
+            }
+          }
+          return null;
+        })
+      );
+    }
+
+    // 실행
+    start.countDown();
+    for (Future<?> future : voters) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+    voting.set(false);
+    flusher.get(30, TimeUnit.SECONDS);
+    executor.shutdown();
+    // 마지막 주기에 실패한 증가분과 제거 직전의 카운터에 늦게 더해진 증가분까지 반영
+    while (meterRegistry.get("question.vote.pending").gauge().value() > 0) {
+      questionVoteService.flush();
+    }
+
+    // 검증
+    assertEquals(visitors * questions.size(), accepted.get());
+    for (UUID questionId : questions) {
+      assertEquals((long) visitors, written.get(questionId));
+    }
+    assertEquals(
+      (double) visitors * questions.size(),
+      meterRegistry.counter("question.vote.duplicate").count()
+    );
+  }
+
+  @Test
+  @DisplayName("질문 목록은 반영 대기 중인 추천을 더해 추천 순으로 정렬된다")
+  void getTopQuestions_SortsByPendingVotes() {
+    when(postService.getPostByCode(code)).thenReturn(post(null));
+    questionsBelongToPost();
+    LocalDateTime now = LocalDateTime.now();
+    QuestionDto popular = new QuestionDto(UUID.randomUUID(), "a", null, now, 3);
+    QuestionDto rising = new QuestionDto(UUID.randomUUID(), "b", null, now, 2);
+    when(questionRepository.findAllByPostId(1L))
+      .thenReturn(List.of(popular, rising));
+    for (int i = 0; i < 2; i++) {
+      vote(rising.getQuestionId(), "visitor" + i);
+    }
+
+    List<QuestionDto> questions = questionVoteService.getTopQuestions(1L, 50);
+
+    assertEquals(rising.getQuestionId(), questions.get(0).getQuestionId());
+    assertEquals(4L, questions.get(0).getUpvotes());
+    assertEquals(3L, questions.get(1).getUpvotes());
+  }
+
+  @Test
+  @DisplayName("저장된 추천 수로는 상위에 들지 못한 질문도 추천을 받으면 목록에 나타난다")
+  void getTopQuestions_WhenOutsideStoredTop_ThenRisesWithLiveVotes() {
+    when(postService.getPostByCode(code)).thenReturn(post(null));
+    questionsBelongToPost();
+    LocalDateTime now = LocalDateTime.now();
+    List<QuestionDto> stored = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      stored.add(new QuestionDto(UUID.randomUUID(), "top" + i, null, now, 5));
+    }
+    QuestionDto rising = new QuestionDto(UUID.randomUUID(), "new", null, now, 0);
+    stored.add(rising);
+    when(questionRepository.findAllByPostId(1L)).thenReturn(stored);
+
+    // 순위를 만든 뒤 받은 추천과 새로 저장된 질문도 반영
+    assertEquals(3, questionVoteService.getTopQuestions(1L, 3).size());
+    for (int i = 0; i < 6; i++) {
+      vote(rising.getQuestionId(), "visitor" + i);
+    }
+    QuestionDto added = new QuestionDto(UUID.randomUUID(), "added", null, now, 0);
+    questionVoteService.addQuestion(1L, added);
+    List<QuestionDto> top = questionVoteService.getTopQuestions(1L, 3);
+    List<QuestionDto> all = questionVoteService.getTopQuestions(1L, 10);
+
+    assertEquals(rising.getQuestionId(), top.get(0).getQuestionId());
+    assertEquals(6L, top.get(0).getUpvotes());
+    assertEquals(3, top.size());
+    assertEquals(added.getQuestionId(), all.get(all.size() - 1).getQuestionId());
+    verify(questionRepository, times(1)).findAllByPostId(1L);
+  }
+
+  @Test
+  @DisplayName("같은 방문자는 한 번만 추천할 수 있고, 마감된 게시판에는 추천할 수 없다")
+  void upvote_WhenDuplicateOrClosed_ThenRejected() {
+    UUID questionId = UUID.randomUUID();
+    when(postService.getPostByCode(code))
+      .thenReturn(post(LocalDateTime.now().plusHours(1)))
+      .thenReturn(post(LocalDateTime.now().plusHours(1)))
+      .thenReturn(post(LocalDateTime.now().minusMinutes(1)));
+    questionsBelongToPost();
+
+    Member member = new Member();
+    member.setEmail("test@test.com");
+    assertTrue(questionVoteService.upvote(code, questionId, member, null, "10.0.0.1"));
+    assertFalse(questionVoteService.upvote(code, questionId, member, null, "10.0.0.1"));
+    assertThrows(
+      IllegalStateException.class,
+      () -> vote(questionId, "other")
+    );
+    assertEquals(1L, questionVoteService.getPendingVotes(questionId));
+  }
+
+  @Test
+  @DisplayName("다른 게시판의 질문이나 없는 질문에는 추천할 수 없고, 질문의 게시글은 한 번만 조회한다")
+  void upvote_WhenQuestionNotInPost_ThenNotFound() {
+    UUID own = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(postService.getPostByCode(code)).thenReturn(post(null));
+    when(questionRepository.findPostIdByQuestionId(own))
+      .thenReturn(Optional.of(1L));
+    when(questionRepository.findPostIdByQuestionId(other))
+      .thenReturn(Optional.of(2L));
+    when(questionRepository.findPostIdByQuestionId(missing))
+      .thenReturn(Optional.empty());
+
+    assertTrue(vote(own, "a"));
+    assertTrue(vote(own, "b"));
+    assertThrows(
+      EntityNotFoundException.class,
+      () -> vote(other, "a")
+    );
+    assertThrows(
+      EntityNotFoundException.class,
+      () -> vote(missing, "a")
+    );
+
+    assertEquals(2L, questionVoteService.getPendingVotes(own));
+    assertEquals(0L, questionVoteService.getPendingVotes(other));
+    assertEquals(0L, questionVoteService.getPendingVotes(missing));
+    verify(questionRepository, times(1)).findPostIdByQuestionId(own);
+  }
+
+  @Test
+  @DisplayName("쿠키를 바꾼 익명 추천은 같은 IP에서 한도까지만 받고, 회원만 질문할 수 있는 게시판은 회원만 추천한다")
+  void upvote_WhenAnonymousRotatesCookie_ThenLimitedPerIp() {
+    UUID questionId = UUID.randomUUID();
+    PostDetailDto memberOnly = post(0, null);
+    when(postService.getPostByCode(code))
+      .thenReturn(post(null))
+      .thenReturn(post(null))
+      .thenReturn(post(null))
+      .thenReturn(post(null))
+      .thenReturn(post(null))
+      .thenReturn(memberOnly);
+    questionsBelongToPost();
+
+    int accepted = 0;
+    for (int i = 0; i < ANONYMOUS_PER_IP + 2; i++) {
+      if (questionVoteService.upvote(code, questionId, null, "cookie" + i, "10.0.0.1")) {
+        accepted++;
+      }
+    }
+    assertThrows(
+      AccessDeniedException.class,
+      () -> questionVoteService.upvote(code, questionId, null, "new", "10.0.0.2")
+    );
+
+    assertEquals(ANONYMOUS_PER_IP, accepted);
+    assertEquals((long) ANONYMOUS_PER_IP, questionVoteService.getPendingVotes(questionId));
+    assertEquals(2.0, meterRegistry.counter("question.vote.ip.limited").count());
+  }
+}
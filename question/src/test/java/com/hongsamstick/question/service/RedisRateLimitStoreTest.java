@@ -0,0 +1,94 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.util.TokenBucket;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+public class RedisRateLimitStoreTest {
+
+  private final TokenBucket bucket = TokenBucket.of(2, 1, Duration.ofMinutes(1));
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  // 요청 수 제한 스크립트 실행 (스텁과 검증에 공용)
+  private static Long execute(StringRedisTemplate redisTemplate) {
+    return redisTemplate.execute(
+      ArgumentMatchers.<RedisScript<Long>>any(),
+      anyList(),
+      anyString(),
+      anyString()
+    );
+  }
+
+  @Test
+  @DisplayName("Redis 실패 후 재시도 간격 동안은 Redis를 호출하지 않고 노드 메모리 버킷으로 제한한다")
+  void tryAcquire_WhenRedisDown_ThenSkipsRedisUntilRetry() {
+    // 준비
+    RedisRateLimitStore store = new RedisRateLimitStore(
+      redisTemplate,
+      1_000,
+      10,
+      60
+    );
+    when(execute(redisTemplate))
+      .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+    // 실행 (capacity 2개까지 허용 후 거절)
+    long first = store.tryAcquire("visitor", bucket);
+    long second = store.tryAcquire("visitor", bucket);
+    long third = store.tryAcquire("visitor", bucket);
+
+    // 검증
+    assertEquals(0, first);
+    assertEquals(0, second);
+    assertTrue(third > 0);
+    execute(verify(redisTemplate, times(1)));
+  }
+
+  @Test
+  @DisplayName("재시도 시각이 지나면 Redis를 다시 확인하고, 성공하면 Redis 버킷으로 돌아간다")
+  void tryAcquire_WhenRetryElapsed_ThenProbesAndRecovers() {
+    // 준비 (재시도 간격 0초)
+    RedisRateLimitStore store = new RedisRateLimitStore(
+      redisTemplate,
+      1_000,
+      10,
+      0
+    );
+    when(execute(redisTemplate))
+      .thenThrow(new RedisConnectionFailureException("connection refused"))
+      .thenReturn(0L)
+      .thenReturn(1_000_000L); // Redis 버킷에서 1초 뒤 재시도
+
+    // 실행
+    long fallback = store.tryAcquire("visitor", bucket);
+    long recovered = store.tryAcquire("visitor", bucket);
+    long rejected = store.tryAcquire("visitor", bucket);
+    long blocked = store.tryAcquire("visitor", bucket);
+
+    // 검증 (거절된 키는 다시 시도할 수 있는 시각까지 Redis 요청 없이 거절)
+    assertEquals(0, fallback);
+    assertEquals(0, recovered);
+    assertTrue(rejected > 0);
+    assertTrue(blocked > 0);
+    execute(verify(redisTemplate, times(3)));
+  }
+}
@@ -0,0 +1,74 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hongsamstick.question.util.SpaceSaving;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TrendingPostServiceTest {
+
+  @Test
+  @DisplayName("여러 스레드에서 동시에 기록한 조회가 유실 없이 상위 목록에 반영된다")
+  void record_WhenConcurrentViews_ThenCountedInTopPosts() throws Exception {
+    // 준비
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    TrendingPostService trendingPostService = new TrendingPostService(
+      meterRegistry,
+      10,
+      10,
+      100,
+      2,
+      0
+    );
+    int threads = 8;
+    int viewsPerThread = 1_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        start.await();
+        for (int j = 0; j < viewsPerThread; j++) {
+          trendingPostService.record(1L);
+          if (j % 2 == 0) {
+            trendingPostService.record(2L);
+          }
+          trendingPostService.record(3L + j % 10); // 적게 조회된 게시글
+        }
+        return null;
+      });
+    }
+    // 기록하는 동안 주기적인 반영
+    executor.submit(() -> {
+      start.await();
+      for (int i = 0; i < 100; i++) {
+        trendingPostService.drain();
+      }
+      return null;
+    });
+
+    // 실행
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    List<SpaceSaving.Estimate<Long>> top = trendingPostService
+      .getTopPosts()
+      .getPosts();
+
+    // 검증
+    assertEquals(1L, top.get(0).getKey());
+    assertEquals((long) threads * viewsPerThread, top.get(0).getCount());
+    assertEquals(2L, top.get(1).getKey());
+    assertEquals((long) threads * viewsPerThread / 2, top.get(1).getCount());
+    assertEquals(
+      (double) threads * viewsPerThread * 5 / 2,
+      meterRegistry.get("post.trending.views").gauge().value()
+    );
+  }
+}
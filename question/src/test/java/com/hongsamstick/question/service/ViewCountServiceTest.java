@@ -0,0 +1,129 @@
+package com.hongsamstick.question.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hongsamstick.question.repository.PostViewCountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+public class ViewCountServiceTest {
+
+  @Mock
+  private PostViewCountRepository postViewCountRepository;
+
+  @Mock
+  private OpenPostIndex openPostIndex;
+
+  @Mock
+  private HotRankingService hotRankingService;
+
+  @Mock
+  private TaskScheduler taskScheduler;
+
+  private ViewCountService viewCountService;
+
+  @BeforeEach
+  void setUp() {
+    viewCountService =
+      new ViewCountService(
+        postViewCountRepository,
+        openPostIndex,
+        hotRankingService,
+        taskScheduler,
+        new SimpleMeterRegistry(),
+        5000,
+        2,
+        1000
+      );
+  }
+
+  @Test
+  @DisplayName("동시에 증가시킨 조회수가 유실 없이 한 번에 반영된다")
+  @SuppressWarnings("unchecked")
+  void flush_WhenConcurrentIncrements_ThenWritesExactDeltas()
+    throws Exception {
+    // 준비
+    int threads = 8;
+    int viewsPerThread = 100;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        start.await();
+        for (int j = 0; j < viewsPerThread; j++) {
+          viewCountService.increment(1L);
+          viewCountService.increment(2L);
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // 실행
+    viewCountService.flush();
+
+    // 검증
+    ArgumentCaptor<List<Map.Entry<Long, Long>>> captor = ArgumentCaptor.forClass(
+      List.class
+    );
+    verify(postViewCountRepository).addViewCounts(captor.capture());
+    Map<Long, Long> written = new HashMap<>();
+    captor
+      .getValue()
+      .forEach(entry -> written.put(entry.getKey(), entry.getValue()));
+    assertEquals(800L, written.get(1L));
+    assertEquals(800L, written.get(2L));
+    assertEquals(0L, viewCountService.getPendingViews(1L));
+    verify(openPostIndex).addViews(anyList());
+    verify(hotRankingService).recordViews(anyList());
+  }
+
+  @Test
+  @DisplayName("반영에 실패한 조회수는 다음 주기를 위해 보존된다")
+  void flush_WhenRepositoryFails_ThenKeepsDeltas() {
+    // 준비
+    viewCountService.increment(1L);
+    viewCountService.increment(1L);
+    doThrow(new DataAccessResourceFailureException("down"))
+      .when(postViewCountRepository)
+      .addViewCounts(anyList());
+
+    // 실행
+    viewCountService.flush();
+
+    // 검증
+    assertEquals(2L, viewCountService.getPendingViews(1L));
+  }
+
+  @Test
+  @DisplayName("유실 한도에 도달하기 전에는 조기 반영을 요청하지 않는다")
+  void increment_WhenBelowMaxPending_ThenNoEarlyFlush() {
+    viewCountService.increment(1L);
+
+    verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+  }
+}
@@ -0,0 +1,47 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTest {
+
+  @Test
+  @DisplayName("추가한 값은 항상 포함된 것으로 판단한다")
+  void mightContain_WhenPut_ThenTrue() {
+    BloomFilter filter = new BloomFilter(10000, 0.01);
+    List<UUID> codes = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      UUID code = TimeOrderedUuid.generate();
+      codes.add(code);
+      filter.put(code);
+    }
+
+    for (UUID code : codes) {
+      assertTrue(filter.mightContain(code));
+    }
+  }
+
+  @Test
+  @DisplayName("추가하지 않은 값의 오탐률이 설정값 근처로 유지된다")
+  void mightContain_WhenAbsent_ThenFalsePositiveRateNearTarget() {
+    BloomFilter filter = new BloomFilter(10000, 0.01);
+    for (int i = 0; i < 10000; i++) {
+      filter.put(UUID.randomUUID());
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (filter.mightContain(UUID.randomUUID())) {
+        falsePositives++;
+      }
+    }
+
+    assertTrue(falsePositives < 10000 * 0.02);
+    assertTrue(filter.estimatedFpp() < 0.02);
+  }
+}
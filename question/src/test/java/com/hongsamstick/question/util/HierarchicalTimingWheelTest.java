@@ -0,0 +1,85 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+  @Test
+  @DisplayName("마감 시각 이전에는 만료되지 않고 마감 시각에 만료된다")
+  void advanceTo_WhenDeadlineReached_ThenExpired() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(
+      1000,
+      0
+    );
+    wheel.schedule("a", 1500);
+    wheel.schedule("b", 3_600_000);
+
+    assertTrue(wheel.advanceTo(1999).isEmpty());
+    List<HierarchicalTimingWheel.Timeout<String>> expired = wheel.advanceTo(
+      2000
+    );
+    assertEquals(1, expired.size());
+    assertEquals("a", expired.get(0).getValue());
+
+    assertTrue(wheel.advanceTo(3_599_999).isEmpty());
+    assertEquals("b", wheel.advanceTo(3_600_000).get(0).getValue());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  @DisplayName("취소한 마감은 만료되지 않는다")
+  void cancel_WhenNotExpired_ThenNeverExpires() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(
+      1000,
+      0
+    );
+    HierarchicalTimingWheel.Timeout<String> timeout = wheel.schedule(
+      "a",
+      5000
+    );
+
+    assertTrue(timeout.cancel());
+    assertFalse(timeout.cancel());
+    assertTrue(wheel.advanceTo(10_000).isEmpty());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  @DisplayName("무작위 마감 시각도 일찍 만료되거나 중복 만료되지 않는다")
+  void advanceTo_WhenRandomDeadlines_ThenEachExpiresOnceOnTime() {
+    long tickMs = 100;
+    HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(
+      tickMs,
+      0
+    );
+    Random random = new Random(42);
+    Set<Integer> expired = new HashSet<>();
+    int count = 10000;
+    for (int i = 0; i < count; i++) {
+      wheel.schedule(i, random.nextInt(10_000_000));
+    }
+
+    for (long now = 0; now <= 10_000_000; now += tickMs * 37) {
+      for (HierarchicalTimingWheel.Timeout<Integer> timeout : wheel.advanceTo(
+        now
+      )) {
+        assertTrue(timeout.getDeadlineMs() <= now);
+        assertTrue(expired.add(timeout.getValue()));
+      }
+    }
+    expired.addAll(
+      wheel.advanceTo(10_000_100).stream().map(t -> t.getValue()).toList()
+    );
+    assertEquals(count, expired.size());
+    assertEquals(0, wheel.size());
+  }
+}
@@ -0,0 +1,70 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인기순 목록 지연 시간 측정 (./gradlew benchmark)
+ *  - 게시글 POSTS개의 순위에서 이벤트 반영과 첫 페이지 조회 시간을 측정합니다.
+ *  - 비교를 위해 요청마다 전체 점수를 정렬하는 경우(ORDER BY와 같은 방식)도 측정합니다.
+ */
+@Tag("benchmark")
+public class HotRankingBenchmarkTest {
+
+  private static final int POSTS = 1_000_000;
+  private static final int PAGE_SIZE = 6;
+  private static final int EVENTS = 200_000;
+  private static final int PAGE_REQUESTS = 10_000;
+  private static final int SORT_REQUESTS = 5;
+
+  @Test
+  @DisplayName("게시글 100만 개에서 인기순 목록 조회와 점수 갱신 지연 시간")
+  void hotRanking_Latency() {
+    Random random = new Random(42);
+    HotRanking ranking = new HotRanking();
+    double[] scores = new double[POSTS];
+    for (int i = 0; i < POSTS; i++) {
+      scores[i] = random.nextDouble() * 100;
+      ranking.put(i, scores[i]);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < EVENTS; i++) {
+      ranking.add(random.nextInt(POSTS), random.nextDouble() * 100);
+    }
+    double addMicros = (System.nanoTime() - start) / 1e3 / EVENTS;
+
+    start = System.nanoTime();
+    List<Long> page = null;
+    for (int i = 0; i < PAGE_REQUESTS; i++) {
+      page = ranking.top((i % 3) * PAGE_SIZE, PAGE_SIZE);
+    }
+    double topMicros = (System.nanoTime() - start) / 1e3 / PAGE_REQUESTS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < SORT_REQUESTS; i++) {
+      List<Integer> ids = new ArrayList<>(POSTS);
+      for (int id = 0; id < POSTS; id++) {
+        ids.add(id);
+      }
+      ids.sort(Comparator.comparingDouble((Integer id) -> scores[id]).reversed());
+    }
+    double sortMicros = (System.nanoTime() - start) / 1e3 / SORT_REQUESTS;
+
+    System.out.printf(
+      "인기순 (게시글 %d개) - 점수 갱신: %.2f us, 페이지 조회: %.2f us, 전체 정렬: %.0f us%n",
+      POSTS,
+      addMicros,
+      topMicros,
+      sortMicros
+    );
+    assertEquals(PAGE_SIZE, page.size());
+  }
+}
@@ -0,0 +1,58 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HotRankingTest {
+
+  @Test
+  @DisplayName("점수가 높은 순서로 조회하고 동점이면 최신 게시글이 먼저 온다")
+  void top_WhenScoresSet_ThenOrderedByScore() {
+    HotRanking ranking = new HotRanking();
+    ranking.put(1L, 1.0);
+    ranking.put(2L, 3.0);
+    ranking.put(3L, 2.0);
+    ranking.put(4L, 2.0);
+
+    assertEquals(List.of(2L, 4L, 3L, 1L), ranking.top(0, 10));
+    assertEquals(List.of(3L, 1L), ranking.top(2, 2));
+  }
+
+  @Test
+  @DisplayName("이벤트 점수는 로그 공간에서 더해져 순위가 바뀐다")
+  void add_WhenEventsRecorded_ThenScoreIsLogSum() {
+    HotRanking ranking = new HotRanking();
+    ranking.put(1L, Math.log(3));
+    ranking.put(2L, Math.log(2));
+
+    ranking.add(2L, Math.log(2));
+
+    assertEquals(Math.log(4), ranking.scoreOf(2L), 1e-12);
+    assertEquals(List.of(2L, 1L), ranking.top(0, 10));
+    assertEquals(2, ranking.size());
+  }
+
+  @Test
+  @DisplayName("반감기 차이가 큰 점수도 overflow 없이 더한다")
+  void logAddExp_WhenLargeExponents_ThenNoOverflow() {
+    assertEquals(5000 + Math.log(2), HotRanking.logAddExp(5000, 5000), 1e-9);
+    assertEquals(5000, HotRanking.logAddExp(5000, -5000), 1e-9);
+  }
+
+  @Test
+  @DisplayName("제거한 게시글은 순위에서 빠진다")
+  void remove_WhenRemoved_ThenNotRanked() {
+    HotRanking ranking = new HotRanking();
+    ranking.put(1L, 1.0);
+    ranking.put(2L, 2.0);
+
+    ranking.remove(2L);
+
+    assertNull(ranking.scoreOf(2L));
+    assertEquals(List.of(1L), ranking.top(0, 10));
+  }
+}
@@ -0,0 +1,97 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+
+  private static final int CLIENTS = 50;
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+  @Test
+  @DisplayName("동시에 들어온 같은 키의 조회는 loader를 한 번만 실행한다")
+  void execute_WhenConcurrentCalls_ThenLoaderRunsOnce() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+
+    List<Future<String>> results = burst(() ->
+      singleFlight.execute(
+        "code",
+        () -> {
+          loads.incrementAndGet();
+          sleep(200);
+          return "post";
+        }
+      )
+    );
+
+    for (Future<String> result : results) {
+      assertEquals("post", result.get());
+    }
+    assertEquals(1, loads.get());
+    assertEquals(0, singleFlight.inFlightCount());
+  }
+
+  @Test
+  @DisplayName("loader의 예외는 대기 중인 모든 요청에 전달된다")
+  void execute_WhenLoaderFails_ThenAllWaitersFail() throws Exception {
+    IllegalStateException failure = new IllegalStateException("db down");
+
+    List<Future<String>> results = burst(() ->
+      singleFlight.execute(
+        "code",
+        () -> {
+          sleep(200);
+          throw failure;
+        }
+      )
+    );
+
+    for (Future<String> result : results) {
+      ExecutionException e = assertThrows(
+        ExecutionException.class,
+        result::get
+      );
+      assertSame(failure, e.getCause());
+    }
+  }
+
+  private List<Future<String>> burst(Callable<String> call)
+    throws InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CLIENTS; i++) {
+      results.add(
+        executor.submit(() -> {
+          start.await();
+          return call.call();
+        })
+      );
+    }
+    start.countDown();
+    executor.shutdown();
+    return results;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
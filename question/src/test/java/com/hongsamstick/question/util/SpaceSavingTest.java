@@ -0,0 +1,53 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SpaceSavingTest {
+
+  @Test
+  @DisplayName("카운터 수보다 항목이 적으면 정확한 횟수를 센다")
+  void top_WhenUnderCapacity_ThenExactCounts() {
+    SpaceSaving<String> summary = new SpaceSaving<>(10);
+    summary.offer("a", 3);
+    summary.offer("b");
+    summary.offer("a");
+
+    List<SpaceSaving.Estimate<String>> top = summary.top(2);
+
+    assertEquals("a", top.get(0).getKey());
+    assertEquals(4, top.get(0).getCount());
+    assertEquals(0, top.get(0).getError());
+    assertEquals(1, top.get(1).getCount());
+    assertEquals(0, summary.minCount());
+  }
+
+  @Test
+  @DisplayName("추정값은 실제 횟수 이상이고 오차 한도 안에 있으며 상위 항목을 찾는다")
+  void estimates_WhenSkewedStream_ThenWithinErrorBound() {
+    SpaceSaving<Integer> summary = new SpaceSaving<>(100);
+    Map<Integer, Long> exact = new HashMap<>();
+    Random random = new Random(42);
+    for (int i = 0; i < 200_000; i++) {
+      int key = (int) Math.min(100_000, Math.pow(random.nextDouble(), -1.2));
+      summary.offer(key);
+      exact.merge(key, 1L, Long::sum);
+    }
+
+    for (SpaceSaving.Estimate<Integer> estimate : summary.estimates().values()) {
+      long actual = exact.get(estimate.getKey());
+      assertTrue(estimate.getCount() >= actual);
+      assertTrue(estimate.getCount() - estimate.getError() <= actual);
+      assertTrue(estimate.getError() <= summary.errorBound());
+    }
+    assertEquals(1, summary.top(1).get(0).getKey());
+    assertEquals(100, summary.size());
+  }
+}
@@ -0,0 +1,39 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedUuidTest {
+
+  @Test
+  @DisplayName("UUIDv7 형식과 생성 시각이 기록된다")
+  void generate_ThenVersion7WithTimestamp() {
+    long now = System.currentTimeMillis();
+    UUID uuid = TimeOrderedUuid.generate(now);
+
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    assertEquals(now, TimeOrderedUuid.timestampOf(uuid));
+  }
+
+  @Test
+  @DisplayName("나중에 생성된 코드가 바이트 순서상 뒤에 온다")
+  void generate_WhenLaterMillis_ThenSortsAfter() {
+    long now = System.currentTimeMillis();
+    UUID earlier = TimeOrderedUuid.generate(now);
+    UUID later = TimeOrderedUuid.generate(now + 1);
+
+    // BINARY(16) 비교와 같은 부호 없는 비교
+    assertTrue(
+      Long.compareUnsigned(
+        earlier.getMostSignificantBits(),
+        later.getMostSignificantBits()
+      ) <
+      0
+    );
+  }
+}
@@ -0,0 +1,130 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hongsamstick.question.dto.PostSuggestionDto;
+import com.hongsamstick.question.repository.PostRepository;
+import com.hongsamstick.question.service.PostSuggestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 제목 자동 완성 지연 시간과 메모리 측정 (./gradlew benchmark)
+ *  - PostSuggestService가 DB에서 읽는 것과 같은 PostSuggestionDto(code, 조회수, 마감 시각 포함) TITLES개로 트라이를 생성합니다.
+ *  - 제목은 무작위 한글/영문 단어로 만들고, 제목 앞부분 1~6글자로 조회합니다.
+ *  - 힙 증가는 생성 전후의 사용 중인 힙 차이로, 트라이와 항목(DTO와 제목 문자열)을 모두 포함합니다.
+ */
+@Tag("benchmark")
+public class TitleTrieBenchmarkTest {
+
+  private static final int TITLES = 1_000_000;
+  private static final int QUERIES = 200_000;
+  private static final int SAMPLES = 10_000;
+  private static final String[] WORDS = {
+    "스프링", "자바", "질문", "스터디", "모임", "면접", "알고리즘", "코딩테스트", "데이터베이스",
+    "네트워크", "운영체제", "리액트", "백엔드", "프론트엔드", "취업", "부트캠프", "세미나", "발표",
+    "java", "spring", "jpa", "redis", "mysql", "docker", "kotlin", "react", "aws", "q&a",
+  };
+
+  @Test
+  @DisplayName("제목 100만 개에서 접두사 자동 완성 p99 지연 시간과 메모리")
+  void titleTrie_Latency() {
+    Random random = new Random(42);
+    LocalDateTime now = LocalDateTime.now();
+    List<String> samples = new ArrayList<>(SAMPLES);
+
+    // 조회수 내림차순으로 스트리밍 (마감 시각은 절반만 지정)
+    PostRepository postRepository = mock(PostRepository.class);
+    when(postRepository.streamSuggestions(anyInt(), any()))
+      .thenAnswer(invocation ->
+        LongStream
+          .rangeClosed(1, TITLES)
+          .mapToObj(postId -> {
+            String title = title(random);
+            if (samples.size() < SAMPLES && postId % (TITLES / SAMPLES) == 0) {
+              samples.add(title);
+            }
+            return new PostSuggestionDto(
+              postId,
+              new UUID(random.nextLong(), random.nextLong()),
+              title,
+              TITLES - postId,
+              postId % 2 == 0 ? now.plusDays(1 + postId % 30) : null
+            );
+          })
+      );
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    PostSuggestService postSuggestService = new PostSuggestService(
+      postRepository,
+      mock(PlatformTransactionManager.class),
+      meterRegistry,
+      5
+    );
+
+    long usedBefore = usedMemory();
+    long start = System.nanoTime();
+    postSuggestService.rebuild();
+    double buildMillis = (System.nanoTime() - start) / 1e6;
+    long usedAfter = usedMemory();
+    assertEquals(
+      TITLES,
+      meterRegistry.get("post.suggest.titles").gauge().value()
+    );
+
+    long[] latencies = new long[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      String title = samples.get(random.nextInt(samples.size()));
+      String prefix = title.substring(0, Math.min(title.length(), 1 + random.nextInt(6)));
+      long queryStart = System.nanoTime();
+      postSuggestService.suggest(prefix);
+      latencies[i] = System.nanoTime() - queryStart;
+    }
+    Arrays.sort(latencies);
+    double p50 = latencies[QUERIES / 2] / 1e3;
+    double p99 = latencies[(int) (QUERIES * 0.99)] / 1e3;
+
+    System.out.printf(
+      "제목 자동 완성 (PostSuggestionDto %d개) - 생성: %.0f ms, 추정 메모리: %.0f MB, 힙 증가: %d MB, p50: %.2f us, p99: %.2f us%n",
+      TITLES,
+      buildMillis,
+      meterRegistry.get("post.suggest.memory").gauge().value() / 1024 / 1024,
+      (usedAfter - usedBefore) / 1024 / 1024,
+      p50,
+      p99
+    );
+    assertTrue(p99 < 2000, "p99 " + p99 + " us");
+  }
+
+  private static String title(Random random) {
+    StringBuilder title = new StringBuilder();
+    int words = 2 + random.nextInt(3);
+    for (int i = 0; i < words; i++) {
+      if (i > 0) {
+        title.append(' ');
+      }
+      title.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return title.append(' ').append(random.nextInt(1000)).toString();
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
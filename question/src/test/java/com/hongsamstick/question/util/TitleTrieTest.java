@@ -0,0 +1,101 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TitleTrieTest {
+
+  // 값은 조회수, 큰 순서
+  private static final Comparator<Long> BY_VIEWS = Comparator.reverseOrder();
+
+  @Test
+  @DisplayName("접두사로 시작하는 제목을 조회수 순으로 조회한다 (간선 중간에서 끝나는 접두사 포함)")
+  void suggest_WhenPrefixMatches_ThenOrderedByViews() {
+    TitleTrie<Long> trie = new TitleTrie<>(10, BY_VIEWS);
+    trie.add("Spring Boot 질문", 10L);
+    trie.add("Spring Security 질문", 30L);
+    trie.add("Spr 모임", 20L);
+    trie.add("자바 스터디", 40L);
+
+    assertEquals(List.of(30L, 20L, 10L), trie.suggest("spr", 10, v -> true));
+    assertEquals(List.of(30L, 10L), trie.suggest("spring", 10, v -> true));
+    assertEquals(List.of(10L), trie.suggest("SPRING  b", 10, v -> true));
+    assertEquals(List.of(30L), trie.suggest("spring s", 10, v -> true));
+    assertEquals(List.of(), trie.suggest("springs", 10, v -> true));
+    assertEquals(List.of(30L), trie.suggest("spr", 1, v -> true));
+    assertEquals(List.of(30L, 10L), trie.suggest("spr", 10, v -> v != 20L));
+  }
+
+  @Test
+  @DisplayName("입력 중인 한글(자음만 입력된 마지막 글자)도 일치한다")
+  void suggest_WhenHangulIsComposing_ThenMatches() {
+    TitleTrie<Long> trie = new TitleTrie<>(10, BY_VIEWS);
+    trie.add("스프링 질문방", 1L);
+    trie.add("스터디 모집", 2L);
+
+    assertEquals(List.of(1L), trie.suggest("스ㅍ", 10, v -> true));
+    assertEquals(List.of(2L, 1L), trie.suggest("ㅅ", 10, v -> true));
+    assertEquals(List.of(2L, 1L), trie.suggest("스", 10, v -> true));
+  }
+
+  @Test
+  @DisplayName("제거한 제목은 더 이상 조회되지 않는다")
+  void remove_WhenTitleRemoved_ThenNotSuggested() {
+    TitleTrie<Long> trie = new TitleTrie<>(10, BY_VIEWS);
+    trie.add("스프링 질문방", 1L);
+    trie.add("스프링 모임", 2L);
+
+    trie.remove("스프링 모임", 2L);
+
+    assertEquals(List.of(1L), trie.suggest("스프링", 10, v -> true));
+    assertEquals(List.of(), trie.suggest("스프링 모", 10, v -> true));
+    assertEquals(1, trie.size());
+  }
+
+  @Test
+  @DisplayName("무작위 제목에서도 모든 접두사의 상위 목록이 전체 정렬 결과와 같다")
+  void suggest_WhenRandomTitles_ThenSameAsFullScan() {
+    Random random = new Random(7);
+    String[] words = { "스프링", "스터디", "자바", "질문", "java", "jpa", "모임" };
+    TitleTrie<Long> trie = new TitleTrie<>(5, BY_VIEWS);
+    Map<Long, String> titles = new HashMap<>();
+    List<Long> views = new ArrayList<>();
+    for (long i = 0; i < 2000; i++) {
+      views.add(i);
+    }
+    Collections.shuffle(views, random);
+    for (Long view : views) {
+      String title =
+        words[random.nextInt(words.length)] +
+        " " +
+        words[random.nextInt(words.length)] +
+        random.nextInt(50);
+      titles.put(view, title);
+      trie.add(title, view);
+    }
+
+    for (int i = 0; i < 500; i++) {
+      String title = titles.get((long) random.nextInt(titles.size()));
+      String prefix = title.substring(0, 1 + random.nextInt(title.length()));
+      String key = TitleTrie.normalize(prefix);
+      List<Long> expected = titles
+        .entrySet()
+        .stream()
+        .filter(entry -> TitleTrie.normalize(entry.getValue()).startsWith(key))
+        .map(Map.Entry::getKey)
+        .sorted(BY_VIEWS)
+        .limit(5)
+        .toList();
+      assertEquals(expected, trie.suggest(prefix, 5, v -> true), prefix);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.hongsamstick.question.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  @DisplayName("capacity개까지 한 번에 허용하고 이후에는 보충 간격마다 하나씩 허용한다")
+  void tryAcquire_WhenBurst_ThenRefillsAtRate() {
+    TokenBucket bucket = TokenBucket.of(3, 1, Duration.ofSeconds(1));
+    long now = 0;
+    AtomicLong state = bucket.newState(now);
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals(0, bucket.tryAcquire(state, now));
+    }
+    assertEquals(SECOND, bucket.tryAcquire(state, now)); // 1초 후 보충
+    assertEquals(SECOND / 2, bucket.tryAcquire(state, now + SECOND / 2));
+    assertEquals(0, bucket.tryAcquire(state, now + SECOND));
+    assertTrue(bucket.tryAcquire(state, now + SECOND) > 0);
+  }
+
+  @Test
+  @DisplayName("오래 쉬어도 capacity개보다 많이 쌓이지 않는다")
+  void tryAcquire_WhenIdle_ThenCappedAtCapacity() {
+    TokenBucket bucket = TokenBucket.of(2, 1, Duration.ofSeconds(1));
+    AtomicLong state = bucket.newState(0);
+    long later = 100 * SECOND;
+
+    assertEquals(0, bucket.tryAcquire(state, later));
+    assertEquals(0, bucket.tryAcquire(state, later));
+    assertTrue(bucket.tryAcquire(state, later) > 0);
+  }
+
+  @Test
+  @DisplayName("동시에 요청해도 capacity개만 허용한다")
+  void tryAcquire_WhenConcurrent_ThenAllowsExactlyCapacity() throws Exception {
+    TokenBucket bucket = TokenBucket.of(100, 1, Duration.ofHours(1));
+    long now = System.nanoTime();
+    AtomicLong state = bucket.newState(now);
+    AtomicInteger allowed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int i = 0; i < 8; i++) {
+      executor.submit(() -> {
+        start.await();
+        for (int j = 0; j < 1_000; j++) {
+          if (bucket.tryAcquire(state, now) == 0) {
+            allowed.incrementAndGet();
+          }
+        }
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    assertEquals(100, allowed.get());
+  }
+}